@@ -70,12 +70,13 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
   /**
    * the default DateFormat used to parse any String date representation.
    */
-  private static final List<DateFormat> DEFAULT_DATE_FORMATS = list(newIsoDateTimeWithMsAndIsoTimeZoneFormat(),
-                                                                    newIsoDateTimeWithMsFormat(),
-                                                                    newTimestampDateFormat(),
-                                                                    newIsoDateTimeWithIsoTimeZoneFormat(),
-                                                                    newIsoDateTimeFormat(),
-                                                                    newIsoDateFormat());
+  private static final DefaultDateFormats DEFAULT_DATE_FORMATS = new DefaultDateFormats(
+      list(newIsoDateTimeWithMsAndIsoTimeZoneFormat(),
+           newIsoDateTimeWithMsFormat(),
+           newTimestampDateFormat(),
+           newIsoDateTimeWithIsoTimeZoneFormat(),
+           newIsoDateTimeFormat(),
+           newIsoDateFormat()));
 
   private static final String DATE_FORMAT_PATTERN_SHOULD_NOT_BE_NULL = "Given date format pattern should not be null";
   private static final String DATE_FORMAT_SHOULD_NOT_BE_NULL = "Given date format should not be null";
@@ -2797,9 +2798,7 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
    */
   public static void setLenientDateParsing(boolean value) {
     ConfigurationProvider.loadRegisteredConfiguration();
-    for (DateFormat defaultDateFormat : DEFAULT_DATE_FORMATS) {
-      defaultDateFormat.setLenient(value);
-    }
+    DEFAULT_DATE_FORMATS.setLenient(value);
   }
 
   /**
@@ -2981,22 +2980,16 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
     Date date = parseDateWith(dateAsString, userDateFormats.get());
     if (date != null) return date;
     // no matching user date format, let's try default format
-    date = parseDateWithDefaultDateFormats(dateAsString);
+    date = DEFAULT_DATE_FORMATS.parse(dateAsString);
     if (date != null) return date;
     // no matching date format, throw an error
     throw new AssertionError(String.format("Failed to parse %s with any of these date formats:%n   %s", dateAsString,
                                            info.representation().toStringOf(dateFormatsInOrderOfUsage())));
   }
 
-  private Date parseDateWithDefaultDateFormats(final String dateAsString) {
-    synchronized (DEFAULT_DATE_FORMATS) {
-      return parseDateWith(dateAsString, DEFAULT_DATE_FORMATS);
-    }
-  }
-
   private List<DateFormat> dateFormatsInOrderOfUsage() {
     List<DateFormat> allDateFormatsInOrderOfUsage = newArrayList(userDateFormats.get());
-    allDateFormatsInOrderOfUsage.addAll(DEFAULT_DATE_FORMATS);
+    allDateFormatsInOrderOfUsage.addAll(DEFAULT_DATE_FORMATS.asList());
     return allDateFormatsInOrderOfUsage;
   }
 
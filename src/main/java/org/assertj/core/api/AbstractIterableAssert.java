@@ -61,6 +61,7 @@ import org.assertj.core.internal.CommonErrors;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.ComparisonStrategy;
 import org.assertj.core.internal.ConfigurableRecursiveFieldByFieldComparator;
+import org.assertj.core.internal.ElementProcessing;
 import org.assertj.core.internal.ExtendedByTypesComparator;
 import org.assertj.core.internal.FieldByFieldComparator;
 import org.assertj.core.internal.IgnoringFieldsComparator;
@@ -3354,7 +3355,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   private SELF internalFilteredOn(Predicate<? super ELEMENT> predicate) {
     checkArgument(predicate != null, "The filter predicate should not be null");
-    List<? extends ELEMENT> filteredIterable = stream(actual.spliterator(), false).filter(predicate).collect(toList());
+    List<? extends ELEMENT> filteredIterable = ElementProcessing.filter(actual, predicate);
     return newAbstractIterableAssert(filteredIterable).withAssertionState(myself);
   }
 }
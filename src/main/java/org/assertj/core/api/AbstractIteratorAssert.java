@@ -13,14 +13,22 @@
 package org.assertj.core.api;
 
 import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.assertj.core.internal.Iterators;
+import org.assertj.core.presentation.PredicateDescription;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
  * <p>Base class for all implementations of assertions for {@link Iterator}s.</p>
- * <p>Note that none of the assertions modify the actual iterator, i.e. they do not consume any elements.
- * In order to use consuming assertions, use {@link #toIterable()}.</p>
+ * <p>Note that {@link #hasNext()} and {@link #isExhausted()} do not modify the actual iterator, i.e. they do not consume any elements.</p>
+ * <p><b>Contract change in version 3.18.0:</b> before this version, none of the assertions consumed the actual iterator elements.
+ * The element assertions added in 3.18.0 like {@link #contains(Object...)} or {@link #allMatch(Predicate)} do consume the elements
+ * they read: they read them in a single pass without keeping them in memory and stop as soon as the result is known, so that they
+ * can be used on very large or infinite iterators (for example {@code stream.iterator()}). The elements read can't be checked again,
+ * a following assertion only sees the remaining elements, use a single element assertion per iterator.
+ * In order to use any other consuming assertions, use {@link #toIterable()} which collects all the remaining elements.</p>
  *
  * @param <SELF> the "self" type of this assertion class.
  * @param <ELEMENT> the type of elements.
@@ -78,6 +86,202 @@ public abstract class AbstractIteratorAssert<SELF extends AbstractIteratorAssert
     return myself;
   }
 
+  /**
+   * Verifies that the actual {@code Iterator} contains the given values, in any order.
+   * <p>
+   * The elements are read and consumed until all the given values have been found, the remaining elements are not consumed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass without reading the whole (infinite) iterator
+   * assertThat(Stream.iterate(1, i -&gt; i + 1).iterator()).contains(3, 1);
+   *
+   * // assertion will fail as the values can't all be found
+   * assertThat(list(1, 2, 3).iterator()).contains(1, 4);</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the given argument is an empty array and the actual {@code Iterator} is not empty.
+   * @throws AssertionError if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError if the actual {@code Iterator} does not contain the given values.
+   * @since 3.18.0
+   */
+  public SELF contains(@SuppressWarnings("unchecked") ELEMENT... values) {
+    iterators.assertContains(info, actual, values);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code Iterator} does not contain the given values.
+   * <p>
+   * All the elements are read to check them, the iterator is exhausted afterwards.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list("a", "b", "c").iterator()).doesNotContain("d", "e");
+   *
+   * // assertion will fail
+   * assertThat(list("a", "b", "c").iterator()).doesNotContain("a");</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError if the actual {@code Iterator} contains any of the given values.
+   * @since 3.18.0
+   */
+  public SELF doesNotContain(@SuppressWarnings("unchecked") ELEMENT... values) {
+    iterators.assertDoesNotContain(info, actual, values);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code Iterator} starts with the given sequence of values, without any other values between them.
+   * <p>
+   * Only as many elements as the sequence size are read and consumed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.iterate(1, i -&gt; i + 1).iterator()).startsWith(1, 2, 3);
+   *
+   * // assertion will fail
+   * assertThat(list(1, 2, 3).iterator()).startsWith(2, 3);</code></pre>
+   *
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the given argument is an empty array and the actual {@code Iterator} is not empty.
+   * @throws AssertionError if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError if the actual {@code Iterator} does not start with the given sequence.
+   * @since 3.18.0
+   */
+  public SELF startsWith(@SuppressWarnings("unchecked") ELEMENT... sequence) {
+    iterators.assertStartsWith(info, actual, sequence);
+    return myself;
+  }
+
+  /**
+   * Verifies that at least one element of the actual {@code Iterator} matches the given {@link Predicate}.
+   * <p>
+   * The elements are read and consumed until one matches.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.iterate(1, i -&gt; i + 1).iterator()).anyMatch(i -&gt; i &gt; 100);
+   *
+   * // assertion will fail
+   * assertThat(list(1, 2, 3).iterator()).anyMatch(i -&gt; i &gt; 100);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError if no elements satisfy the given predicate.
+   * @since 3.18.0
+   */
+  public SELF anyMatch(Predicate<? super ELEMENT> predicate) {
+    iterators.assertAnyMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    return myself;
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code Iterator} match the given {@link Predicate}.
+   * <p>
+   * The elements are read and consumed until one does not match, the error only reports that element.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list("a", "b", "c").iterator()).allMatch(s -&gt; s.length() == 1);
+   *
+   * // assertion will fail without reading the whole (infinite) iterator
+   * assertThat(Stream.iterate(1, i -&gt; i + 1).iterator()).allMatch(i -&gt; i &lt; 100);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError if one element does not satisfy the given predicate.
+   * @since 3.18.0
+   */
+  public SELF allMatch(Predicate<? super ELEMENT> predicate) {
+    iterators.assertAllMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    return myself;
+  }
+
+  /**
+   * Verifies that no elements of the actual {@code Iterator} match the given {@link Predicate}.
+   * <p>
+   * The elements are read and consumed until one matches, the error only reports that element.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list(1, 2, 3).iterator()).noneMatch(i -&gt; i &gt; 100);
+   *
+   * // assertion will fail without reading the whole (infinite) iterator
+   * assertThat(Stream.iterate(1, i -&gt; i + 1).iterator()).noneMatch(i -&gt; i &gt; 100);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError if one element satisfies the given predicate.
+   * @since 3.18.0
+   */
+  public SELF noneMatch(Predicate<? super ELEMENT> predicate) {
+    iterators.assertNoneMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    return myself;
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code Iterator} satisfy the given requirements expressed as a {@link Consumer}.
+   * <p>
+   * The elements are read and consumed until one does not satisfy the requirements, the error only reports that element.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list("a", "b", "c").iterator()).allSatisfy(s -&gt; assertThat(s).hasSize(1));
+   *
+   * // assertion will fail without reading the whole (infinite) iterator
+   * assertThat(Stream.iterate(1, i -&gt; i + 1).iterator()).allSatisfy(i -&gt; assertThat(i).isLessThan(100));</code></pre>
+   *
+   * @param requirements the given {@link Consumer}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@link Consumer} is {@code null}.
+   * @throws AssertionError if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError if one element does not satisfy the given requirements.
+   * @since 3.18.0
+   */
+  public SELF allSatisfy(Consumer<? super ELEMENT> requirements) {
+    iterators.assertAllSatisfy(info, actual, requirements);
+    return myself;
+  }
+
+  /**
+   * Verifies that at least one element of the actual {@code Iterator} satisfies the given requirements expressed as a {@link Consumer}.
+   * <p>
+   * The elements are read and consumed until one satisfies the requirements. Since the elements are not kept, the error only
+   * reports the first elements not satisfying the requirements and how many others did not satisfy them either.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.iterate(1, i -&gt; i + 1).iterator()).anySatisfy(i -&gt; assertThat(i).isGreaterThan(100));
+   *
+   * // assertion will fail
+   * assertThat(list(1, 2, 3).iterator()).anySatisfy(i -&gt; assertThat(i).isGreaterThan(100));</code></pre>
+   *
+   * @param requirements the given {@link Consumer}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@link Consumer} is {@code null}.
+   * @throws AssertionError if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError if no elements satisfy the given requirements.
+   * @since 3.18.0
+   */
+  public SELF anySatisfy(Consumer<? super ELEMENT> requirements) {
+    iterators.assertAnySatisfy(info, actual, requirements);
+    return myself;
+  }
+
   /**
    * <p>Creates a new {@link IterableAssert} from this {@link IteratorAssert} which allows for
    * using any Iterable assertions like {@link IterableAssert#contains(Object[])}.</p>
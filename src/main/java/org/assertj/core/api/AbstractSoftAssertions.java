@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.LazyAssertionError;
 
 public abstract class AbstractSoftAssertions extends DefaultAssertionErrorCollector
     implements SoftAssertionsProvider, InstanceOfAssertFactories {
@@ -146,6 +147,12 @@ public abstract class AbstractSoftAssertions extends DefaultAssertionErrorCollec
   private <T extends Throwable> T addLineNumberToErrorMessage(T error) {
     StackTraceElement testStackTraceElement = getFirstStackTraceElementFromTest(error.getStackTrace());
     if (testStackTraceElement != null) {
+      if (error instanceof LazyAssertionError) {
+        // keep the message lazy, it is built when first requested
+        @SuppressWarnings("unchecked")
+        T errorWithLineNumber = (T) ((LazyAssertionError) error).withMessageSuffix(lineNumberMessageSuffix(testStackTraceElement));
+        return errorWithLineNumber;
+      }
       try {
         return createNewInstanceWithLineNumberInErrorMessage(error, testStackTraceElement);
       } catch (@SuppressWarnings("unused") SecurityException | ReflectiveOperationException ignored) {}
@@ -158,8 +165,7 @@ public abstract class AbstractSoftAssertions extends DefaultAssertionErrorCollec
     @SuppressWarnings("unchecked")
     Constructor<? extends T> constructor = (Constructor<? extends T>) error.getClass().getConstructor(String.class,
                                                                                                       Throwable.class);
-    T errorWithLineNumber = constructor.newInstance(buildErrorMessageWithLineNumber(error.getMessage(),
-                                                                                    testStackTraceElement),
+    T errorWithLineNumber = constructor.newInstance(error.getMessage() + lineNumberMessageSuffix(testStackTraceElement),
                                                     error.getCause());
     errorWithLineNumber.setStackTrace(error.getStackTrace());
     for (Throwable suppressed : error.getSuppressed()) {
@@ -168,11 +174,11 @@ public abstract class AbstractSoftAssertions extends DefaultAssertionErrorCollec
     return errorWithLineNumber;
   }
 
-  private String buildErrorMessageWithLineNumber(String originalErrorMessage, StackTraceElement testStackTraceElement) {
+  private String lineNumberMessageSuffix(StackTraceElement testStackTraceElement) {
     String testClassName = simpleClassNameOf(testStackTraceElement);
     String testName = testStackTraceElement.getMethodName();
     int lineNumber = testStackTraceElement.getLineNumber();
-    return format("%s%nat %s.%s(%s.java:%s)", originalErrorMessage, testClassName, testName, testClassName, lineNumber);
+    return format("%nat %s.%s(%s.java:%s)", testClassName, testName, testClassName, lineNumber);
   }
 
   private String simpleClassNameOf(StackTraceElement testStackTraceElement) {
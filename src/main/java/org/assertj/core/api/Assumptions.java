@@ -76,9 +76,6 @@ import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguratio
 import org.assertj.core.util.CheckReturnValue;
 
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.TypeCache;
-import net.bytebuddy.TypeCache.SimpleKey;
-import net.bytebuddy.TypeCache.Sort;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodDelegation;
@@ -103,7 +100,7 @@ public class Assumptions {
 
   private static final Implementation ASSUMPTION = MethodDelegation.to(AssumptionMethodInterceptor.class);
 
-  private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
+  private static final ProxyClassCache CACHE = new ProxyClassCache();
 
   private static final class AssumptionMethodInterceptor {
 
@@ -1275,12 +1272,8 @@ public class Assumptions {
     }
   }
 
-  @SuppressWarnings("unchecked")
   private static <ASSERTION> Class<? extends ASSERTION> createAssumptionClass(Class<ASSERTION> assertClass) {
-    SimpleKey cacheKey = new SimpleKey(assertClass);
-    return (Class<ASSERTION>) CACHE.findOrInsert(assertClass.getClassLoader(),
-                                                 cacheKey,
-                                                 () -> generateAssumptionClass(assertClass));
+    return CACHE.findOrCreate(assertClass, Assumptions::generateAssumptionClass);
   }
 
   protected static <ASSERTION> Class<? extends ASSERTION> generateAssumptionClass(Class<ASSERTION> assertionType) {
@@ -12,19 +12,21 @@
  */
 package org.assertj.core.api;
 
-import static java.util.Collections.synchronizedList;
 import static java.util.Collections.unmodifiableList;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
 
   // Marking this field as volatile doesn't ensure complete thread safety
   // (mutual exclusion, race-free behaviour), but guarantees eventual visibility
   private volatile boolean wasSuccess = true;
-  private List<AssertionError> collectedAssertionErrors = synchronizedList(new ArrayList<>());
+  // lock-free so that assertions failing concurrently don't contend on a lock, errors are kept in collection order
+  private final Queue<AssertionError> collectedAssertionErrors = new ConcurrentLinkedQueue<>();
 
   private AfterAssertionErrorCollected callback = this;
 
@@ -63,11 +65,11 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
    * has been set (see {@link #setDelegate(AssertionErrorCollector) setDelegate()},
    * then this method will return the result of the delegate's {@code assertErrorsCollected()}.
    *
-   * @return A list of soft assertions collected errors.
+   * @return A list of soft assertions collected errors, in the order they were collected.
    */
   @Override
   public List<AssertionError> assertionErrorsCollected() {
-    return delegate != null ? delegate.assertionErrorsCollected() : unmodifiableList(collectedAssertionErrors);
+    return delegate != null ? delegate.assertionErrorsCollected() : unmodifiableList(new ArrayList<>(collectedAssertionErrors));
   }
 
   /**
@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * The default date formats used to parse the String parameters of Date assertions, they can be used concurrently.
+ * <p>
+ * Strings having the exact shape of one of the default formats are parsed with {@code java.time}, without locking nor
+ * trying the formats one after the other. Any other string (and any string in lenient mode) is parsed with a thread
+ * local copy of the default formats, so the results are always the ones of the default {@link SimpleDateFormat}s.
+ */
+final class DefaultDateFormats {
+
+  // dates before the switch to the gregorian calendar (in 1582) are parsed with the julian calendar by SimpleDateFormat
+  private static final int FIRST_GREGORIAN_YEAR = 1583;
+
+  private final List<DateFormat> dateFormats;
+  private final ThreadLocal<List<DateFormat>> threadDateFormats;
+  // the time zone and calendar are the ones of the date formats, that is the default ones when they were created
+  private final TimeZone timeZone;
+  private final ZoneId zone;
+  private final boolean gregorianCalendar;
+  private volatile boolean lenient;
+
+  DefaultDateFormats(List<DateFormat> dateFormats) {
+    this.dateFormats = unmodifiableList(dateFormats);
+    threadDateFormats = ThreadLocal.withInitial(() -> dateFormats.stream()
+                                                                 .map(dateFormat -> (DateFormat) dateFormat.clone())
+                                                                 .collect(toList()));
+    DateFormat dateFormat = dateFormats.get(0);
+    timeZone = dateFormat.getTimeZone();
+    zone = timeZone.toZoneId();
+    gregorianCalendar = dateFormat.getCalendar().getClass() == GregorianCalendar.class;
+  }
+
+  List<DateFormat> asList() {
+    return dateFormats;
+  }
+
+  void setLenient(boolean lenient) {
+    this.lenient = lenient;
+  }
+
+  /**
+   * Parses the given String with the first default date format able to parse it.
+   *
+   * @param dateAsString the String to parse
+   * @return the parsed Date or {@code null} if none of the default date formats could parse it
+   */
+  Date parse(String dateAsString) {
+    boolean lenientParsing = lenient;
+    if (!lenientParsing && gregorianCalendar) {
+      Date date = parseIsoShape(dateAsString);
+      if (date != null) return date;
+    }
+    for (DateFormat dateFormat : threadDateFormats.get()) {
+      dateFormat.setLenient(lenientParsing);
+      try {
+        return dateFormat.parse(dateAsString);
+      } catch (@SuppressWarnings("unused") ParseException e) {
+        // ignore and try next date format
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Parses the strings exactly matching one of these shapes (the default date formats in order of usage):
+   * <ul>
+   * <li><code>yyyy-MM-ddTHH:mm:ss.SSS</code> followed by <code>Z</code>, <code>+HH</code>, <code>+HH00</code> or
+   * <code>+HH:00</code></li>
+   * <li><code>yyyy-MM-ddTHH:mm:ss.SSS</code></li>
+   * <li><code>yyyy-MM-dd HH:mm:ss.SSS</code></li>
+   * <li><code>yyyy-MM-ddTHH:mm:ss</code> followed by one of the offsets above</li>
+   * <li><code>yyyy-MM-ddTHH:mm:ss</code></li>
+   * <li><code>yyyy-MM-dd</code></li>
+   * </ul>
+   * Invalid dates, local date times that don't map to a single instant of the time zone and any other string are left
+   * to the date formats.
+   *
+   * @return the parsed Date or {@code null} if the string can't be parsed this way
+   */
+  private Date parseIsoShape(String s) {
+    int length = s.length();
+    if (length < 10 || !isDigits(s, 0, 4) || s.charAt(4) != '-' || !isDigits(s, 5, 7) || s.charAt(7) != '-'
+        || !isDigits(s, 8, 10)) {
+      return null;
+    }
+    int year = number(s, 0, 4);
+    if (year < FIRST_GREGORIAN_YEAR) return null;
+    try {
+      LocalDate date = LocalDate.of(year, number(s, 5, 7), number(s, 8, 10));
+      if (length == 10) return toDate(date.atStartOfDay());
+      char dateTimeSeparator = s.charAt(10);
+      if ((dateTimeSeparator != 'T' && dateTimeSeparator != ' ') || length < 19 || !isDigits(s, 11, 13)
+          || s.charAt(13) != ':' || !isDigits(s, 14, 16) || s.charAt(16) != ':' || !isDigits(s, 17, 19)) {
+        return null;
+      }
+      int offsetStart = 19;
+      int nanos = 0;
+      if (length >= 23 && s.charAt(19) == '.' && isDigits(s, 20, 23)) {
+        nanos = number(s, 20, 23) * 1_000_000;
+        offsetStart = 23;
+      }
+      // the timestamp format has milliseconds and no offset
+      if (dateTimeSeparator == ' ' && (offsetStart != 23 || length != 23)) return null;
+      LocalDateTime dateTime = date.atTime(LocalTime.of(number(s, 11, 13), number(s, 14, 16), number(s, 17, 19), nanos));
+      if (length == offsetStart) return toDate(dateTime);
+      ZoneOffset offset = offset(s, offsetStart);
+      return offset == null ? null : Date.from(dateTime.toInstant(offset));
+    } catch (@SuppressWarnings("unused") DateTimeException e) {
+      return null;
+    }
+  }
+
+  // the X pattern letter only parses the offset hours, offsets with minutes are left to the date formats
+  private static ZoneOffset offset(String s, int start) {
+    int length = s.length() - start;
+    if (length == 1 && s.charAt(start) == 'Z') return ZoneOffset.UTC;
+    char sign = s.charAt(start);
+    if ((sign != '+' && sign != '-') || length < 3 || !isDigits(s, start + 1, start + 3)) return null;
+    String minutes = s.substring(start + 3);
+    if (!minutes.isEmpty() && !minutes.equals("00") && !minutes.equals(":00")) return null;
+    int hours = number(s, start + 1, start + 3);
+    return ZoneOffset.ofHours(sign == '+' ? hours : -hours);
+  }
+
+  private Date toDate(LocalDateTime localDateTime) {
+    List<ZoneOffset> validOffsets = zone.getRules().getValidOffsets(localDateTime);
+    // local date time in a gap or an overlap
+    if (validOffsets.size() != 1) return null;
+    ZoneOffset offset = validOffsets.get(0);
+    Date date = Date.from(localDateTime.toInstant(offset));
+    // old offsets (like local mean times) can differ between the java.time and TimeZone data
+    if (timeZone.getOffset(date.getTime()) != offset.getTotalSeconds() * 1000) return null;
+    return date;
+  }
+
+  private static boolean isDigits(String s, int start, int end) {
+    for (int i = start; i < end; i++) {
+      char c = s.charAt(i);
+      if (c < '0' || c > '9') return false;
+    }
+    return true;
+  }
+
+  private static int number(String s, int start, int end) {
+    int number = 0;
+    for (int i = start; i < end; i++) {
+      number = number * 10 + s.charAt(i) - '0';
+    }
+    return number;
+  }
+}
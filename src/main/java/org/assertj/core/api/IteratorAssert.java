@@ -30,4 +30,37 @@ public class IteratorAssert<ELEMENT> extends AbstractIteratorAssert<IteratorAsse
     super(actual, IteratorAssert.class);
   }
 
+  @Override
+  @SafeVarargs
+  public final IteratorAssert<ELEMENT> contains(ELEMENT... values) {
+    return containsForProxy(values);
+  }
+
+  // non-final so that soft assertions and assumptions proxies can intercept it, final methods can't be
+  protected IteratorAssert<ELEMENT> containsForProxy(ELEMENT[] values) {
+    return super.contains(values);
+  }
+
+  @Override
+  @SafeVarargs
+  public final IteratorAssert<ELEMENT> doesNotContain(ELEMENT... values) {
+    return doesNotContainForProxy(values);
+  }
+
+  // non-final so that soft assertions and assumptions proxies can intercept it, final methods can't be
+  protected IteratorAssert<ELEMENT> doesNotContainForProxy(ELEMENT[] values) {
+    return super.doesNotContain(values);
+  }
+
+  @Override
+  @SafeVarargs
+  public final IteratorAssert<ELEMENT> startsWith(ELEMENT... sequence) {
+    return startsWithForProxy(sequence);
+  }
+
+  // non-final so that soft assertions and assumptions proxies can intercept it, final methods can't be
+  protected IteratorAssert<ELEMENT> startsWithForProxy(ELEMENT[] sequence) {
+    return super.startsWith(sequence);
+  }
+
 }
@@ -430,7 +430,8 @@ public class Java6Assertions {
    * <b>Breaking change in version 3.12.0:</b> this method does not return anymore an {@link IterableAssert} but an {@link IteratorAssert}.<br>
    * In order to access assertions from {@link IterableAssert}, use {@link IteratorAssert#toIterable()}.
    * <p>
-   * {@link IteratorAssert} instances have limited assertions because it does not consume iterator's elements.
+   * {@link IteratorAssert} instances have limited assertions, the ones checking the iterator's elements read them in a single pass
+   * without keeping them in memory.
    * <p>
    * Examples:
    * <pre><code class='java'> Iterator&lt;String&gt; bestBasketBallPlayers = getBestBasketBallPlayers();
@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.ClassLoadingStrategyFactory.ASSERTJ_CLASS_LOADER;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.TypeCache.SimpleKey;
+import net.bytebuddy.TypeCache.Sort;
+
+/**
+ * Cache of the classes generated by ByteBuddy for soft assertions and assumptions.
+ * <p>
+ * Proxies of AssertJ own assert classes are generated at most once per JVM: they are kept strongly since they can't
+ * outlive AssertJ anyway, whereas softly referenced classes get regenerated (which is costly) each time the garbage
+ * collector reclaims them. A thread needing a class being generated by another thread waits for it instead of generating
+ * it again.<br>
+ * Proxies of user defined assert classes are softly referenced so that they don't prevent their class loader from
+ * being unloaded.
+ */
+final class ProxyClassCache {
+
+  private final Map<Class<?>, FutureTask<Class<?>>> assertJProxyClasses = new ConcurrentHashMap<>();
+  private final TypeCache<SimpleKey> userProxyClasses = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
+
+  /**
+   * Generates the proxy class of an assert class.
+   */
+  interface ProxyClassGenerator {
+    <T> Class<? extends T> generate(Class<T> assertClass);
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> Class<? extends T> findOrCreate(Class<T> assertClass, ProxyClassGenerator proxyClassGenerator) {
+    ClassLoader classLoader = assertClass.getClassLoader();
+    if (classLoader == ASSERTJ_CLASS_LOADER) return (Class<? extends T>) findOrCreateAssertJProxyClass(assertClass,
+                                                                                                       proxyClassGenerator);
+    return (Class<? extends T>) userProxyClasses.findOrInsert(classLoader, new SimpleKey(assertClass),
+                                                              () -> proxyClassGenerator.generate(assertClass));
+  }
+
+  private Class<?> findOrCreateAssertJProxyClass(Class<?> assertClass, ProxyClassGenerator proxyClassGenerator) {
+    FutureTask<Class<?>> generation = assertJProxyClasses.get(assertClass);
+    if (generation == null) {
+      FutureTask<Class<?>> newGeneration = new FutureTask<>(() -> proxyClassGenerator.generate(assertClass));
+      generation = assertJProxyClasses.putIfAbsent(assertClass, newGeneration);
+      if (generation == null) generation = newGeneration;
+    }
+    // generates the class outside the map locks, unless another thread is already generating it, then wait for it
+    generation.run();
+    return waitFor(assertClass, generation);
+  }
+
+  private Class<?> waitFor(Class<?> assertClass, FutureTask<Class<?>> generation) {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          return generation.get();
+        } catch (InterruptedException e) {
+          // the generation is not going to stop, finish waiting and let the caller know it was interrupted
+          interrupted = true;
+        } catch (ExecutionException e) {
+          // don't keep the failure, a later call will try again
+          assertJProxyClasses.remove(assertClass, generation);
+          Throwable cause = e.getCause();
+          if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+          if (cause instanceof Error) throw (Error) cause;
+          throw new IllegalStateException(cause);
+        }
+      }
+    } finally {
+      if (interrupted) Thread.currentThread().interrupt();
+    }
+  }
+}
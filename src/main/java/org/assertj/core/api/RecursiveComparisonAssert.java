@@ -210,8 +210,10 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
                                                                                                               recursiveComparisonConfiguration,
                                                                                                               info.representation()));
     if (other != null && actual != null) {
-      List<ComparisonDifference> differences = determineDifferencesWith(other);
-      if (differences.isEmpty())
+      // only knowing whether there are differences matters, not what they are
+      boolean hasDifferences = recursiveComparisonDifferenceCalculator.hasDifferences(actual, other,
+                                                                                      recursiveComparisonConfiguration);
+      if (!hasDifferences)
         throw objects.getFailures().failure(info,
                                             shouldNotBeEqualComparingFieldByFieldRecursively(actual, other,
                                                                                              recursiveComparisonConfiguration,
@@ -993,6 +995,39 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Compares the object graphs with the given number of threads, this speeds up the comparison of large object graphs.
+   * <p>
+   * The top of the graphs is compared in the calling thread until there are enough independent subgraphs to keep the threads
+   * busy, these subgraphs are then compared in parallel. The subgraphs are determined the same way from one comparison to
+   * another so that the reported differences do not change between runs. The threads are daemon threads shared by all the
+   * comparisons using the same parallelism.
+   * <p>
+   * Things to be aware of:
+   * <ul>
+   * <li>registered comparators and compared objects {@code equals} methods are called concurrently, they must be thread safe</li>
+   * <li>cycles are detected per subgraph, a value referenced by several subgraphs is compared (and its differences reported)
+   * once per subgraph instead of once</li>
+   * <li>comparing small object graphs in parallel is slower as handing subgraphs over to other threads costs more than what is saved</li>
+   * </ul>
+   * <p>
+   * Example:
+   * <pre><code class='java'> // compares the cities with 4 threads
+   * assertThat(actualCities).usingRecursiveComparison()
+   *                         .withParallelism(4)
+   *                         .isEqualTo(expectedCities);</code></pre>
+   *
+   * @param parallelism the number of threads used to compare the object graphs, 1 means no parallelism.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   * @since 3.18.0
+   */
+  @CheckReturnValue
+  public SELF withParallelism(int parallelism) {
+    recursiveComparisonConfiguration.setParallelism(parallelism);
+    return myself;
+  }
+
   /**
    * Allows to register a {@link BiPredicate} to compare fields with the given locations.
    * A typical usage is for comparing double/float fields with a given precision.
@@ -25,9 +25,6 @@ import org.assertj.core.api.ClassLoadingStrategyFactory.ClassLoadingStrategyPair
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.TypeCache;
-import net.bytebuddy.TypeCache.SimpleKey;
-import net.bytebuddy.TypeCache.Sort;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
@@ -93,7 +90,7 @@ class SoftProxies {
   private static final Implementation PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST = MethodDelegation.to(ProxifyMethodChangingTheObjectUnderTest.class);
   private static final Implementation ERROR_COLLECTOR = MethodDelegation.to(ErrorCollector.class);
 
-  private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
+  private static final ProxyClassCache CACHE = new ProxyClassCache();
 
   private ErrorCollector collector;
 
@@ -116,11 +113,8 @@ class SoftProxies {
     }
   }
 
-  @SuppressWarnings("unchecked")
-  private static <ASSERT extends Assert<?, ?>> Class<ASSERT> createSoftAssertionProxyClass(Class<ASSERT> assertClass) {
-    SimpleKey cacheKey = new SimpleKey(assertClass);
-    return (Class<ASSERT>) CACHE.findOrInsert(assertClass.getClassLoader(), cacheKey,
-                                              () -> generateProxyClass(assertClass));
+  private static <ASSERT extends Assert<?, ?>> Class<? extends ASSERT> createSoftAssertionProxyClass(Class<ASSERT> assertClass) {
+    return CACHE.findOrCreate(assertClass, SoftProxies::generateProxyClass);
   }
 
   IterableSizeAssert<?> createIterableSizeAssertProxy(IterableSizeAssert<?> iterableSizeAssert) {
@@ -79,6 +79,7 @@ import org.assertj.core.condition.AllOf;
 import org.assertj.core.condition.AnyOf;
 import org.assertj.core.condition.DoesNotHave;
 import org.assertj.core.condition.Not;
+import org.assertj.core.configuration.StackTraceCapture;
 import org.assertj.core.data.Index;
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.data.Offset;
@@ -775,7 +776,8 @@ public interface WithAssertions extends InstanceOfAssertFactories {
    * <b>Breaking change in version 3.12.0:</b> this method does not return anymore an {@link IterableAssert} but an {@link IteratorAssert}.<br>
    * In order to access assertions from {@link IterableAssert}, use {@link IteratorAssert#toIterable()}.
    * <p>
-   * {@link IteratorAssert} instances have limited assertions because it does not consume iterator's elements.
+   * {@link IteratorAssert} instances have limited assertions, the ones checking the iterator's elements read them in a single pass
+   * without keeping them in memory.
    * <p>
    * Examples:
    * <pre><code class='java'> Iterator&lt;String&gt; bestBasketBallPlayers = getBestBasketBallPlayers();
@@ -2014,6 +2016,29 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of characters used to represent the elements of an iterable, array or map in error messages
+   * (default is {@value org.assertj.core.configuration.Configuration#MAX_CHARACTERS_FOR_PRINTING}).
+   * <p>
+   * Elements are only represented while their representations fit in this budget, the following ones are not represented
+   * at all and replaced by a marker telling exactly how many elements are missing. This keeps the error messages about
+   * big groups of big elements (and the time spent building them) reasonable.
+   * <p>
+   * Nested groups share the budget of the group containing them, so a group of groups is represented with about this
+   * number of characters in total whatever its nesting.
+   * <p>
+   * Example with a value of {@code 20}:
+   * <pre><code class='java'> String[] greatBooks = array("A Game of Thrones", "The Lord of the Rings", "Assassin's Apprentice");
+   * // formatted as:
+   * ["A Game of Thrones", ...(2 more elements)]</code></pre>
+   *
+   * @param maxCharactersForPrinting the maximum number of characters used to represent the elements of iterables, arrays and maps.
+   * @since 3.18.0
+   */
+  static void setMaxCharactersForPrinting(int maxCharactersForPrinting) {
+    Assertions.setMaxCharactersForPrinting(maxCharactersForPrinting);
+  }
+
   /**
    * Enable/disable printing assertions description to the console (disabled by default).
    * <p>
@@ -2028,6 +2053,122 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     Assertions.setPrintAssertionsDescription(printAssertionsDescription);
   }
 
+  /**
+   * Enable/disable caching the digests computed by {@code hasDigest} file and path assertions (disabled by default).
+   * <p>
+   * When enabled, the digest of a file is computed once and reused as long as the file path, size and last modified
+   * time are the same, checking the digest of large unchanged files several times in a test suite becomes cheap.
+   * Only the digests of the 256 most recently checked files are kept.
+   * <p>
+   * Files modified without changing their size and last modified time (or within the file system time resolution) are
+   * not detected, disable caching if your tests rewrite the files they check the digest of.
+   * <p>
+   * Disabling the cache clears it.
+   *
+   * @param digestCaching whether to cache the digests of files.
+   * @since 3.18.0
+   */
+  static void setDigestCaching(boolean digestCaching) {
+    Assertions.setDigestCaching(digestCaching);
+  }
+
+  /**
+   * Enable/disable running the extraction and filtering of iterable and array elements in parallel (disabled by default).
+   * <p>
+   * When enabled, {@code extracting}, {@code flatExtracting}, {@code filteredOn} (except {@code filteredOnAssertions}) and
+   * {@link org.assertj.core.api.filter.Filters Filters} process large groups of elements on the common
+   * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}, the resulting elements keep their original order.
+   * Small groups are still processed in the calling thread as splitting the work would only slow them down.
+   * <p>
+   * Only enable it if the extractors, predicates and conditions used are thread safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setParallelExtractionAndFiltering(true);
+   *
+   * // millionsOfOrders are filtered and extracted in parallel
+   * assertThat(millionsOfOrders).filteredOn(order -&gt; order.getAmount() &gt; 1000)
+   *                             .extracting("customer.name")
+   *                             .doesNotContain("Sauron");</code></pre>
+   *
+   * @param parallelExtractionAndFiltering whether to extract and filter elements in parallel.
+   * @since 3.18.0
+   */
+  static void setParallelExtractionAndFiltering(boolean parallelExtractionAndFiltering) {
+    Assertions.setParallelExtractionAndFiltering(parallelExtractionAndFiltering);
+  }
+
+  /**
+   * Enable/disable building the message of the errors collected by soft assertions lazily (disabled by default).
+   * <p>
+   * When enabled, a failing soft assertion collects an error that keeps what is needed to build its message and only
+   * builds it the first time it is requested, soft assertions that fail a lot (for example when checking many rows of
+   * data) don't pay for formatting messages that are never read.
+   * <p>
+   * As the message is built later, it describes the actual and expected values as they are at that time, only enable it
+   * if the values under test are not modified once asserted.
+   * <p>
+   * The stack trace of these errors is captured unless disabled with
+   * {@link Assertions#setSoftAssertionErrorsStackTraceCapture(boolean)}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setLazySoftAssertionErrorMessages(true);
+   *
+   * SoftAssertions softly = new SoftAssertions();
+   * rows.forEach(row -&gt; softly.assertThat(row.getAmount()).isPositive());
+   * // messages are only built for the errors that are read
+   * int failingRowsCount = softly.errorsCollected().size();</code></pre>
+   *
+   * @param lazySoftAssertionErrorMessages whether to build the message of soft assertion errors lazily.
+   * @since 3.18.0
+   */
+  static void setLazySoftAssertionErrorMessages(boolean lazySoftAssertionErrorMessages) {
+    Assertions.setLazySoftAssertionErrorMessages(lazySoftAssertionErrorMessages);
+  }
+
+  /**
+   * Enable/disable capturing the stack trace of the lazy errors collected by soft assertions (enabled by default).
+   * <p>
+   * Only applies to the errors created when {@link Assertions#setLazySoftAssertionErrorMessages(boolean)} is enabled, not capturing
+   * their stack trace makes failing soft assertions cheaper but the collected errors don't tell where they come from
+   * anymore, {@link SoftAssertions#errorsCollected()} can't add the line of the failing soft assertion to their message.
+   *
+   * @param softAssertionErrorsStackTraceCapture whether to capture the stack trace of lazy soft assertion errors.
+   * @since 3.18.0
+   */
+  static void setSoftAssertionErrorsStackTraceCapture(boolean softAssertionErrorsStackTraceCapture) {
+    Assertions.setSoftAssertionErrorsStackTraceCapture(softAssertionErrorsStackTraceCapture);
+  }
+
+  /**
+   * Sets how the stack trace of the assertion errors is captured ({@link StackTraceCapture#FULL FULL} by default).
+   * <p>
+   * Capturing the stack trace and removing the AssertJ related elements from it is a significant part of the cost of a
+   * failing assertion, it matters in tests where failures are the expected outcome, like negative path tests.
+   * The available options are:
+   * <ul>
+   * <li>{@link StackTraceCapture#FULL FULL}: the full stack trace is captured, AssertJ related elements are then removed
+   * unless {@link Assertions#setRemoveAssertJRelatedElementsFromStackTrace(boolean)} is disabled.</li>
+   * <li>{@link StackTraceCapture#WITHOUT_ASSERTJ_FRAMES WITHOUT_ASSERTJ_FRAMES}: AssertJ frames are skipped while
+   * walking the stack (Java 9+).</li>
+   * <li>{@link StackTraceCapture#TRUNCATED TRUNCATED}: only the first frames not related to AssertJ are kept.</li>
+   * <li>{@link StackTraceCapture#NONE NONE}: no stack trace at all.</li>
+   * </ul>
+   * Errors built by third party libraries (like opentest4j {@code AssertionFailedError}) capture their full stack trace
+   * anyway, it is then reduced according to the chosen option.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setStackTraceCapture(StackTraceCapture.TRUNCATED);
+   *
+   * // the error only has the first stack trace elements leading to the failing assertion
+   * AssertionError error = catchThrowableOfType(() -&gt; assertThat("Frodo").isEmpty(), AssertionError.class);</code></pre>
+   *
+   * @param stackTraceCapture how to capture the stack trace of assertion errors.
+   * @since 3.18.0
+   */
+  static void setStackTraceCapture(StackTraceCapture stackTraceCapture) {
+    Assertions.setStackTraceCapture(stackTraceCapture);
+  }
+
   /**
    * All assertions description will be consumed by the given {@link Consumer Consumer&lt;Description&gt;} allowing for example to record them in a file.
    * <p>
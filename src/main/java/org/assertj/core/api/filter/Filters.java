@@ -14,7 +14,6 @@ package org.assertj.core.api.filter;
 
 import static java.util.Objects.deepEquals;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
@@ -22,6 +21,7 @@ import java.util.List;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
+import org.assertj.core.internal.ElementProcessing;
 import org.assertj.core.util.Strings;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -195,7 +195,7 @@ public class Filters<E> {
   }
 
   private Filters<E> applyFilterCondition(Condition<? super E> condition) {
-    this.filteredIterable = filteredIterable.stream().filter(condition::matches).collect(toList());
+    this.filteredIterable = ElementProcessing.filter(filteredIterable, condition::matches);
     return this;
   }
 
@@ -269,10 +269,10 @@ public class Filters<E> {
    */
   public Filters<E> equalsTo(Object propertyValue) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
+    this.filteredIterable = ElementProcessing.filter(filteredIterable, element -> {
       Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
       return deepEquals(propertyValueOfCurrentElement, propertyValue);
-    }).collect(toList());
+    });
     return this;
   }
 
@@ -290,10 +290,10 @@ public class Filters<E> {
    */
   public Filters<E> notEqualsTo(Object propertyValue) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
+    this.filteredIterable = ElementProcessing.filter(filteredIterable, element -> {
       Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
       return !deepEquals(propertyValueOfCurrentElement, propertyValue);
-    }).collect(toList());
+    });
     return this;
   }
 
@@ -315,10 +315,10 @@ public class Filters<E> {
    */
   public Filters<E> in(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
+    this.filteredIterable = ElementProcessing.filter(filteredIterable, element -> {
       Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
       return isItemInArray(propertyValueOfCurrentElement, propertyValues);
-    }).collect(toList());
+    });
     return this;
   }
 
@@ -335,10 +335,10 @@ public class Filters<E> {
    */
   public Filters<E> notIn(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
+    this.filteredIterable = ElementProcessing.filter(filteredIterable, element -> {
       Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
       return !isItemInArray(propertyValueOfCurrentElement, propertyValues);
-    }).collect(toList());
+    });
     return this;
   }
 
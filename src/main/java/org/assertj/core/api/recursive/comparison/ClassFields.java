@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Collections.unmodifiableSet;
+import static org.assertj.core.internal.Objects.getFieldsNames;
+
+import java.util.Set;
+
+/**
+ * The names of the fields of a class compared field by field, introspected once per class.
+ * <p>
+ * They are kept in a {@link ClassValue} which, unlike a map keyed by class, does not prevent a class and its class
+ * loader from being garbage collected.
+ */
+final class ClassFields {
+
+  private static final ClassValue<ClassFields> CLASS_FIELDS = new ClassValue<ClassFields>() {
+    @Override
+    protected ClassFields computeValue(Class<?> type) {
+      return new ClassFields(type);
+    }
+  };
+
+  private final Set<String> names;
+
+  private ClassFields(Class<?> type) {
+    this.names = unmodifiableSet(getFieldsNames(type));
+  }
+
+  static ClassFields of(Class<?> type) {
+    return CLASS_FIELDS.get(type);
+  }
+
+  /**
+   * @return the names of the class fields, same as {@code Objects.getFieldsNames(type)}.
+   */
+  Set<String> names() {
+    return names;
+  }
+
+}
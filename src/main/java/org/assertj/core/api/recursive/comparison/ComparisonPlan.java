@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.api.recursive.comparison.DualValue.dualValueSharingPath;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Strings.join;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches what a recursive comparison evaluates again and again for each instance of a given class: the compared fields of
+ * the class under a given path, the field paths and whether a comparator is registered for the class.
+ * <p>
+ * A plan is built for one comparison as it depends on the {@link RecursiveComparisonConfiguration} which can be changed
+ * between comparisons, the class fields and how to read them are shared by all comparisons (see {@link ClassFields}).
+ * <p>
+ * A plan is thread safe as it is shared by the threads of a parallel comparison.
+ */
+final class ComparisonPlan {
+
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  // parent concatenated path -> class -> names of the class fields not ignored by name
+  private final Map<String, Map<Class<?>, Set<String>>> fieldNamesNotIgnoredByName = new ConcurrentHashMap<>();
+  // parent concatenated path -> field name -> field path
+  private final Map<String, Map<String, FieldPath>> fieldPaths = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Boolean> hasComparatorForType = new ConcurrentHashMap<>();
+
+  ComparisonPlan(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+  }
+
+  /**
+   * Same as {@link RecursiveComparisonConfiguration#getNonIgnoredActualFieldNames(DualValue)} but only evaluates once the
+   * fields ignored by name for a given path and actual class.
+   */
+  Set<String> getNonIgnoredActualFieldNames(DualValue dualValue) {
+    Map<Class<?>, Set<String>> fieldNamesInPath = fieldNamesNotIgnoredByName.computeIfAbsent(dualValue.concatenatedPath,
+                                                                                             path -> new ConcurrentHashMap<>());
+    Set<String> actualFieldNamesNotIgnoredByName = fieldNamesInPath.computeIfAbsent(dualValue.actual.getClass(),
+                                                                                    type -> recursiveComparisonConfiguration.getFieldNamesNotIgnoredByName(dualValue.path,
+                                                                                                                                                          type));
+    return recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue, actualFieldNamesNotIgnoredByName);
+  }
+
+  /**
+   * Same as {@link RecursiveComparisonConfiguration#hasCustomComparator(DualValue)} but only looks up once the comparator
+   * registered for a given class.
+   */
+  boolean hasCustomComparator(DualValue dualValue) {
+    if (recursiveComparisonConfiguration.hasComparatorForField(dualValue.concatenatedPath)) return true;
+    if (dualValue.actual == null && dualValue.expected == null) return false;
+    // best effort assuming actual and expected have the same type (not 100% true as we can compare object of different types)
+    Class<?> valueType = dualValue.actual != null ? dualValue.actual.getClass() : dualValue.expected.getClass();
+    return hasComparatorForType.computeIfAbsent(valueType, recursiveComparisonConfiguration::hasComparatorForType);
+  }
+
+  /**
+   * Builds the {@link DualValue} of the given field of the given parent dual value, the field path is computed once per
+   * parent path and shared by all the dual values of this field.
+   */
+  DualValue fieldDualValue(DualValue parentDualValue, String fieldName, Object actualFieldValue, Object expectedFieldValue) {
+    FieldPath fieldPath = fieldPaths.computeIfAbsent(parentDualValue.concatenatedPath, path -> new ConcurrentHashMap<>())
+                                    .computeIfAbsent(fieldName, name -> new FieldPath(parentDualValue.path, name));
+    return dualValueSharingPath(fieldPath.path, fieldPath.concatenatedPath, actualFieldValue, expectedFieldValue);
+  }
+
+  private static final class FieldPath {
+    private final List<String> path;
+    private final String concatenatedPath;
+
+    private FieldPath(List<String> parentPath, String fieldName) {
+      List<String> fieldPath = newArrayList(parentPath);
+      fieldPath.add(fieldName);
+      this.path = unmodifiableList(fieldPath);
+      this.concatenatedPath = join(fieldPath).with(".");
+    }
+  }
+
+}
@@ -43,19 +43,28 @@ final class DualValue {
   private final int hashCode;
 
   DualValue(List<String> path, Object actual, Object expected) {
-    this.path = newArrayList(path);
-    this.concatenatedPath = join(path).with(".");
+    this(actual, expected, newArrayList(path), join(path).with("."));
+  }
+
+  private DualValue(Object actual, Object expected, List<String> path, String concatenatedPath) {
+    this.path = path;
+    this.concatenatedPath = concatenatedPath;
     this.actual = actual;
     this.expected = expected;
-    int h1 = actual != null ? actual.hashCode() : 0;
-    int h2 = expected != null ? expected.hashCode() : 0;
-    hashCode = h1 + h2;
+    // consistent with equals which compares by reference, this also avoids calling potentially costly hashCode methods
+    hashCode = 31 * System.identityHashCode(actual) + System.identityHashCode(expected);
   }
 
   DualValue(List<String> parentPath, String fieldName, Object actual, Object expected) {
     this(fieldPath(parentPath, fieldName), actual, expected);
   }
 
+  // the given path is not copied, it must not be modified afterwards, this allows to share the path of a field between the
+  // dual values of the different instances of a class
+  static DualValue dualValueSharingPath(List<String> path, String concatenatedPath, Object actual, Object expected) {
+    return new DualValue(actual, expected, path, concatenatedPath);
+  }
+
   @Override
   public boolean equals(Object other) {
     if (!(other instanceof DualValue)) return false;
@@ -0,0 +1,315 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator.hasOverriddenEquals;
+import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+import static org.assertj.core.util.Strings.join;
+import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+/**
+ * Buckets the elements of an expected unordered iterable by a cheap fingerprint so that an actual element is only
+ * compared recursively to the expected elements it can possibly match.
+ * <p>
+ * The fingerprint of an element is computed from the values the recursive comparison would compare with {@code equals}
+ * (basic {@code java.lang} values and enums), either the element itself or its directly compared fields. Fingerprints
+ * are only computed when two elements with different fingerprints are guaranteed to be reported as different, when
+ * this can't be guaranteed (custom comparators, overridden equals, containers, ...) the element is compared to all
+ * expected elements as before.
+ * <p>
+ * Candidates are returned in the expected iterable order, this guarantees that each actual element is matched to the
+ * same expected element as when comparing it to all the remaining expected elements.
+ */
+final class ExpectedElementsBuckets {
+
+  // bucket key for actual elements compared to expected ones with equals (basic java.lang values and enums)
+  private static final Object COMPARED_BY_VALUE = new Object();
+  private static final Set<Class<?>> FINGERPRINTED_TYPES = newLinkedHashSet(String.class, Boolean.class,
+                                                                            Character.class, Byte.class, Short.class,
+                                                                            Integer.class, Long.class);
+  private static final Map<Class<?>, Class<?>> FINGERPRINTED_PRIMITIVE_TYPES = new HashMap<>();
+
+  static {
+    FINGERPRINTED_PRIMITIVE_TYPES.put(boolean.class, Boolean.class);
+    FINGERPRINTED_PRIMITIVE_TYPES.put(char.class, Character.class);
+    FINGERPRINTED_PRIMITIVE_TYPES.put(byte.class, Byte.class);
+    FINGERPRINTED_PRIMITIVE_TYPES.put(short.class, Short.class);
+    FINGERPRINTED_PRIMITIVE_TYPES.put(int.class, Integer.class);
+    FINGERPRINTED_PRIMITIVE_TYPES.put(long.class, Long.class);
+  }
+
+  private final List<String> path;
+  private final String concatenatedPath;
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  private final Object[] expectedElements;
+  private final boolean[] matched;
+  private int matchedCount;
+  // buckets depend on how actual elements are compared, i.e. by value or field by field for a given type
+  private final Map<Object, Buckets> bucketsByComparisonKind = new HashMap<>();
+  private final Map<Class<?>, Boolean> hasComparatorForTypeCache = new HashMap<>();
+
+  ExpectedElementsBuckets(Collection<?> expected, List<String> path,
+                          RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this.path = path;
+    this.concatenatedPath = join(path).with(".");
+    this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+    this.expectedElements = expected.toArray();
+    this.matched = new boolean[expectedElements.length];
+  }
+
+  Object get(int index) {
+    return expectedElements[index];
+  }
+
+  void markAsMatched(int index) {
+    matched[index] = true;
+    matchedCount++;
+  }
+
+  boolean allMatched() {
+    return matchedCount == expectedElements.length;
+  }
+
+  /**
+   * Returns the indexes (in expected order) of the unmatched expected elements that the given actual element could match.
+   *
+   * @param actualElement the actual element to find candidates for
+   * @return the indexes of the candidate expected elements
+   */
+  PrimitiveIterator.OfInt candidatesFor(Object actualElement) {
+    Object comparisonKind = comparisonKindOf(actualElement);
+    if (comparisonKind == null) return new UnmatchedIndexes(Bucket.ALL);
+    Buckets buckets = bucketsByComparisonKind.computeIfAbsent(comparisonKind,
+                                                              kind -> bucketExpectedElements(kind, actualElement));
+    Integer fingerprint = buckets.actualFingerprint(actualElement);
+    if (fingerprint == null) return new UnmatchedIndexes(Bucket.ALL);
+    return new UnmatchedIndexes(buckets.bucket(fingerprint), buckets.wildcards);
+  }
+
+  // returns null if actualElement can't be fingerprinted soundly
+  private Object comparisonKindOf(Object actualElement) {
+    if (actualElement == null) return null;
+    if (recursiveComparisonConfiguration.hasComparatorForField(concatenatedPath)) return null;
+    if (hasComparatorForType(actualElement.getClass())) return null;
+    if (isFingerprintedValue(actualElement)) return COMPARED_BY_VALUE;
+    DualValue dualValue = new DualValue(path, actualElement, actualElement);
+    // java types that are not basic values can be compared with equals or field by field, we don't try to be smart here
+    if (dualValue.isActualJavaType() || !dualValue.hasNoContainerValues()) return null;
+    boolean comparedWithEquals = !recursiveComparisonConfiguration.shouldIgnoreOverriddenEqualsOf(dualValue)
+                                 && hasOverriddenEquals(actualElement.getClass());
+    if (comparedWithEquals) return null;
+    // the compared fields must only depend on actual element type
+    if (recursiveComparisonConfiguration.ignoresFieldsDependingOnTheirValues()) return null;
+    return actualElement.getClass();
+  }
+
+  private Buckets bucketExpectedElements(Object comparisonKind, Object actualElement) {
+    Buckets buckets = comparisonKind == COMPARED_BY_VALUE ? new Buckets(null) : new Buckets(actualElement);
+    for (int i = 0; i < expectedElements.length; i++) {
+      if (!matched[i]) buckets.add(i, expectedElements[i]);
+    }
+    return buckets;
+  }
+
+  private boolean hasComparatorForType(Class<?> type) {
+    return hasComparatorForTypeCache.computeIfAbsent(type, recursiveComparisonConfiguration::hasComparatorForType);
+  }
+
+  private static boolean isFingerprintedValue(Object value) {
+    return FINGERPRINTED_TYPES.contains(value.getClass()) || value.getClass().isEnum();
+  }
+
+  private boolean canBeComparedFieldByField(Object expectedElement) {
+    DualValue dualValue = new DualValue(path, expectedElement, expectedElement);
+    return !dualValue.isExpectedAnEnum() && dualValue.hasNoContainerValues();
+  }
+
+  // enums are compared by name when not in strict type checking mode
+  private static int valueFingerprint(Object value) {
+    if (value == null) return 0;
+    return value.getClass().isEnum() ? ((Enum<?>) value).name().hashCode() : value.hashCode();
+  }
+
+  private final class Buckets {
+
+    // null when actual elements are compared by value
+    private final Class<?> actualType;
+    private final Set<String> comparedFields;
+    private final List<String> fingerprintedFields = new ArrayList<>();
+    private final Map<Class<?>, Boolean> declaresComparedFields = new HashMap<>();
+    private final Map<Integer, Bucket> buckets = new HashMap<>();
+    // expected elements that could match any actual element
+    private final Bucket wildcards = new Bucket();
+
+    // actualElement is null when actual elements are compared by value, otherwise it is used to find the compared fields
+    Buckets(Object actualElement) {
+      if (actualElement == null) {
+        actualType = null;
+        comparedFields = null;
+        return;
+      }
+      actualType = actualElement.getClass();
+      // ignored fields only depend on their names, any actual element of actualType has the same compared fields
+      DualValue dualValue = new DualValue(path, actualElement, actualElement);
+      comparedFields = recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue);
+      for (Field field : getDeclaredFieldsIncludingInherited(actualType)) {
+        String fieldName = field.getName();
+        if (comparedFields.contains(fieldName) && !fingerprintedFields.contains(fieldName)
+            && isFingerprintedType(field.getType()) && !hasComparatorForField(fieldName)) {
+          fingerprintedFields.add(fieldName);
+        }
+      }
+    }
+
+    private boolean isFingerprintedType(Class<?> type) {
+      Class<?> valueType = FINGERPRINTED_PRIMITIVE_TYPES.getOrDefault(type, type);
+      return (FINGERPRINTED_TYPES.contains(valueType) || valueType.isEnum()) && !hasComparatorForType(valueType);
+    }
+
+    private boolean hasComparatorForField(String fieldName) {
+      List<String> fieldPath = newArrayList(path);
+      fieldPath.add(fieldName);
+      return recursiveComparisonConfiguration.hasComparatorForField(join(fieldPath).with("."));
+    }
+
+    Bucket bucket(int fingerprint) {
+      Bucket bucket = buckets.get(fingerprint);
+      return bucket == null ? Bucket.EMPTY : bucket;
+    }
+
+    void add(int index, Object expectedElement) {
+      if (expectedElement == null) return; // can't match a non null actual element without custom comparators
+      if (actualType == null) {
+        // actual element is compared with equals, only expected elements of the same type can match
+        if (isFingerprintedValue(expectedElement)) buckets.computeIfAbsent(valueFingerprint(expectedElement),
+                                                                           fingerprint -> new Bucket())
+                                                          .add(index);
+        return;
+      }
+      if (!canBeComparedFieldByField(expectedElement)) return;
+      if (!declaresComparedFields.computeIfAbsent(expectedElement.getClass(),
+                                                  type -> ClassFields.of(type).names().containsAll(comparedFields)))
+        return;
+      int fingerprint = 1;
+      for (String fieldName : fingerprintedFields) {
+        Object value = COMPARISON.getSimpleValue(fieldName, expectedElement);
+        if (value != null) {
+          // a null actual field value could be equal to this value
+          if (hasComparatorForType(value.getClass())) {
+            wildcards.add(index);
+            return;
+          }
+          // can't be equal to a fingerprinted actual field value
+          if (!isFingerprintedValue(value)) return;
+        }
+        fingerprint = 31 * fingerprint + valueFingerprint(value);
+      }
+      buckets.computeIfAbsent(fingerprint, key -> new Bucket()).add(index);
+    }
+
+    // returns null if the actual element can't be fingerprinted
+    Integer actualFingerprint(Object actualElement) {
+      if (actualType == null) return valueFingerprint(actualElement);
+      int fingerprint = 1;
+      for (String fieldName : fingerprintedFields) {
+        Object value = COMPARISON.getSimpleValue(fieldName, actualElement);
+        if (value != null && (!isFingerprintedValue(value) || hasComparatorForType(value.getClass()))) return null;
+        fingerprint = 31 * fingerprint + valueFingerprint(value);
+      }
+      return fingerprint;
+    }
+  }
+
+  // expected element indexes in ascending order
+  private static final class Bucket {
+
+    static final Bucket EMPTY = new Bucket();
+    // marker for all expected elements
+    static final Bucket ALL = new Bucket();
+
+    private int[] indexes = new int[4];
+    private int size;
+
+    void add(int index) {
+      if (size == indexes.length) indexes = Arrays.copyOf(indexes, size * 2);
+      indexes[size++] = index;
+    }
+  }
+
+  // iterates over the unmatched indexes of two buckets in ascending order
+  private final class UnmatchedIndexes implements PrimitiveIterator.OfInt {
+
+    private final Bucket first;
+    private final Bucket second;
+    private int firstPosition;
+    private int secondPosition;
+
+    UnmatchedIndexes(Bucket bucket) {
+      this(bucket, Bucket.EMPTY);
+    }
+
+    UnmatchedIndexes(Bucket first, Bucket second) {
+      this.first = first;
+      this.second = second;
+      firstPosition = nextUnmatchedPosition(first, -1);
+      secondPosition = nextUnmatchedPosition(second, -1);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return firstPosition < sizeOf(first) || secondPosition < sizeOf(second);
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) throw new NoSuchElementException();
+      int firstIndex = firstPosition < sizeOf(first) ? indexAt(first, firstPosition) : Integer.MAX_VALUE;
+      int secondIndex = secondPosition < sizeOf(second) ? indexAt(second, secondPosition) : Integer.MAX_VALUE;
+      if (firstIndex < secondIndex) {
+        firstPosition = nextUnmatchedPosition(first, firstPosition);
+        return firstIndex;
+      }
+      secondPosition = nextUnmatchedPosition(second, secondPosition);
+      return secondIndex;
+    }
+
+    private int nextUnmatchedPosition(Bucket bucket, int position) {
+      int size = sizeOf(bucket);
+      do {
+        position++;
+      } while (position < size && matched[indexAt(bucket, position)]);
+      return position;
+    }
+
+    private int sizeOf(Bucket bucket) {
+      return bucket == Bucket.ALL ? expectedElements.length : bucket.size;
+    }
+
+    private int indexAt(Bucket bucket, int position) {
+      return bucket == Bucket.ALL ? position : bucket.indexes[position];
+    }
+  }
+}
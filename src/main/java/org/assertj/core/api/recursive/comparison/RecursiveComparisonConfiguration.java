@@ -14,6 +14,7 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
@@ -21,6 +22,7 @@ import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.join;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
@@ -35,7 +37,6 @@ import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.RecursiveComparisonAssert;
-import org.assertj.core.internal.Objects;
 import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.VisibleForTesting;
@@ -69,6 +70,9 @@ public class RecursiveComparisonConfiguration {
   private TypeComparators typeComparators = defaultTypeComparators();
   private FieldComparators fieldComparators = new FieldComparators();
 
+  // number of threads comparing the object graph, 1 means the comparison is done in the calling thread
+  private int parallelism = 1;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     this.strictTypeChecking = builder.strictTypeChecking;
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
@@ -86,6 +90,7 @@ public class RecursiveComparisonConfiguration {
     ignoreCollectionOrderInFieldsMatchingRegexes(builder.ignoredCollectionOrderInFieldsMatchingRegexes);
     this.typeComparators = builder.typeComparators;
     this.fieldComparators = builder.fieldComparators;
+    setParallelism(builder.parallelism);
   }
 
   public RecursiveComparisonConfiguration() {}
@@ -471,6 +476,23 @@ public class RecursiveComparisonConfiguration {
     return strictTypeChecking;
   }
 
+  /**
+   * Sets the number of threads used to compare the object graph, 1 (the default) compares it in the calling thread.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withParallelism(int)} for code examples.
+   *
+   * @param parallelism the number of threads used to compare the object graph.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
   public List<Pattern> getIgnoredFieldsRegexes() {
     return ignoredFieldsRegexes;
   }
@@ -503,7 +525,7 @@ public class RecursiveComparisonConfiguration {
                                   ignoredCollectionOrderInFields, ignoredCollectionOrderInFieldsMatchingRegexes, ignoredFields,
                                   ignoredFieldsRegexes, ignoredOverriddenEqualsForFields, ignoredOverriddenEqualsForTypes,
                                   ignoredOverriddenEqualsForFieldsMatchingRegexes, ignoredTypes, strictTypeChecking,
-                                  typeComparators);
+                                  typeComparators, parallelism);
   }
 
   @Override
@@ -527,6 +549,7 @@ public class RecursiveComparisonConfiguration {
                                        other.ignoredOverriddenEqualsForFieldsMatchingRegexes)
            && java.util.Objects.equals(ignoredTypes, other.ignoredTypes) && strictTypeChecking == other.strictTypeChecking
            && java.util.Objects.equals(typeComparators, other.typeComparators)
+           && parallelism == other.parallelism
            && java.util.Objects.equals(ignoredCollectionOrderInFieldsMatchingRegexes,
                                        other.ignoredCollectionOrderInFieldsMatchingRegexes);
   }
@@ -557,21 +580,39 @@ public class RecursiveComparisonConfiguration {
   }
 
   Set<String> getNonIgnoredActualFieldNames(DualValue dualValue) {
-    Set<String> actualFieldsNames = Objects.getFieldsNames(dualValue.actual.getClass());
+    return getNonIgnoredActualFieldNames(dualValue, getFieldNamesNotIgnoredByName(dualValue.path, dualValue.actual.getClass()));
+  }
+
+  // the fields ignored by name only depend on the compared type and path, this allows to evaluate them once per type and path
+  Set<String> getFieldNamesNotIgnoredByName(List<String> parentPath, Class<?> type) {
+    return unmodifiableSet(ClassFields.of(type).names().stream()
+                                      .filter(fieldName -> !shouldIgnore(parentPath, fieldName))
+                                      .collect(toSet()));
+  }
+
+  Set<String> getNonIgnoredActualFieldNames(DualValue dualValue, Set<String> actualFieldNamesNotIgnoredByName) {
+    // no need to build the field DualValues when fields are only ignored by name
+    if (!ignoresFieldsDependingOnTheirValues()) return actualFieldNamesNotIgnoredByName;
     // we are doing the same as shouldIgnore(DualValue dualValue) but in two steps for performance reasons:
     // - we filter first ignored field by names that don't need building DualValues
     // - then we filter field DualValues with the remaining criteria (shouldIgnoreNotEvalutingFieldName)
     // DualValues are built introspecting fields which is expensive.
-    return actualFieldsNames.stream()
-                            // evaluate field name ignoring criteria
-                            .filter(fieldName -> !shouldIgnore(dualValue.path, fieldName))
-                            .map(fieldName -> dualValueForField(dualValue, fieldName))
-                            // evaluate field value ignoring criteria
-                            .filter(fieldDualValue -> !shouldIgnoreFieldButWithoutNeedingEvaluatingFieldName(fieldDualValue))
-                            // back to field name
-                            .map(DualValue::getFieldName)
-                            .filter(fieldName -> !fieldName.isEmpty())
-                            .collect(toSet());
+    return actualFieldNamesNotIgnoredByName.stream()
+                                           .map(fieldName -> dualValueForField(dualValue, fieldName))
+                                           // evaluate field value ignoring criteria
+                                           .filter(fieldDualValue -> !shouldIgnoreFieldButWithoutNeedingEvaluatingFieldName(fieldDualValue))
+                                           // back to field name
+                                           .map(DualValue::getFieldName)
+                                           .filter(fieldName -> !fieldName.isEmpty())
+                                           .collect(toSet());
+  }
+
+  // true if a field can be ignored depending on its value, the compared fields of a type then vary from one instance to another
+  boolean ignoresFieldsDependingOnTheirValues() {
+    return ignoreAllActualNullFields
+           || ignoreAllExpectedNullFields
+           || ignoreAllActualEmptyOptionalFields
+           || !ignoredTypes.isEmpty();
   }
 
   // non public stuff
@@ -883,6 +924,7 @@ public class RecursiveComparisonConfiguration {
     private String[] ignoredCollectionOrderInFieldsMatchingRegexes = {};
     private TypeComparators typeComparators = new TypeComparators();
     private FieldComparators fieldComparators = new FieldComparators();
+    private int parallelism = 1;
 
     private Builder() {}
 
@@ -900,6 +942,19 @@ public class RecursiveComparisonConfiguration {
       return this;
     }
 
+    /**
+     * Sets the number of threads used to compare the object graph, 1 (the default) compares it in the calling thread.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withParallelism(int)} for code examples.
+     *
+     * @param parallelism the number of threads used to compare the object graph.
+     * @return this builder.
+     */
+    public Builder withParallelism(int parallelism) {
+      this.parallelism = parallelism;
+      return this;
+    }
+
     /**
      * Sets whether actual null fields are ignored in the recursive comparison.
      * <p>
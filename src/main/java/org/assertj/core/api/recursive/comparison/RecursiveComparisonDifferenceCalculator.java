@@ -13,12 +13,12 @@
 package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
-import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
-import static org.assertj.core.internal.Objects.getFieldsNames;
 import static org.assertj.core.util.IterableUtil.sizeOf;
 import static org.assertj.core.util.IterableUtil.toCollection;
 import static org.assertj.core.util.Lists.list;
@@ -26,19 +26,24 @@ import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import org.assertj.core.internal.DeepDifference;
@@ -63,25 +68,42 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
   private static final Map<Class<?>, Boolean> customHash = new ConcurrentHashMap<>();
+  // more subgraphs than threads to balance the comparison work between threads as subgraphs have different sizes
+  private static final int SUBGRAPHS_PER_THREAD = 4;
+  // shared by all the comparisons with the same parallelism instead of starting and stopping threads for each comparison,
+  // fork join pools threads are daemon threads created on demand, and waiting for a subgraph comparison from a pool thread
+  // (ex: a comparator doing a parallel recursive comparison) makes the pool start a spare thread instead of deadlocking
+  private static final Map<Integer, ForkJoinPool> POOLS_BY_PARALLELISM = new ConcurrentHashMap<>();
 
   private static class ComparisonState {
-    // Not using a Set as we want to precisely track visited values, a set would remove duplicates
-    List<DualValue> visitedDualValues;
+    VisitedDualValues visitedDualValues;
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
-
-    public ComparisonState(List<DualValue> visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    ComparisonPlan comparisonPlan;
+    // when only knowing whether there are differences matters, the comparison stops at the first difference found which
+    // is not described (differences stays empty)
+    boolean stopAtFirstDifference;
+    boolean differenceFound;
+
+    public ComparisonState(VisitedDualValues visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                           ComparisonPlan comparisonPlan, boolean stopAtFirstDifference) {
       this.visitedDualValues = visited;
       this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.comparisonPlan = comparisonPlan;
+      this.stopAtFirstDifference = stopAtFirstDifference;
     }
 
     void addDifference(DualValue dualValue) {
+      differenceFound = true;
+      if (stopAtFirstDifference) return;
       differences.add(new ComparisonDifference(dualValue.getPath(), dualValue.actual, dualValue.expected));
     }
 
     void addDifference(DualValue dualValue, String description, Object... args) {
+      differenceFound = true;
+      if (stopAtFirstDifference) return;
       differences.add(new ComparisonDifference(dualValue.getPath(), dualValue.actual, dualValue.expected,
                                                format(description, args)));
     }
@@ -91,12 +113,25 @@ public class RecursiveComparisonDifferenceCalculator {
       return differences;
     }
 
+    public boolean hasDifferences() {
+      return differenceFound;
+    }
+
     public boolean hasDualValuesToCompare() {
+      if (stopAtFirstDifference && differenceFound) return false;
       return !dualValuesToCompare.isEmpty();
     }
 
     public DualValue pickDualValueToCompare() {
-      final DualValue dualValue = dualValuesToCompare.removeFirst();
+      return markAsVisited(dualValuesToCompare.removeFirst());
+    }
+
+    // dual values to compare are registered first, the last one is the one closest to the root object
+    DualValue pickDualValueClosestToRoot() {
+      return markAsVisited(dualValuesToCompare.removeLast());
+    }
+
+    private DualValue markAsVisited(DualValue dualValue) {
       if (dualValue.hasPotentialCyclingValues()) {
         // visited dual values are here to avoid cycle, java types don't have cycle, there is no need to track them.
         // moreover this would make should_fix_1854_minimal_test to fail (see the test for a detailed explanation)
@@ -114,17 +149,16 @@ public class RecursiveComparisonDifferenceCalculator {
       boolean mustCompareFieldsRecursively = mustCompareFieldsRecursively(isRootObject, dualValue);
       if (dualValue.hasNoNullValues() && dualValue.hasNoContainerValues() && mustCompareFieldsRecursively) {
         // disregard the equals method and start comparing fields
-        Set<String> nonIgnoredActualFieldsNames = recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue);
+        Set<String> nonIgnoredActualFieldsNames = comparisonPlan.getNonIgnoredActualFieldNames(dualValue);
         if (!nonIgnoredActualFieldsNames.isEmpty()) {
           // fields to ignore are evaluated when adding their corresponding dualValues to dualValuesToCompare which filters
           // ignored fields according to recursiveComparisonConfiguration
-          Set<String> expectedFieldsNames = getFieldsNames(expected.getClass());
-          if (expectedFieldsNames.containsAll(nonIgnoredActualFieldsNames)) {
+          if (ClassFields.of(expected.getClass()).names().containsAll(nonIgnoredActualFieldsNames)) {
             // we compare actual fields vs expected, ignoring expected additional fields
             for (String nonIgnoredActualFieldName : nonIgnoredActualFieldsNames) {
-              DualValue fieldDualValue = new DualValue(parentPath, nonIgnoredActualFieldName,
-                                                       COMPARISON.getSimpleValue(nonIgnoredActualFieldName, actual),
-                                                       COMPARISON.getSimpleValue(nonIgnoredActualFieldName, expected));
+              DualValue fieldDualValue = comparisonPlan.fieldDualValue(dualValue, nonIgnoredActualFieldName,
+                                                                       COMPARISON.getSimpleValue(nonIgnoredActualFieldName, actual),
+                                                                       COMPARISON.getSimpleValue(nonIgnoredActualFieldName, expected));
               dualValuesToCompare.addFirst(fieldDualValue);
             }
           } else {
@@ -140,21 +174,63 @@ public class RecursiveComparisonDifferenceCalculator {
       // parent -> set{child} with child having a reference back to parent
       // it occurs to unordered collection where we compare all possible combination of the collection elements recursively
       // --
-      // remove visited values one by one, DualValue.equals correctly compare respective actual and expected fields by reference
-      visitedDualValues.forEach(visitedDualValue -> dualValuesToCompare.stream()
-                                                                       .filter(dualValueToCompare -> dualValueToCompare.equals(visitedDualValue))
-                                                                       .findFirst()
-                                                                       .ifPresent(dualValuesToCompare::remove));
+      // each visit removes one value, visited values are indexed by the references of their actual and expected fields
+      visitedDualValues.removeVisitedFrom(dualValuesToCompare);
     }
 
     private boolean mustCompareFieldsRecursively(boolean isRootObject, DualValue dualValue) {
-      boolean noCustomComparisonForDualValue = !recursiveComparisonConfiguration.hasCustomComparator(dualValue)
+      boolean noCustomComparisonForDualValue = !comparisonPlan.hasCustomComparator(dualValue)
                                                && !shouldHonorOverriddenEquals(dualValue, recursiveComparisonConfiguration);
       return isRootObject || noCustomComparisonForDualValue;
     }
 
   }
 
+  // the position of a dual value in the depth first comparison order: the positions of its ancestors followed by its own
+  // position among its siblings, positions are compared lexicographically
+  private static final class DepthFirstPosition implements Comparable<DepthFirstPosition> {
+    private static final DepthFirstPosition ROOT = new DepthFirstPosition(new int[0]);
+    private final int[] indexes;
+
+    private DepthFirstPosition(int[] indexes) {
+      this.indexes = indexes;
+    }
+
+    // children are the first childrenCount dual values, the first one being compared first
+    private void assignToChildren(DualValueDeque dualValues, int childrenCount, Map<DualValue, DepthFirstPosition> positions) {
+      Iterator<DualValue> children = dualValues.iterator();
+      for (int i = 0; i < childrenCount; i++) {
+        int[] childIndexes = Arrays.copyOf(indexes, indexes.length + 1);
+        childIndexes[indexes.length] = i;
+        positions.put(children.next(), new DepthFirstPosition(childIndexes));
+      }
+    }
+
+    @Override
+    public int compareTo(DepthFirstPosition other) {
+      for (int i = 0; i < Math.min(indexes.length, other.indexes.length); i++) {
+        if (indexes[i] != other.indexes[i]) return Integer.compare(indexes[i], other.indexes[i]);
+      }
+      // an ancestor is compared before its descendants
+      return Integer.compare(indexes.length, other.indexes.length);
+    }
+  }
+
+  private static final class PositionedDifferences implements Comparable<PositionedDifferences> {
+    private final DepthFirstPosition position;
+    private final List<ComparisonDifference> differences;
+
+    private PositionedDifferences(DepthFirstPosition position, List<ComparisonDifference> differences) {
+      this.position = position;
+      this.differences = differences;
+    }
+
+    @Override
+    public int compareTo(PositionedDifferences other) {
+      return position.compareTo(other.position);
+    }
+  }
+
   /**
    * Compare two objects for differences by doing a 'deep' comparison. This will traverse the
    * Object graph and perform either a field-by-field comparison on each
@@ -181,124 +257,274 @@ public class RecursiveComparisonDifferenceCalculator {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
       return list(expectedAndActualTypeDifference(actual, expected));
     }
+    return compare(actual, expected, recursiveComparisonConfiguration, false).getDifferences();
+  }
+
+  /**
+   * Compares two objects like {@link #determineDifferences(Object, Object, RecursiveComparisonConfiguration)} but stops at
+   * the first difference found, this is faster when only knowing whether the objects are equivalent matters.
+   * <p>
+   * Differences are not described (no {@link ComparisonDifference} is built).
+   *
+   * @param actual Object one to compare
+   * @param expected Object two to compare
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @return true if {@link #determineDifferences(Object, Object, RecursiveComparisonConfiguration)} would find differences,
+   *         false otherwise.
+   */
+  public boolean hasDifferences(Object actual, Object expected,
+                                RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
+      return true;
+    }
+    return compare(actual, expected, recursiveComparisonConfiguration, true).hasDifferences();
+  }
+
+  private static ComparisonState compare(Object actual, Object expected,
+                                         RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                         boolean stopAtFirstDifference) {
     List<String> rootPath = list();
-    List<DualValue> visited = list();
-    return determineDifferences(actual, expected, rootPath, true, visited, recursiveComparisonConfiguration);
+    VisitedDualValues visited = new VisitedDualValues();
+    ComparisonPlan comparisonPlan = new ComparisonPlan(recursiveComparisonConfiguration);
+    if (recursiveComparisonConfiguration.getParallelism() > 1) {
+      return compareInParallel(actual, expected, visited, recursiveComparisonConfiguration, comparisonPlan,
+                               stopAtFirstDifference);
+    }
+    return compare(actual, expected, rootPath, true, visited, recursiveComparisonConfiguration, comparisonPlan,
+                   stopAtFirstDifference);
+  }
+
+  /**
+   * Compares the top of the object graph until there are enough independent subgraphs to keep all threads busy, the
+   * subgraphs are then compared in parallel, each with a copy of the dual values visited so far to detect cycles.
+   * <p>
+   * The top of the graph is compared breadth first to get subgraphs of similar sizes while the sequential comparison goes
+   * depth first, to report the differences in the same order as the sequential comparison, each dual value compared
+   * here or starting a subgraph is given its position in the depth first order and the differences found are merged
+   * according to these positions.
+   * <p>
+   * The returned state holds the differences found in the whole graph.
+   */
+  private static ComparisonState compareInParallel(Object actual, Object expected, VisitedDualValues visited,
+                                                   RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                   ComparisonPlan comparisonPlan, boolean stopAtFirstDifference) {
+    int parallelism = recursiveComparisonConfiguration.getParallelism();
+    ComparisonState rootState = new ComparisonState(visited, recursiveComparisonConfiguration, comparisonPlan,
+                                                    stopAtFirstDifference);
+    rootState.initDualValuesToCompare(actual, expected, list(), true);
+    DualValueDeque dualValuesToCompare = rootState.dualValuesToCompare;
+    Map<DualValue, DepthFirstPosition> positions = new IdentityHashMap<>();
+    DepthFirstPosition.ROOT.assignToChildren(dualValuesToCompare, dualValuesToCompare.size(), positions);
+    List<PositionedDifferences> positionedDifferences = new ArrayList<>();
+    List<DualValue> subgraphs = new ArrayList<>();
+    int subgraphsCount = SUBGRAPHS_PER_THREAD * parallelism;
+    while (rootState.hasDualValuesToCompare() && subgraphs.size() + dualValuesToCompare.size() < subgraphsCount) {
+      if (isComparedAsUnorderedIterable(dualValuesToCompare.getLast(), recursiveComparisonConfiguration)) {
+        // unordered iterables elements are compared right away, leave it to a subgraph comparison
+        subgraphs.add(dualValuesToCompare.removeLast());
+        continue;
+      }
+      DualValue dualValue = rootState.pickDualValueClosestToRoot();
+      int differencesCount = rootState.differences.size();
+      int dualValuesToCompareCount = dualValuesToCompare.size();
+      compareDualValue(dualValue, rootState);
+      DepthFirstPosition position = positions.get(dualValue);
+      List<ComparisonDifference> dualValueDifferences = rootState.differences.subList(differencesCount, rootState.differences.size());
+      positionedDifferences.add(new PositionedDifferences(position, new ArrayList<>(dualValueDifferences)));
+      // the dual values to compare registered by the comparison are added first
+      position.assignToChildren(dualValuesToCompare, dualValuesToCompare.size() - dualValuesToCompareCount, positions);
+    }
+    // no need to compare the subgraphs, we already know there are differences
+    if (stopAtFirstDifference && rootState.hasDifferences()) return rootState;
+    subgraphs.addAll(dualValuesToCompare);
+    // if comparisons fail, report the same error as the sequential comparison: the first one in depth first order
+    subgraphs.sort(comparing(positions::get));
+    List<ComparisonState> subgraphStates = compareSubgraphsInParallel(subgraphs, visited, recursiveComparisonConfiguration,
+                                                                      comparisonPlan, stopAtFirstDifference);
+    for (int i = 0; i < subgraphs.size(); i++) {
+      ComparisonState subgraphState = subgraphStates.get(i);
+      if (subgraphState.hasDifferences()) rootState.differenceFound = true;
+      positionedDifferences.add(new PositionedDifferences(positions.get(subgraphs.get(i)), subgraphState.differences));
+    }
+    Collections.sort(positionedDifferences);
+    rootState.differences = new ArrayList<>();
+    positionedDifferences.forEach(subgraphDifferences -> rootState.differences.addAll(subgraphDifferences.differences));
+    return rootState;
+  }
+
+  private static List<ComparisonState> compareSubgraphsInParallel(List<DualValue> subgraphs, VisitedDualValues visited,
+                                                                  RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                  ComparisonPlan comparisonPlan, boolean stopAtFirstDifference) {
+    if (subgraphs.isEmpty()) return list();
+    ForkJoinPool pool = POOLS_BY_PARALLELISM.computeIfAbsent(recursiveComparisonConfiguration.getParallelism(),
+                                                             ForkJoinPool::new);
+    List<Future<ComparisonState>> subgraphComparisons = new ArrayList<>(subgraphs.size());
+    try {
+      for (DualValue subgraph : subgraphs) {
+        // unlike ForkJoinTask, CompletableFuture rethrows the exception thrown by the comparison as is
+        subgraphComparisons.add(supplyAsync(() -> {
+          ComparisonState subgraphState = new ComparisonState(new VisitedDualValues(visited), recursiveComparisonConfiguration,
+                                                              comparisonPlan, stopAtFirstDifference);
+          subgraphState.dualValuesToCompare.add(subgraph);
+          compareDualValues(subgraphState);
+          return subgraphState;
+        }, pool));
+      }
+      List<ComparisonState> subgraphStates = new ArrayList<>(subgraphs.size());
+      for (Future<ComparisonState> subgraphComparison : subgraphComparisons) {
+        subgraphStates.add(getSubgraphComparison(subgraphComparison));
+      }
+      return subgraphStates;
+    } finally {
+      // don't start the other subgraphs comparisons if one has failed
+      subgraphComparisons.forEach(subgraphComparison -> subgraphComparison.cancel(false));
+    }
+  }
+
+  private static boolean isComparedAsUnorderedIterable(DualValue dualValue,
+                                                       RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return dualValue.isExpectedFieldAnIterable()
+           && (!dualValue.isExpectedFieldAnOrderedCollection()
+               || recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue));
+  }
+
+  private static ComparisonState getSubgraphComparison(Future<ComparisonState> subgraphComparison) {
+    try {
+      return subgraphComparison.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while comparing objects recursively in parallel", e);
+    } catch (ExecutionException e) {
+      // rethrow what the comparison has thrown, ex: an exception thrown by a custom comparator or an equals method
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new IllegalStateException(cause);
+    }
   }
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
-  private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, List<String> parentPath,
-                                                                 boolean isRootObject, List<DualValue> visited,
-                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    ComparisonState comparisonState = new ComparisonState(visited, recursiveComparisonConfiguration);
+  private static ComparisonState compare(Object actual, Object expected, List<String> parentPath, boolean isRootObject,
+                                         VisitedDualValues visited,
+                                         RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                         ComparisonPlan comparisonPlan, boolean stopAtFirstDifference) {
+    ComparisonState comparisonState = new ComparisonState(visited, recursiveComparisonConfiguration, comparisonPlan,
+                                                          stopAtFirstDifference);
     comparisonState.initDualValuesToCompare(actual, expected, parentPath, isRootObject);
+    compareDualValues(comparisonState);
+    return comparisonState;
+  }
 
+  private static void compareDualValues(ComparisonState comparisonState) {
     while (comparisonState.hasDualValuesToCompare()) {
-      final DualValue dualValue = comparisonState.pickDualValueToCompare();
+      compareDualValue(comparisonState.pickDualValueToCompare(), comparisonState);
+    }
+  }
 
-      final List<String> currentPath = dualValue.getPath();
-      final Object actualFieldValue = dualValue.actual;
-      final Object expectedFieldValue = dualValue.expected;
+  private static void compareDualValue(DualValue dualValue, ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    ComparisonPlan comparisonPlan = comparisonState.comparisonPlan;
 
-      if (actualFieldValue == expectedFieldValue) continue;
+    final Object actualFieldValue = dualValue.actual;
+    final Object expectedFieldValue = dualValue.expected;
 
-      // Custom comparators take precedence over all other types of comparison
-      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
-        if (!propertyOrFieldValuesAreEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
-        // since we used a custom comparator we don't need to inspect the nested fields any further
-        continue;
-      }
+    if (actualFieldValue == expectedFieldValue) return;
 
-      if (actualFieldValue == null || expectedFieldValue == null) {
-        // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
-        comparisonState.addDifference(dualValue);
-        continue;
-      }
+    // Custom comparators take precedence over all other types of comparison
+    if (comparisonPlan.hasCustomComparator(dualValue)) {
+      if (!propertyOrFieldValuesAreEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
+      // since we used a custom comparator we don't need to inspect the nested fields any further
+      return;
+    }
 
-      if (dualValue.isExpectedAnEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      // TODO move hasFieldTypesDifference check into each compareXXX
+    if (actualFieldValue == null || expectedFieldValue == null) {
+      // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
+      comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnArray()) {
-        compareArrays(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedAnEnum()) {
+      compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
+      return;
+    }
+    // TODO move hasFieldTypesDifference check into each compareXXX
 
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedFieldAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue)) {
-        compareOrderedCollections(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnArray()) {
+      compareArrays(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnIterable()) {
-        compareUnorderedIterables(dualValue, comparisonState);
-        continue;
-      }
+    // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+    // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+    if (dualValue.isExpectedFieldAnOrderedCollection()
+        && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue)) {
+      compareOrderedCollections(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnOptional()) {
-        compareOptional(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnIterable()) {
+      compareUnorderedIterables(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedFieldASortedMap()) {
-        compareSortedMap(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnOptional()) {
+      compareOptional(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedFieldAMap()) {
-        compareUnorderedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
+    if (dualValue.isExpectedFieldASortedMap()) {
+      compareSortedMap(dualValue, comparisonState);
+      return;
+    }
 
-      if (shouldCompareDualValue(recursiveComparisonConfiguration, dualValue)) {
-        if (!actualFieldValue.equals(expectedFieldValue)) comparisonState.addDifference(dualValue);
-        continue;
-      }
+    // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
+    // temporary Map must be created, however the comparison still runs in O(N) time.
+    if (dualValue.isExpectedFieldAMap()) {
+      compareUnorderedMap(dualValue, comparisonState);
+      return;
+    }
 
-      Class<?> actualFieldValueClass = actualFieldValue.getClass();
-      Class<?> expectedFieldClass = expectedFieldValue.getClass();
-      if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
-        comparisonState.addDifference(dualValue, STRICT_TYPE_ERROR, expectedFieldClass.getName(),
-                                      actualFieldValueClass.getName());
-        continue;
-      }
+    if (shouldCompareDualValue(recursiveComparisonConfiguration, dualValue)) {
+      if (!actualFieldValue.equals(expectedFieldValue)) comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      Set<String> actualNonIgnoredFieldsNames = recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue);
-      Set<String> expectedFieldsNames = getFieldsNames(expectedFieldClass);
-      // Check if expected has more fields than actual, in that case the additional fields are reported as difference
-      if (!expectedFieldsNames.containsAll(actualNonIgnoredFieldsNames)) {
-        // report missing fields in actual
-        Set<String> actualFieldsNamesNotInExpected = newHashSet(actualNonIgnoredFieldsNames);
-        actualFieldsNamesNotInExpected.removeAll(expectedFieldsNames);
-        String missingFields = actualFieldsNamesNotInExpected.toString();
-        String expectedClassName = expectedFieldClass.getName();
-        String actualClassName = actualFieldValueClass.getName();
-        String missingFieldsDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
-                                                 expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
-                                                 missingFields);
-        comparisonState.addDifference(dualValue, missingFieldsDescription);
-      } else { // TODO remove else to report more diff
-        // compare actual's fields against expected :
-        // - if actual has more fields than expected, the additional fields are ignored as expected is the reference
-        for (String actualFieldName : actualNonIgnoredFieldsNames) {
-          if (expectedFieldsNames.contains(actualFieldName)) {
-            DualValue newDualValue = new DualValue(currentPath, actualFieldName,
-                                                   COMPARISON.getSimpleValue(actualFieldName, actualFieldValue),
-                                                   COMPARISON.getSimpleValue(actualFieldName, expectedFieldValue));
-            comparisonState.registerForComparison(newDualValue);
-          }
+    Class<?> actualFieldValueClass = actualFieldValue.getClass();
+    Class<?> expectedFieldClass = expectedFieldValue.getClass();
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
+      comparisonState.addDifference(dualValue, STRICT_TYPE_ERROR, expectedFieldClass.getName(),
+                                    actualFieldValueClass.getName());
+      return;
+    }
+
+    Set<String> actualNonIgnoredFieldsNames = comparisonPlan.getNonIgnoredActualFieldNames(dualValue);
+    Set<String> expectedFieldsNames = ClassFields.of(expectedFieldClass).names();
+    // Check if expected has more fields than actual, in that case the additional fields are reported as difference
+    if (!expectedFieldsNames.containsAll(actualNonIgnoredFieldsNames)) {
+      // report missing fields in actual
+      Set<String> actualFieldsNamesNotInExpected = newHashSet(actualNonIgnoredFieldsNames);
+      actualFieldsNamesNotInExpected.removeAll(expectedFieldsNames);
+      String missingFields = actualFieldsNamesNotInExpected.toString();
+      String expectedClassName = expectedFieldClass.getName();
+      String actualClassName = actualFieldValueClass.getName();
+      String missingFieldsDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
+                                               expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
+                                               missingFields);
+      comparisonState.addDifference(dualValue, missingFieldsDescription);
+    } else { // TODO remove else to report more diff
+      // compare actual's fields against expected :
+      // - if actual has more fields than expected, the additional fields are ignored as expected is the reference
+      for (String actualFieldName : actualNonIgnoredFieldsNames) {
+        if (expectedFieldsNames.contains(actualFieldName)) {
+          DualValue newDualValue = comparisonPlan.fieldDualValue(dualValue, actualFieldName,
+                                                                 COMPARISON.getSimpleValue(actualFieldName, actualFieldValue),
+                                                                 COMPARISON.getSimpleValue(actualFieldName, expectedFieldValue));
+          comparisonState.registerForComparison(newDualValue);
         }
       }
     }
-    return comparisonState.getDifferences();
   }
 
   private static boolean shouldCompareDualValue(RecursiveComparisonConfiguration recursiveComparisonConfiguration,
@@ -409,29 +635,33 @@ public class RecursiveComparisonDifferenceCalculator {
       // - expected elements not found in actual.
     }
     List<String> path = dualValue.getPath();
-    // copy expected as we will remove elements found in actual
-    Collection<?> expectedCopy = new LinkedList<>(toCollection(expected));
+    // bucket expected elements to only compare actual elements to the expected ones they can possibly match
+    ExpectedElementsBuckets expectedElements = new ExpectedElementsBuckets(toCollection(expected), path,
+                                                                           comparisonState.recursiveComparisonConfiguration);
     for (Object actualElement : actual) {
-      // compare recursively actualElement to all remaining expected elements
-      Iterator<?> expectedIterator = expectedCopy.iterator();
-      while (expectedIterator.hasNext()) {
-        Object expectedElement = expectedIterator.next();
+      // compare recursively actualElement to the remaining expected elements it could match (in expected order)
+      PrimitiveIterator.OfInt candidates = expectedElements.candidatesFor(actualElement);
+      while (candidates.hasNext()) {
+        int candidate = candidates.nextInt();
         // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
-        List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement, path, false,
-                                                                      comparisonState.visitedDualValues,
-                                                                      comparisonState.recursiveComparisonConfiguration);
-        if (differences.isEmpty()) {
+        // the candidate is compared fully even if only matching matters: stopping at its first difference would visit
+        // fewer dual values which, with cycles, could change the outcome of the following comparisons
+        ComparisonState elementComparison = compare(actualElement, expectedElements.get(candidate), path, false,
+                                                    comparisonState.visitedDualValues,
+                                                    comparisonState.recursiveComparisonConfiguration,
+                                                    comparisonState.comparisonPlan, false);
+        if (!elementComparison.hasDifferences()) {
           // we found an element in expected matching actualElement, we must remove it as if actual matches expected
           // it means for each actual element there is one and only matching expected element.
-          expectedIterator.remove();
+          expectedElements.markAsMatched(candidate);
           // jump to next actual element check
           break;
         }
       }
     }
 
-    // expectedCopy not empty = there was at least one actual element not matching any expected elements.
-    if (!expectedCopy.isEmpty()) comparisonState.addDifference(dualValue);
+    // unmatched expected elements = there was at least one actual element not matching any expected elements.
+    if (!expectedElements.allMatched()) comparisonState.addDifference(dualValue);
     // TODO instead we could register the diff between expected and actual that is:
     // - unexpected actual elements (the ones not matching any expected)
     // - expected elements not found in actual.
@@ -610,9 +840,8 @@ public class RecursiveComparisonDifferenceCalculator {
         continue;
       }
 
-      Collection<Field> fields = getDeclaredFieldsIncludingInherited(obj.getClass());
-      for (Field field : fields) {
-        stack.addFirst(COMPARISON.getSimpleValue(field.getName(), obj));
+      for (String fieldName : ClassFields.of(obj.getClass()).names()) {
+        stack.addFirst(COMPARISON.getSimpleValue(fieldName, obj));
       }
     }
     return hash;
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Dual values visited during a recursive comparison, indexed by the identity of their actual and expected values.
+ * <p>
+ * Like {@link DualValue#equals(Object)}, two dual values are considered the same if they reference the same actual and
+ * expected values, this is what cycle detection needs (see should_fix_1854_minimal_test for an explanation).
+ * <p>
+ * Duplicates are precisely tracked (a dual value visited twice is counted twice) as a set would remove them, lookups
+ * are done in constant time instead of scanning all the visited dual values.
+ */
+final class VisitedDualValues {
+
+  private final Map<IdentityPair, Integer> visitCounts;
+
+  VisitedDualValues() {
+    this.visitCounts = new HashMap<>();
+  }
+
+  /**
+   * Copies the given visited dual values, used to compare independent subgraphs starting from the same visited dual values.
+   *
+   * @param visitedDualValues the visited dual values to copy
+   */
+  VisitedDualValues(VisitedDualValues visitedDualValues) {
+    this.visitCounts = new HashMap<>(visitedDualValues.visitCounts);
+  }
+
+  void add(DualValue dualValue) {
+    visitCounts.merge(new IdentityPair(dualValue), 1, Integer::sum);
+  }
+
+  boolean contains(DualValue dualValue) {
+    return visitCounts.containsKey(new IdentityPair(dualValue));
+  }
+
+  /**
+   * Removes from the given dual values the ones already visited, each visit removes one dual value, the first ones
+   * found are removed first.
+   *
+   * @param dualValues the dual values to filter
+   */
+  void removeVisitedFrom(Iterable<DualValue> dualValues) {
+    if (visitCounts.isEmpty()) return;
+    Map<IdentityPair, Integer> removalCounts = new HashMap<>();
+    for (Iterator<DualValue> iterator = dualValues.iterator(); iterator.hasNext();) {
+      IdentityPair identityPair = new IdentityPair(iterator.next());
+      Integer visitCount = visitCounts.get(identityPair);
+      if (visitCount == null) continue;
+      int removalCount = removalCounts.getOrDefault(identityPair, 0);
+      if (removalCount < visitCount) {
+        iterator.remove();
+        removalCounts.put(identityPair, removalCount + 1);
+      }
+    }
+  }
+
+  // actual and expected compared by reference, hashed with their identity hash code to avoid calling hashCode methods
+  private static final class IdentityPair {
+    private final Object actual;
+    private final Object expected;
+    private final int hashCode;
+
+    private IdentityPair(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+      this.hashCode = 31 * System.identityHashCode(actual) + System.identityHashCode(expected);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof IdentityPair)) return false;
+      IdentityPair that = (IdentityPair) other;
+      return actual == that.actual && expected == that.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
@@ -35,16 +35,22 @@ import org.assertj.core.presentation.Representation;
 public class Configuration {
 
   // default values
-  public static final Configuration DEFAULT_CONFIGURATION = new Configuration();
-
   public static final int MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION = 80;
   public static final int MAX_ELEMENTS_FOR_PRINTING = 1000;
+  public static final int MAX_CHARACTERS_FOR_PRINTING = 100_000;
   public static final boolean REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE = true;
   public static final boolean ALLOW_COMPARING_PRIVATE_FIELDS = true;
   public static final boolean ALLOW_EXTRACTING_PRIVATE_FIELDS = true;
   public static final boolean BARE_NAME_PROPERTY_EXTRACTION_ENABLED = true;
   public static final boolean LENIENT_DATE_PARSING = false;
   public static final boolean PRINT_ASSERTIONS_DESCRIPTION_ENABLED = false;
+  public static final boolean DIGEST_CACHING = false;
+  public static final boolean PARALLEL_EXTRACTION_AND_FILTERING = false;
+  public static final boolean LAZY_SOFT_ASSERTION_ERROR_MESSAGES = false;
+  public static final boolean SOFT_ASSERTION_ERRORS_STACK_TRACE_CAPTURE = true;
+  public static final StackTraceCapture STACK_TRACE_CAPTURE = StackTraceCapture.FULL;
+  // declared after the default values it is built with, STACK_TRACE_CAPTURE is not a compile-time constant
+  public static final Configuration DEFAULT_CONFIGURATION = new Configuration();
 
   private boolean comparingPrivateFields = ALLOW_COMPARING_PRIVATE_FIELDS;
   private boolean extractingPrivateFields = ALLOW_EXTRACTING_PRIVATE_FIELDS;
@@ -54,8 +60,14 @@ public class Configuration {
   private List<DateFormat> additionalDateFormats = emptyList();
   private int maxLengthForSingleLineDescription = MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private int maxElementsForPrinting = MAX_ELEMENTS_FOR_PRINTING;
+  private int maxCharactersForPrinting = MAX_CHARACTERS_FOR_PRINTING;
   private boolean printAssertionsDescription = PRINT_ASSERTIONS_DESCRIPTION_ENABLED;
   private Consumer<Description> descriptionConsumer = null;
+  private boolean digestCaching = DIGEST_CACHING;
+  private boolean parallelExtractionAndFiltering = PARALLEL_EXTRACTION_AND_FILTERING;
+  private boolean lazySoftAssertionErrorMessages = LAZY_SOFT_ASSERTION_ERROR_MESSAGES;
+  private boolean softAssertionErrorsStackTraceCapture = SOFT_ASSERTION_ERRORS_STACK_TRACE_CAPTURE;
+  private StackTraceCapture stackTraceCapture = STACK_TRACE_CAPTURE;
 
   /**
    * @return the default {@link Representation} that is used within AssertJ.
@@ -279,6 +291,32 @@ public class Configuration {
     this.maxElementsForPrinting = maxElementsForPrinting;
   }
 
+  /**
+   * Returns how many characters at most are used to represent the elements of one iterable/array/map in error messages.
+   * <p>
+   * Default is {@value #MAX_CHARACTERS_FOR_PRINTING}.
+   * <p>
+   * See {@link Assertions#setMaxCharactersForPrinting(int)} for a detailed description.
+   *
+   * @return the maximum number of characters used to represent the elements of an iterable/array/map.
+   */
+  public int maxCharactersForPrinting() {
+    return maxCharactersForPrinting;
+  }
+
+  /**
+   * Sets how many characters at most are used to represent the elements of one iterable/array/map in error messages.
+   * <p>
+   * See {@link Assertions#setMaxCharactersForPrinting(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxCharactersForPrinting the maximum number of characters used to represent the elements of an iterable/array/map.
+   */
+  public void setMaxCharactersForPrinting(int maxCharactersForPrinting) {
+    this.maxCharactersForPrinting = maxCharactersForPrinting;
+  }
+
   public boolean printAssertionsDescription() {
     return printAssertionsDescription;
   }
@@ -295,6 +333,126 @@ public class Configuration {
     this.descriptionConsumer = descriptionConsumer;
   }
 
+  /**
+   * Returns whether the digests of files are cached. Default is {@value #DIGEST_CACHING}.
+   * <p>
+   * See {@link Assertions#setDigestCaching(boolean)} for a detailed description.
+   *
+   * @return whether the digests of files are cached.
+   */
+  public boolean digestCachingEnabled() {
+    return digestCaching;
+  }
+
+  /**
+   * Sets whether the digests of files are cached.
+   * <p>
+   * See {@link Assertions#setDigestCaching(boolean)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param digestCaching whether the digests of files are cached.
+   */
+  public void setDigestCaching(boolean digestCaching) {
+    this.digestCaching = digestCaching;
+  }
+
+  /**
+   * Returns whether elements are extracted and filtered in parallel. Default is {@value #PARALLEL_EXTRACTION_AND_FILTERING}.
+   * <p>
+   * See {@link Assertions#setParallelExtractionAndFiltering(boolean)} for a detailed description.
+   *
+   * @return whether elements are extracted and filtered in parallel.
+   */
+  public boolean parallelExtractionAndFilteringEnabled() {
+    return parallelExtractionAndFiltering;
+  }
+
+  /**
+   * Sets whether elements are extracted and filtered in parallel.
+   * <p>
+   * See {@link Assertions#setParallelExtractionAndFiltering(boolean)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param parallelExtractionAndFiltering whether elements are extracted and filtered in parallel.
+   */
+  public void setParallelExtractionAndFiltering(boolean parallelExtractionAndFiltering) {
+    this.parallelExtractionAndFiltering = parallelExtractionAndFiltering;
+  }
+
+  /**
+   * Returns whether the message of the errors collected by soft assertions is built lazily. Default is {@value #LAZY_SOFT_ASSERTION_ERROR_MESSAGES}.
+   * <p>
+   * See {@link Assertions#setLazySoftAssertionErrorMessages(boolean)} for a detailed description.
+   *
+   * @return whether the message of the errors collected by soft assertions is built lazily.
+   */
+  public boolean lazySoftAssertionErrorMessagesEnabled() {
+    return lazySoftAssertionErrorMessages;
+  }
+
+  /**
+   * Sets whether the message of the errors collected by soft assertions is built lazily.
+   * <p>
+   * See {@link Assertions#setLazySoftAssertionErrorMessages(boolean)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param lazySoftAssertionErrorMessages whether the message of the errors collected by soft assertions is built lazily.
+   */
+  public void setLazySoftAssertionErrorMessages(boolean lazySoftAssertionErrorMessages) {
+    this.lazySoftAssertionErrorMessages = lazySoftAssertionErrorMessages;
+  }
+
+  /**
+   * Returns whether the stack trace of the lazy errors collected by soft assertions is captured. Default is {@value #SOFT_ASSERTION_ERRORS_STACK_TRACE_CAPTURE}.
+   * <p>
+   * See {@link Assertions#setSoftAssertionErrorsStackTraceCapture(boolean)} for a detailed description.
+   *
+   * @return whether the stack trace of the lazy errors collected by soft assertions is captured.
+   */
+  public boolean softAssertionErrorsStackTraceCaptureEnabled() {
+    return softAssertionErrorsStackTraceCapture;
+  }
+
+  /**
+   * Sets whether the stack trace of the lazy errors collected by soft assertions is captured.
+   * <p>
+   * See {@link Assertions#setSoftAssertionErrorsStackTraceCapture(boolean)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param softAssertionErrorsStackTraceCapture whether the stack trace of the lazy errors collected by soft assertions is captured.
+   */
+  public void setSoftAssertionErrorsStackTraceCapture(boolean softAssertionErrorsStackTraceCapture) {
+    this.softAssertionErrorsStackTraceCapture = softAssertionErrorsStackTraceCapture;
+  }
+
+  /**
+   * Returns how the stack trace of assertion errors is captured. Default is {@link StackTraceCapture#FULL FULL}.
+   * <p>
+   * See {@link Assertions#setStackTraceCapture(StackTraceCapture)} for a detailed description.
+   *
+   * @return how the stack trace of assertion errors is captured.
+   */
+  public StackTraceCapture stackTraceCapture() {
+    return stackTraceCapture;
+  }
+
+  /**
+   * Sets how the stack trace of assertion errors is captured.
+   * <p>
+   * See {@link Assertions#setStackTraceCapture(StackTraceCapture)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param stackTraceCapture how the stack trace of assertion errors is captured.
+   */
+  public void setStackTraceCapture(StackTraceCapture stackTraceCapture) {
+    this.stackTraceCapture = stackTraceCapture;
+  }
+
   /**
    * Applies this configuration to AssertJ.
    */
@@ -304,11 +462,17 @@ public class Configuration {
     Assertions.setExtractBareNamePropertyMethods(bareNamePropertyExtractionEnabled());
     Assertions.setLenientDateParsing(lenientDateParsingEnabled());
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting());
+    Assertions.setMaxCharactersForPrinting(maxCharactersForPrinting());
     Assertions.setMaxLengthForSingleLineDescription(maxLengthForSingleLineDescription());
     Assertions.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTraceEnabled());
     Assertions.useRepresentation(representation());
     Assertions.setDescriptionConsumer(descriptionConsumer());
     Assertions.setPrintAssertionsDescription(printAssertionsDescription());
+    Assertions.setDigestCaching(digestCachingEnabled());
+    Assertions.setParallelExtractionAndFiltering(parallelExtractionAndFilteringEnabled());
+    Assertions.setLazySoftAssertionErrorMessages(lazySoftAssertionErrorMessagesEnabled());
+    Assertions.setSoftAssertionErrorsStackTraceCapture(softAssertionErrorsStackTraceCaptureEnabled());
+    Assertions.setStackTraceCapture(stackTraceCapture());
     additionalDateFormats().forEach(Assertions::registerCustomDateFormat);
   }
 
@@ -330,8 +494,14 @@ public class Configuration {
                   "- additional date formats ......................... = %s%n" +
                   "- maxLengthForSingleLineDescription ............... = %s%n" +
                   "- maxElementsForPrinting .......................... = %s%n" +
+                  "- maxCharactersForPrinting ........................ = %s%n" +
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
+                  "- digestCachingEnabled ............................ = %s%n" +
+                  "- parallelExtractionAndFilteringEnabled ........... = %s%n" +
+                  "- lazySoftAssertionErrorMessagesEnabled ........... = %s%n" +
+                  "- softAssertionErrorsStackTraceCaptureEnabled ..... = %s%n" +
+                  "- stackTraceCapture ............................... = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n",
                   getClass().getName(),
                   representation(),
@@ -342,8 +512,14 @@ public class Configuration {
                   describeAdditionalDateFormats(),
                   maxLengthForSingleLineDescription(),
                   maxElementsForPrinting(),
+                  maxCharactersForPrinting(),
                   printAssertionsDescription(),
                   descriptionConsumer(),
+                  digestCachingEnabled(),
+                  parallelExtractionAndFilteringEnabled(),
+                  lazySoftAssertionErrorMessagesEnabled(),
+                  softAssertionErrorsStackTraceCaptureEnabled(),
+                  stackTraceCapture(),
                   removeAssertJRelatedElementsFromStackTraceEnabled());
   }
 
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.configuration;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * How the stack trace of the {@link AssertionError}s created by AssertJ is captured, see
+ * {@link Assertions#setStackTraceCapture(StackTraceCapture)}.
+ *
+ * @since 3.18.0
+ */
+public enum StackTraceCapture {
+
+  /**
+   * The full stack trace is captured, AssertJ related elements are then removed from it unless
+   * {@link Assertions#setRemoveAssertJRelatedElementsFromStackTrace(boolean)} is disabled (default).
+   */
+  FULL,
+
+  /**
+   * Only the stack frames not related to AssertJ are captured, they are skipped while walking the stack instead of
+   * being removed afterwards (on Java 8 the full stack trace is captured and filtered).
+   */
+  WITHOUT_ASSERTJ_FRAMES,
+
+  /**
+   * Only the first {@value #TRUNCATED_STACK_TRACE_DEPTH} stack frames not related to AssertJ are captured, that is the
+   * failing assertion call and the calls leading to it.
+   */
+  TRUNCATED,
+
+  /**
+   * No stack trace is captured, the cheapest option when failures are the expected outcome but the errors don't tell
+   * where they come from anymore.
+   */
+  NONE;
+
+  /**
+   * The number of stack frames kept by {@link #TRUNCATED}.
+   */
+  public static final int TRUNCATED_STACK_TRACE_DEPTH = 10;
+}
@@ -32,6 +32,30 @@ public class ElementsShouldSatisfy extends BasicErrorMessageFactory {
                                      actual, elementsNotSatisfyingRequirements, info);
   }
 
+  /**
+   * Creates a new {@link ElementsShouldSatisfy} reporting only some of the elements not satisfying the requirements and how
+   * many others did not satisfy them either.
+   *
+   * @param actual the actual value in the failed assertion.
+   * @param reportedElementsNotSatisfyingRequirements the elements not satisfying the requirements to report.
+   * @param unreportedElementsCount how many other elements did not satisfy the requirements.
+   * @param info the {@link AssertionInfo} of the failed assertion.
+   * @return the created {@code ErrorMessageFactory}.
+   * @since 3.18.0
+   */
+  public static ErrorMessageFactory elementsShouldSatisfyAny(Object actual,
+                                                             List<UnsatisfiedRequirement> reportedElementsNotSatisfyingRequirements,
+                                                             long unreportedElementsCount, AssertionInfo info) {
+    if (unreportedElementsCount == 0) return elementsShouldSatisfyAny(actual, reportedElementsNotSatisfyingRequirements, info);
+    return new ElementsShouldSatisfy("%n" +
+                                     "Expecting any element of:%n" +
+                                     "  <%s>%n" +
+                                     "to satisfy the given assertions requirements but none did:%n%n",
+                                     actual, reportedElementsNotSatisfyingRequirements, info,
+                                     format("%n%n  ... and %s other elements not satisfying the requirements",
+                                            unreportedElementsCount));
+  }
+
   public static ErrorMessageFactory elementsShouldSatisfy(Object actual,
                                                           List<UnsatisfiedRequirement> elementsNotSatisfyingRestrictions,
                                                           AssertionInfo info) {
@@ -47,6 +71,11 @@ public class ElementsShouldSatisfy extends BasicErrorMessageFactory {
     super(message + describeErrors(elementsNotSatisfyingRequirements, info), actual);
   }
 
+  private ElementsShouldSatisfy(String message, Object actual, List<UnsatisfiedRequirement> elementsNotSatisfyingRequirements,
+                                AssertionInfo info, String unreportedElementsDescription) {
+    super(message + describeErrors(elementsNotSatisfyingRequirements, info) + unreportedElementsDescription, actual);
+  }
+
   private static String describeErrors(List<UnsatisfiedRequirement> elementsNotSatisfyingRequirements, AssertionInfo info) {
     return escapePercent(elementsNotSatisfyingRequirements.stream()
                                                           .map(unsatisfiedRequirement -> unsatisfiedRequirement.describe(info))
@@ -12,16 +12,15 @@
  */
 package org.assertj.core.groups;
 
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.IterableUtil.toArray;
 import static org.assertj.core.util.Lists.newArrayList;
-import static org.assertj.core.util.Streams.stream;
 
 import java.util.List;
 import java.util.function.Function;
 
 import org.assertj.core.api.AbstractIterableAssert;
 import org.assertj.core.api.AbstractObjectArrayAssert;
+import org.assertj.core.internal.ElementProcessing;
 
 /**
  * Understands how to retrieve fields or values from a collection/array of objects.
@@ -61,7 +60,7 @@ public class FieldsOrPropertiesExtractor {
    */
   public static <F, T> List<T> extract(Iterable<? extends F> objects, Function<? super F, T> extractor) {
     checkObjectToExtractFromIsNotNull(objects);
-    return stream(objects).map(extractor).collect(toList());
+    return ElementProcessing.map(objects, extractor);
   }
 
   private static void checkObjectToExtractFromIsNotNull(Object object) {
@@ -196,10 +196,16 @@ public class Arrays {
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
     Set<Object> notFound = new LinkedHashSet<>();
-    int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) notFound.add(value);
+    if (PrimitiveArray.canCompare(comparisonStrategy, actual, values)) {
+      PrimitiveArray primitiveValues = PrimitiveArray.of(values);
+      long[] foundKeys = PrimitiveArray.of(actual).find(primitiveValues.sortedDistinctKeys());
+      notFound.addAll(primitiveValues.elementsNotIn(foundKeys));
+    } else {
+      int valueCount = sizeOf(values);
+      for (int i = 0; i < valueCount; i++) {
+        Object value = Array.get(values, i);
+        if (!arrayContains(actual, value)) notFound.add(value);
+      }
     }
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -242,13 +248,22 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterableRemoves(notExpected, value);
-        iterableRemoves(notFound, value);
+    List<Object> notExpected;
+    List<Object> notFound;
+    if (PrimitiveArray.canCompare(comparisonStrategy, actual, values)) {
+      PrimitiveArray primitiveActual = PrimitiveArray.of(actual);
+      PrimitiveArray primitiveValues = PrimitiveArray.of(values);
+      long[] valueKeys = primitiveValues.sortedDistinctKeys();
+      notExpected = primitiveActual.elementsNotIn(valueKeys);
+      notFound = primitiveValues.elementsNotIn(primitiveActual.find(valueKeys));
+    } else {
+      notExpected = asList(actual);
+      notFound = asList(values);
+      for (Object value : asList(values)) {
+        if (iterableContains(notExpected, value)) {
+          iterableRemoves(notExpected, value);
+          iterableRemoves(notFound, value);
+        }
       }
     }
 
@@ -275,6 +290,8 @@ public class Arrays {
     if (commonChecks(info, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    // primitive arrays are compared without boxing their elements, which is then only done to report the differences
+    if (PrimitiveArray.canCompare(comparisonStrategy, actual, values) && java.util.Objects.deepEquals(actual, values)) return;
 
     List<Object> actualAsList = asList(actual);
     IterableDiff diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -344,6 +361,10 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
+    if (PrimitiveArray.canCompare(comparisonStrategy, actual, sequence)) {
+      if (PrimitiveArray.of(actual).indexOf(PrimitiveArray.of(sequence)) >= 0) return;
+      throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
+    }
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
     int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
     for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
@@ -474,6 +495,8 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    // the duplicates are only looked for with boxed elements to report them
+    if (PrimitiveArray.canCompare(comparisonStrategy, array) && !PrimitiveArray.of(array).hasDuplicates()) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
@@ -677,6 +700,11 @@ public class Arrays {
     }
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0) return;
+    if (PrimitiveArray.canCompare(comparisonStrategy, array)) {
+      int unsortedIndex = PrimitiveArray.of(array).indexOfFirstUnsortedElement();
+      if (unsortedIndex >= 0) throw failures.failure(info, shouldBeSorted(unsortedIndex, array));
+      return;
+    }
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
       // sorted assertion is only relevant if array elements are Comparable
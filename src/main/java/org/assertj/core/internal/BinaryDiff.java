@@ -12,10 +12,16 @@
  */
 package org.assertj.core.internal;
 
+import static java.nio.file.StandardOpenOption.READ;
+
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -30,6 +36,9 @@ import org.assertj.core.util.VisibleForTesting;
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final int EOF = -1;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
@@ -37,8 +46,23 @@ public class BinaryDiff {
 
   @VisibleForTesting
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
-    try (InputStream actualStream = Files.newInputStream(actual)) {
-      return diff(actualStream, expected);
+    try (FileChannel actualChannel = FileChannel.open(actual, READ);
+        ReadableByteChannel expectedChannel = Channels.newChannel(new ByteArrayInputStream(expected))) {
+      return diff(actualChannel, expectedChannel);
+    }
+  }
+
+  @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    if (Files.isSameFile(actual, expected)) return BinaryDiffResult.noDiff();
+    try (FileChannel actualChannel = FileChannel.open(actual, READ);
+        FileChannel expectedChannel = FileChannel.open(expected, READ)) {
+      return diff(actualChannel, expectedChannel);
     }
   }
 
@@ -51,7 +75,7 @@ public class BinaryDiff {
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    long index = 0;
     while (true) {
       int actual = actualStream.read();
       int expected = expectedStream.read();
@@ -60,4 +84,49 @@ public class BinaryDiff {
       index += 1;
     }
   }
+
+  /**
+   * Compares the channels contents chunk by chunk, a chunk is compared 8 bytes at a time until a difference is found.
+   */
+  private BinaryDiffResult diff(ReadableByteChannel actualChannel, ReadableByteChannel expectedChannel) throws IOException {
+    ByteBuffer actualChunk = ByteBuffer.allocate(CHUNK_SIZE);
+    ByteBuffer expectedChunk = ByteBuffer.allocate(CHUNK_SIZE);
+    long chunkOffset = 0;
+    while (true) {
+      int actualChunkSize = readChunk(actualChannel, actualChunk);
+      int expectedChunkSize = readChunk(expectedChannel, expectedChunk);
+      int commonSize = Math.min(actualChunkSize, expectedChunkSize);
+      int index = indexOfFirstDifference(actualChunk, expectedChunk, commonSize);
+      if (index < commonSize || actualChunkSize != expectedChunkSize) {
+        return new BinaryDiffResult(chunkOffset + index, byteAt(expectedChunk, index), byteAt(actualChunk, index));
+      }
+      if (commonSize == 0) return BinaryDiffResult.noDiff(); // reached end of both channels
+      chunkOffset += commonSize;
+    }
+  }
+
+  // fills the chunk unless the end of the channel is reached
+  private static int readChunk(ReadableByteChannel channel, ByteBuffer chunk) throws IOException {
+    chunk.clear();
+    while (chunk.hasRemaining() && channel.read(chunk) != EOF) {
+      // keep reading
+    }
+    chunk.flip();
+    return chunk.limit();
+  }
+
+  private static int indexOfFirstDifference(ByteBuffer actualChunk, ByteBuffer expectedChunk, int size) {
+    int index = 0;
+    while (index + Long.BYTES <= size && actualChunk.getLong(index) == expectedChunk.getLong(index)) {
+      index += Long.BYTES;
+    }
+    while (index < size && actualChunk.get(index) == expectedChunk.get(index)) {
+      index++;
+    }
+    return index;
+  }
+
+  private static int byteAt(ByteBuffer chunk, int index) {
+    return index < chunk.limit() ? chunk.get(index) & 0xFF : EOF;
+  }
 }
@@ -20,9 +20,14 @@ package org.assertj.core.internal;
 public class BinaryDiffResult {
   private static final int EOF = -1;
 
+  /**
+   * The offset at which the difference occurred, {@link Integer#MAX_VALUE} if it does not fit in an {@code int}, see
+   * {@link #longOffset()} for the exact value.
+   */
   public final int offset;
   public final String expected;
   public final String actual;
+  private final long longOffset;
 
   /**
    * Builds a new instance.
@@ -32,13 +37,36 @@ public class BinaryDiffResult {
    * @param actual the actual byte in the same format.
    */
   public BinaryDiffResult(int offset, int expected, int actual) {
-    this.offset = offset;
+    this((long) offset, expected, actual);
+  }
+
+  /**
+   * Builds a new instance for contents that can be larger than {@link Integer#MAX_VALUE} bytes.
+   *
+   * @param offset the offset at which the difference occurred.
+   * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
+   * @param actual the actual byte in the same format.
+   * @since 3.18.0
+   */
+  public BinaryDiffResult(long offset, int expected, int actual) {
+    this.longOffset = offset;
+    this.offset = (int) Math.min(offset, Integer.MAX_VALUE);
     this.expected = describe(expected);
     this.actual = describe(actual);
   }
 
+  /**
+   * Returns the offset at which the difference occurred, even if it does not fit in an {@code int}.
+   *
+   * @return the offset at which the difference occurred.
+   * @since 3.18.0
+   */
+  public long longOffset() {
+    return longOffset;
+  }
+
   public boolean hasNoDiff() {
-    return offset == EOF;
+    return longOffset == EOF;
   }
 
   public boolean hasDiff() {
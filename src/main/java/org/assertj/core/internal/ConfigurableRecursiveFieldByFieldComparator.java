@@ -52,7 +52,7 @@ public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<O
 
   protected boolean areEqual(Object actual, Object other) {
     try {
-      return recursiveComparisonDifferenceCalculator.determineDifferences(actual, other, configuration).isEmpty();
+      return !recursiveComparisonDifferenceCalculator.hasDifferences(actual, other, configuration);
     } catch (@SuppressWarnings("unused") IntrospectionError e) {
       return false;
     }
@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import org.assertj.core.configuration.StackTraceCapture;
+
+/**
+ * {@link AssertionError} that doesn't capture its stack trace when created, {@link Failures} sets it according to the
+ * configured {@link StackTraceCapture}.
+ *
+ * @since 3.18.0
+ */
+public class ConfiguredStackTraceAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  ConfiguredStackTraceAssertionError(String message) {
+    super(message);
+  }
+
+  /**
+   * Creates a new {@link ConfiguredStackTraceAssertionError}, used to copy a collected error when decorating its
+   * message.
+   *
+   * @param message the detail message.
+   * @param cause the cause, may be {@code null}.
+   */
+  public ConfiguredStackTraceAssertionError(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
@@ -169,17 +169,39 @@ public class DeepDifference {
         ? new TreeMap<>()
         : comparatorByPropertyOrField;
     comparatorByType = comparatorByType == null ? defaultTypeComparators() : comparatorByType;
-    return determineDifferences(a, b, null, comparatorByPropertyOrField, comparatorByType);
+    return determineDifferences(a, b, null, comparatorByPropertyOrField, comparatorByType, false);
+  }
+
+  /**
+   * Compare two objects like {@link #determineDifferences(Object, Object, Map, TypeComparators)} but stops at the first
+   * difference found, this is faster when only knowing whether the objects are equivalent matters.
+   *
+   * @param a Object one to compare
+   * @param b Object two to compare
+   * @param comparatorByPropertyOrField comparators to compare properties or fields with the given names
+   * @param comparatorByType comparators to compare properties or fields with the given types
+   * @return true if {@link #determineDifferences(Object, Object, Map, TypeComparators)} would find differences, false
+   *         otherwise.
+   */
+  public static boolean hasDifferences(Object a, Object b, Map<String, Comparator<?>> comparatorByPropertyOrField,
+                                       TypeComparators comparatorByType) {
+    comparatorByPropertyOrField = comparatorByPropertyOrField == null
+        ? new TreeMap<>()
+        : comparatorByPropertyOrField;
+    comparatorByType = comparatorByType == null ? defaultTypeComparators() : comparatorByType;
+    return !determineDifferences(a, b, null, comparatorByPropertyOrField, comparatorByType, true).isEmpty();
   }
 
   private static List<Difference> determineDifferences(Object a, Object b, List<String> parentPath,
                                                        Map<String, Comparator<?>> comparatorByPropertyOrField,
-                                                       TypeComparators comparatorByType) {
+                                                       TypeComparators comparatorByType, boolean stopAtFirstDifference) {
     final Set<DualKey> visited = new HashSet<>();
     final Deque<DualKey> toCompare = initStack(a, b, parentPath, comparatorByPropertyOrField, comparatorByType);
     final List<Difference> differences = new ArrayList<>();
 
     while (!toCompare.isEmpty()) {
+      if (stopAtFirstDifference && !differences.isEmpty()) break;
+
       final DualKey dualKey = toCompare.removeFirst();
       visited.add(dualKey);
 
@@ -517,7 +539,8 @@ public class DeepDifference {
       Iterator<V> iterator = col2Copy.iterator();
       while (iterator.hasNext()) {
         Object o2 = iterator.next();
-        if (determineDifferences(o1, o2, path, comparatorByPropertyOrField, comparatorByType).isEmpty()) {
+        // only matching matters, no need to find all the differences of elements that don't match
+        if (determineDifferences(o1, o2, path, comparatorByPropertyOrField, comparatorByType, true).isEmpty()) {
           iterator.remove();
           break;
         }
@@ -24,13 +24,19 @@ import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
-import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 
 
 /**
@@ -47,6 +53,25 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  private static final int DEFAULT_DIFF_WINDOW_SIZE = 1000;
+  // the window is not enlarged past that, the difference is then only reported coarsely
+  private static final int DEFAULT_MAX_DIFF_WINDOW_SIZE = 16 * DEFAULT_DIFF_WINDOW_SIZE;
+  // lines differing more than that are reported as a single change rather than diffed precisely
+  private static final int MAX_EDIT_DISTANCE = 10_000;
+
+  private final int diffWindowSize;
+  private final int maxDiffWindowSize;
+
+  public Diff() {
+    this(DEFAULT_DIFF_WINDOW_SIZE, DEFAULT_MAX_DIFF_WINDOW_SIZE);
+  }
+
+  @VisibleForTesting
+  Diff(int diffWindowSize, int maxDiffWindowSize) {
+    this.diffWindowSize = diffWindowSize;
+    this.maxDiffWindowSize = maxDiffWindowSize;
+  }
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -87,22 +112,149 @@ public class Diff {
 
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
-      
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      return diff(new LineReader(actual), new LineReader(expected));
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
-    List<String> lines = new ArrayList<>();
-    while ((line = reader.readLine()) != null) {
-      lines.add(line);
+  /**
+   * Compares the inputs line by line without keeping them in memory, only the lines following a difference are read in
+   * a window that is diffed, the window is enlarged while its differences don't fit in it.
+   * <p>
+   * If a difference doesn't even fit in the largest window, the inputs are not compared any further and their first
+   * differing lines are reported as a single change, meaning the contents differ from that line on.
+   */
+  private List<Delta<String>> diff(LineReader actual, LineReader expected) throws IOException {
+    List<Delta<String>> deltas = new ArrayList<>();
+    int windowSize = diffWindowSize;
+    while (skipCommonLines(actual, expected)) {
+      int expectedOffset = expected.lineNumber;
+      int actualOffset = actual.lineNumber;
+      List<String> expectedLines = expected.readLines(windowSize);
+      List<String> actualLines = actual.readLines(windowSize);
+      List<Delta<String>> windowDeltas = DiffUtils.diff(expectedLines, actualLines,
+                                                        new LinearSpaceMyersDiff<>(MAX_EDIT_DISTANCE)).getDeltas();
+      // the first lines differ so there is at least one delta, the last one may go on past the window
+      int lastDeltaIndex = windowDeltas.size() - 1;
+      Delta<String> lastDelta = windowDeltas.get(lastDeltaIndex);
+      if (endsWithWindow(lastDelta.getOriginal(), expectedLines, expected)
+          || endsWithWindow(lastDelta.getRevised(), actualLines, actual)) {
+        lastDeltaIndex--;
+      }
+      if (lastDeltaIndex < 0) {
+        // the first difference is larger than the window
+        if (windowSize >= maxDiffWindowSize) {
+          deltas.add(coarseDelta(expectedLines, expectedOffset, actualLines, actualOffset));
+          break;
+        }
+        expected.unread(expectedLines);
+        actual.unread(actualLines);
+        windowSize = Math.min(2 * windowSize, maxDiffWindowSize);
+        continue;
+      }
+      // lines after the last kept delta are compared again to find the next difference
+      lastDelta = windowDeltas.get(lastDeltaIndex);
+      expected.unread(expectedLines.subList(end(lastDelta.getOriginal()), expectedLines.size()));
+      actual.unread(actualLines.subList(end(lastDelta.getRevised()), actualLines.size()));
+      for (Delta<String> delta : windowDeltas.subList(0, lastDeltaIndex + 1)) {
+        deltas.add(shift(delta, expectedOffset, actualOffset));
+      }
+      windowSize = diffWindowSize;
+    }
+    return unmodifiableList(deltas);
+  }
+
+  // returns true if the readers have different lines, the first different lines are left unread
+  private static boolean skipCommonLines(LineReader actual, LineReader expected) throws IOException {
+    while (true) {
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      if (actualLine == null && expectedLine == null) return false;
+      if (actualLine == null || !actualLine.equals(expectedLine)) {
+        actual.unread(actualLine);
+        expected.unread(expectedLine);
+        return true;
+      }
+    }
+  }
+
+  private static boolean endsWithWindow(Chunk<String> chunk, List<String> windowLines, LineReader reader) throws IOException {
+    return end(chunk) == windowLines.size() && reader.hasMoreLines();
+  }
+
+  private static int end(Chunk<String> chunk) {
+    return chunk.getPosition() + chunk.size();
+  }
+
+  private static Delta<String> coarseDelta(List<String> expectedLines, int expectedOffset,
+                                          List<String> actualLines, int actualOffset) {
+    Chunk<String> original = new Chunk<>(expectedOffset, firstLine(expectedLines));
+    Chunk<String> revised = new Chunk<>(actualOffset, firstLine(actualLines));
+    if (expectedLines.isEmpty()) return new InsertDelta<>(original, revised);
+    if (actualLines.isEmpty()) return new DeleteDelta<>(original, revised);
+    return new ChangeDelta<>(original, revised);
+  }
+
+  private static List<String> firstLine(List<String> lines) {
+    return lines.subList(0, Math.min(1, lines.size()));
+  }
+
+  private static Delta<String> shift(Delta<String> delta, int expectedOffset, int actualOffset) {
+    Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + expectedOffset, delta.getOriginal().getLines());
+    Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + actualOffset, delta.getRevised().getLines());
+    switch (delta.getType()) {
+    case INSERT:
+      return new InsertDelta<>(original, revised);
+    case DELETE:
+      return new DeleteDelta<>(original, revised);
+    default:
+      return new ChangeDelta<>(original, revised);
+    }
+  }
+
+  private static class LineReader {
+
+    private final BufferedReader reader;
+    private final Deque<String> unreadLines = new ArrayDeque<>();
+    // number of lines read so far
+    private int lineNumber;
+
+    private LineReader(BufferedReader reader) {
+      this.reader = reader;
+    }
+
+    private String readLine() throws IOException {
+      String line = unreadLines.isEmpty() ? reader.readLine() : unreadLines.pop();
+      if (line != null) lineNumber++;
+      return line;
+    }
+
+    private List<String> readLines(int maxLines) throws IOException {
+      List<String> lines = new ArrayList<>();
+      String line;
+      while (lines.size() < maxLines && (line = readLine()) != null) {
+        lines.add(line);
+      }
+      return lines;
+    }
+
+    private boolean hasMoreLines() throws IOException {
+      String line = readLine();
+      unread(line);
+      return line != null;
+    }
+
+    private void unread(String line) {
+      if (line == null) return;
+      unreadLines.push(line);
+      lineNumber--;
+    }
+
+    private void unread(List<String> lines) {
+      for (int i = lines.size() - 1; i >= 0; i--) {
+        unread(lines.get(i));
+      }
     }
-    return lines;
   }
 }
@@ -12,12 +12,24 @@
  */
 package org.assertj.core.internal;
 
+import static java.nio.file.Files.readAttributes;
+import static java.util.Collections.synchronizedMap;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.util.Hexadecimals.byteToHexString;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Reusable utils for digest processing
@@ -26,7 +38,12 @@ import java.security.MessageDigest;
  */
 public final class Digests {
 
-  private static final int BUFFER_SIZE = 1024 * 8;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  @VisibleForTesting
+  static final int MAX_CACHED_DIGESTS = 256;
+  private static final Map<DigestKey, CachedDigest> DIGEST_CACHE = synchronizedMap(new LeastRecentlyUsedDigests());
+  private static volatile boolean digestCaching = Configuration.DIGEST_CACHING;
 
   private Digests() {
   }
@@ -53,15 +70,158 @@ public final class Digests {
     requireNonNull(stream, "The stream should not be null");
     requireNonNull(messageDigest, "The digest should not be null");
     requireNonNull(expected, "The expected should not be null");
+    return new DigestDiff(toHex(digest(stream, messageDigest)), toHex(expected), messageDigest);
+  }
+
+  /**
+   * Compares the digest of the given file content with the expected one, the digest is read from the cache when
+   * {@link #setDigestCaching(boolean) digest caching} is enabled and the file has not changed since it was cached.
+   * <p>
+   * Only the digests of the {@value #MAX_CACHED_DIGESTS} most recently used files are kept, the digest of a file that
+   * changed while being read is not cached.
+   *
+   * @param path the file to compute the digest of
+   * @param content opens the file content, it is not called if the digest is cached
+   * @param messageDigest the digest algorithm
+   * @param expected the expected digest
+   * @return the digests comparison
+   * @throws IOException if the file attributes or content can't be read
+   */
+  static DigestDiff digestDiff(Path path, FileContent content, MessageDigest messageDigest,
+                               byte[] expected) throws IOException {
+    requireNonNull(messageDigest, "The digest should not be null");
+    requireNonNull(expected, "The expected should not be null");
+    byte[] actualDigest = digestCaching ? cachedDigest(path, content, messageDigest) : digest(content, messageDigest);
+    return new DigestDiff(toHex(actualDigest), toHex(expected), messageDigest);
+  }
+
+  /**
+   * Enables/disables caching the digests of files, disabling it clears the cache.
+   * <p>
+   * See {@link org.assertj.core.api.Assertions#setDigestCaching(boolean)} for a detailed description.
+   *
+   * @param digestCaching whether to cache the digests of files
+   */
+  public static void setDigestCaching(boolean digestCaching) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    Digests.digestCaching = digestCaching;
+    if (!digestCaching) DIGEST_CACHE.clear();
+  }
+
+  public static boolean isDigestCachingEnabled() {
+    return digestCaching;
+  }
+
+  private static byte[] cachedDigest(Path path, FileContent content, MessageDigest messageDigest) throws IOException {
+    DigestKey key = new DigestKey(path.toAbsolutePath().normalize(), messageDigest.getAlgorithm());
+    FileVersion version = FileVersion.of(path);
+    CachedDigest cachedDigest = DIGEST_CACHE.get(key);
+    if (cachedDigest != null && cachedDigest.version.equals(version)) return cachedDigest.digest;
+    byte[] digest = digest(content, messageDigest);
+    // the file may have been modified while it was read, then the digest may not match any version of it
+    if (version.equals(FileVersion.of(path))) DIGEST_CACHE.put(key, new CachedDigest(version, digest));
+    else DIGEST_CACHE.remove(key);
+    return digest;
+  }
+
+  private static byte[] digest(FileContent content, MessageDigest messageDigest) throws IOException {
+    try (InputStream stream = content.open()) {
+      return digest(stream, messageDigest);
+    }
+  }
+
+  private static byte[] digest(InputStream stream, MessageDigest messageDigest) throws IOException {
     messageDigest.reset();
     byte[] buffer = new byte[BUFFER_SIZE];
     int len;
     while ((len = stream.read(buffer)) > 0) {
       messageDigest.update(buffer, 0, len);
     }
-    byte[] actualDigest = messageDigest.digest();
-    String expectedHex = toHex(expected);
-    String actualHex = toHex(actualDigest);
-    return new DigestDiff(actualHex, expectedHex, messageDigest);
+    return messageDigest.digest();
+  }
+
+  @FunctionalInterface
+  interface FileContent {
+    InputStream open() throws IOException;
+  }
+
+  private static final class DigestKey {
+
+    private final Path path;
+    private final String algorithm;
+
+    private DigestKey(Path path, String algorithm) {
+      this.path = path;
+      this.algorithm = algorithm;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof DigestKey)) return false;
+      DigestKey other = (DigestKey) obj;
+      return path.equals(other.path) && algorithm.equals(other.algorithm);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, algorithm);
+    }
+  }
+
+  // the file attributes that change when its content does
+  private static final class FileVersion {
+
+    private final long size;
+    private final FileTime lastModifiedTime;
+
+    private FileVersion(long size, FileTime lastModifiedTime) {
+      this.size = size;
+      this.lastModifiedTime = lastModifiedTime;
+    }
+
+    private static FileVersion of(Path path) throws IOException {
+      BasicFileAttributes attributes = readAttributes(path, BasicFileAttributes.class);
+      return new FileVersion(attributes.size(), attributes.lastModifiedTime());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof FileVersion)) return false;
+      FileVersion other = (FileVersion) obj;
+      return size == other.size && lastModifiedTime.equals(other.lastModifiedTime);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(size, lastModifiedTime);
+    }
+  }
+
+  // keeps one digest per file and algorithm, the least recently used ones are evicted first
+  private static final class LeastRecentlyUsedDigests extends LinkedHashMap<DigestKey, CachedDigest> {
+
+    private static final long serialVersionUID = 1L;
+
+    private LeastRecentlyUsedDigests() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<DigestKey, CachedDigest> eldest) {
+      return size() > MAX_CACHED_DIGESTS;
+    }
+  }
+
+  private static final class CachedDigest {
+
+    private final FileVersion version;
+    private final byte[] digest;
+
+    private CachedDigest(FileVersion version, byte[] digest) {
+      this.version = version;
+      this.digest = digest;
+    }
   }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the occurrences of elements compared with {@link StandardComparisonStrategy}, i.e.
+ * {@link java.util.Objects#deepEquals(Object, Object)}, so that iterables can be matched against each other in linear time
+ * instead of searching one of them for each element of the other.
+ * <p>
+ * The results are the same as the ones computed with {@link ComparisonStrategy#iterableContains(Iterable, Object)} and
+ * {@link ComparisonStrategy#iterablesRemoveFirst(Iterable, Object)} as long as the elements {@code hashCode} is consistent
+ * with their {@code equals}, {@link #canCount(ComparisonStrategy, Iterable, Iterable)} must be checked before relying on
+ * it.
+ */
+final class ElementMultiset {
+
+  // caches whether a type hashCode can be trusted, it can't when equals is redefined without redefining hashCode
+  private static final Map<Class<?>, Boolean> HASHABLE_TYPES = new ConcurrentHashMap<>();
+
+  private final Map<Object, int[]> occurrences = new HashMap<>();
+
+  private ElementMultiset(Iterable<?> elements) {
+    for (Object element : elements) {
+      occurrences.computeIfAbsent(keyOf(element), key -> new int[1])[0]++;
+    }
+  }
+
+  static ElementMultiset of(Iterable<?> elements) {
+    return new ElementMultiset(elements);
+  }
+
+  /**
+   * Returns whether the given iterables can be compared with an {@link ElementMultiset}, that is when they are compared
+   * with the {@link StandardComparisonStrategy} and all their elements have a {@code hashCode} consistent with
+   * {@code equals}.
+   *
+   * @param comparisonStrategy the strategy used to compare the elements
+   * @param first the first iterable to compare
+   * @param second the second iterable to compare
+   * @return true if the given iterables can be compared with an {@link ElementMultiset}, false otherwise
+   */
+  static boolean canCount(ComparisonStrategy comparisonStrategy, Iterable<?> first, Iterable<?> second) {
+    // subclasses could redefine areEqual
+    if (comparisonStrategy.getClass() != StandardComparisonStrategy.class) return false;
+    return haveHashableElements(first) && haveHashableElements(second);
+  }
+
+  boolean contains(Object element) {
+    return occurrences.containsKey(keyOf(element));
+  }
+
+  /**
+   * Removes one occurrence of each of the given elements, the elements that had no occurrence left are returned in
+   * iteration order, this is the equivalent of calling {@link ComparisonStrategy#iterablesRemoveFirst(Iterable, Object)}
+   * for each element found.
+   *
+   * @param elements the elements to remove
+   * @return the elements that could not be removed
+   */
+  List<Object> removeEach(Iterable<?> elements) {
+    List<Object> notRemoved = new ArrayList<>();
+    for (Object element : elements) {
+      if (!removeOnce(element)) notRemoved.add(element);
+    }
+    return notRemoved;
+  }
+
+  /**
+   * Returns the given elements that are not in this multiset in iteration order.
+   *
+   * @param elements the elements to look for
+   * @return the given elements that are not in this multiset
+   */
+  List<Object> notContained(Iterable<?> elements) {
+    List<Object> notContained = new ArrayList<>();
+    for (Object element : elements) {
+      if (!contains(element)) notContained.add(element);
+    }
+    return notContained;
+  }
+
+  private boolean removeOnce(Object element) {
+    Object key = keyOf(element);
+    int[] count = occurrences.get(key);
+    if (count == null) return false;
+    if (--count[0] == 0) occurrences.remove(key);
+    return true;
+  }
+
+  private static Object keyOf(Object element) {
+    // arrays are compared by content with deepEquals but have an identity hashCode
+    return element != null && element.getClass().isArray() ? new ArrayKey(element) : element;
+  }
+
+  private static boolean haveHashableElements(Iterable<?> elements) {
+    for (Object element : elements) {
+      if (!isHashable(element)) return false;
+    }
+    return true;
+  }
+
+  private static boolean isHashable(Object element) {
+    if (element == null) return true;
+    // Arrays.deepHashCode relies on the hashCode of the array elements
+    if (element instanceof Object[]) return Arrays.stream((Object[]) element).allMatch(ElementMultiset::isHashable);
+    if (element.getClass().isArray()) return true;
+    return HASHABLE_TYPES.computeIfAbsent(element.getClass(), ElementMultiset::hasHashCodeConsistentWithEquals);
+  }
+
+  private static boolean hasHashCodeConsistentWithEquals(Class<?> type) {
+    try {
+      Class<?> equalsDeclaringClass = type.getMethod("equals", Object.class).getDeclaringClass();
+      Class<?> hashCodeDeclaringClass = type.getMethod("hashCode").getDeclaringClass();
+      // equals redefined in a subclass of the class defining hashCode
+      return equalsDeclaringClass == hashCodeDeclaringClass
+             || !hashCodeDeclaringClass.isAssignableFrom(equalsDeclaringClass);
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static final class ArrayKey {
+
+    private final Object array;
+
+    private ArrayKey(Object array) {
+      this.array = array;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof ArrayKey && java.util.Objects.deepEquals(array, ((ArrayKey) obj).array);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.deepHashCode(new Object[] { array });
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Math.min;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.util.Streams.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Maps and filters the elements of an {@link Iterable}, on the common {@link ForkJoinPool} when parallel processing is
+ * enabled and there are enough elements, in the calling thread otherwise.
+ * <p>
+ * In both cases the result has the elements encounter order and the exception thrown by the function or predicate for
+ * the first failing element (in encounter order) is rethrown unchanged.
+ */
+public class ElementProcessing {
+
+  // below this size, splitting the work costs more than it saves
+  @VisibleForTesting
+  static final int MIN_PARALLEL_PROCESSING_SIZE = 10_000;
+  // more chunks than threads to balance the work when some elements are slower to process than others
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private static volatile boolean parallelProcessing = false;
+
+  /**
+   * Enables/disables processing elements in parallel.
+   *
+   * @param parallelProcessing whether to process elements in parallel.
+   */
+  public static void setParallelProcessing(boolean parallelProcessing) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    ElementProcessing.parallelProcessing = parallelProcessing;
+  }
+
+  public static boolean isParallelProcessingEnabled() {
+    return parallelProcessing;
+  }
+
+  /**
+   * Applies the given function to each element.
+   *
+   * @param <F> the type of the elements.
+   * @param <T> the type of the function results.
+   * @param elements the elements to map.
+   * @param function the function to apply, it must be thread safe when parallel processing is enabled.
+   * @return the function results in the elements encounter order.
+   */
+  public static <F, T> List<T> map(Iterable<? extends F> elements, Function<? super F, T> function) {
+    if (!parallelProcessing) return stream(elements).map(function).collect(toList());
+    List<? extends F> list = indexable(elements);
+    if (!canBeProcessedInParallel(list)) return list.stream().map(function).collect(toList());
+    Object[] results = new Object[list.size()];
+    runInParallel(list.size(), i -> results[i] = function.apply(list.get(i)));
+    List<T> mapped = new ArrayList<>(results.length);
+    for (Object result : results) {
+      @SuppressWarnings("unchecked")
+      T value = (T) result;
+      mapped.add(value);
+    }
+    return mapped;
+  }
+
+  /**
+   * Keeps the elements matching the given predicate.
+   *
+   * @param <E> the type of the elements.
+   * @param elements the elements to filter.
+   * @param predicate the predicate to test, it must be thread safe when parallel processing is enabled.
+   * @return the elements matching the given predicate in their encounter order.
+   */
+  public static <E> List<E> filter(Iterable<? extends E> elements, Predicate<? super E> predicate) {
+    if (!parallelProcessing) return stream(elements).filter(predicate).collect(toList());
+    List<? extends E> list = indexable(elements);
+    if (!canBeProcessedInParallel(list)) return list.stream().filter(predicate).collect(toList());
+    boolean[] matches = new boolean[list.size()];
+    runInParallel(list.size(), i -> matches[i] = predicate.test(list.get(i)));
+    List<E> filtered = new ArrayList<>();
+    for (int i = 0; i < matches.length; i++) {
+      if (matches[i]) filtered.add(list.get(i));
+    }
+    return filtered;
+  }
+
+  private static <E> List<? extends E> indexable(Iterable<? extends E> elements) {
+    if (elements instanceof List && elements instanceof RandomAccess) return (List<? extends E>) elements;
+    return stream(elements).collect(toList());
+  }
+
+  private static boolean canBeProcessedInParallel(List<?> elements) {
+    return elements.size() >= MIN_PARALLEL_PROCESSING_SIZE && ForkJoinPool.getCommonPoolParallelism() > 1;
+  }
+
+  private static void runInParallel(int size, IndexProcessor processor) {
+    int chunkCount = min(size, ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD);
+    Throwable[] failures = new Throwable[chunkCount];
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(chunkCount);
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      int chunkIndex = chunk;
+      int start = (int) ((long) size * chunk / chunkCount);
+      int end = (int) ((long) size * (chunk + 1) / chunkCount);
+      // failures are captured rather than thrown as ForkJoinTask may rethrow a copy of the exception
+      tasks.add(ForkJoinTask.adapt(() -> {
+        try {
+          for (int i = start; i < end; i++) {
+            processor.process(i);
+          }
+        } catch (Throwable failure) {
+          failures[chunkIndex] = failure;
+        }
+      }));
+    }
+    ForkJoinTask.invokeAll(tasks);
+    for (Throwable failure : failures) {
+      if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+      if (failure instanceof Error) throw (Error) failure;
+      // checked exception sneakily thrown by the function or predicate
+      if (failure != null) throw new RuntimeException(failure);
+    }
+  }
+
+  @FunctionalInterface
+  private interface IndexProcessor {
+    void process(int index);
+  }
+
+  private ElementProcessing() {}
+}
@@ -13,15 +13,20 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.configuration.StackTraceCapture.TRUNCATED_STACK_TRACE_DEPTH;
 import static org.assertj.core.util.Strings.isNullOrEmpty;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.configuration.StackTraceCapture;
 import org.assertj.core.description.Description;
 import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.error.AssertionErrorFactory;
@@ -40,6 +45,7 @@ import org.assertj.core.util.VisibleForTesting;
 public class Failures {
 
   private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
 
   private static final Failures INSTANCE = new Failures();
 
@@ -82,6 +88,105 @@ public class Failures {
     return removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * how the stack trace of assertion errors is captured.
+   */
+  private StackTraceCapture stackTraceCapture = Configuration.STACK_TRACE_CAPTURE;
+
+  /**
+   * Sets how the stack trace of assertion errors is captured.
+   *
+   * @param stackTraceCapture the {@link StackTraceCapture} to use.
+   * @throws NullPointerException if the given {@code StackTraceCapture} is {@code null}.
+   * @since 3.18.0
+   */
+  public void setStackTraceCapture(StackTraceCapture stackTraceCapture) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    this.stackTraceCapture = requireNonNull(stackTraceCapture, "The stack trace capture must not be null");
+  }
+
+  /**
+   * Returns how the stack trace of assertion errors is captured.
+   * @return how the stack trace of assertion errors is captured.
+   * @since 3.18.0
+   */
+  public StackTraceCapture getStackTraceCapture() {
+    return stackTraceCapture;
+  }
+
+  /**
+   * flag indicating whether or not the message of the errors collected by soft assertions is built lazily.
+   */
+  private boolean lazySoftAssertionErrorMessages = Configuration.LAZY_SOFT_ASSERTION_ERROR_MESSAGES;
+
+  /**
+   * flag indicating whether or not the stack trace of the lazy errors collected by soft assertions is captured.
+   */
+  private boolean softAssertionErrorsStackTraceCapture = Configuration.SOFT_ASSERTION_ERRORS_STACK_TRACE_CAPTURE;
+
+  private final ThreadLocal<Boolean> inSoftAssertion = ThreadLocal.withInitial(() -> false);
+
+  /**
+   * Sets whether the message of the errors collected by soft assertions is built lazily.
+   *
+   * @param lazySoftAssertionErrorMessages flag
+   * @since 3.18.0
+   */
+  public void setLazySoftAssertionErrorMessages(boolean lazySoftAssertionErrorMessages) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    this.lazySoftAssertionErrorMessages = lazySoftAssertionErrorMessages;
+  }
+
+  /**
+   * Returns whether or not the message of the errors collected by soft assertions is built lazily.
+   * @return whether or not the message of the errors collected by soft assertions is built lazily.
+   * @since 3.18.0
+   */
+  public boolean isLazySoftAssertionErrorMessages() {
+    return lazySoftAssertionErrorMessages;
+  }
+
+  /**
+   * Sets whether the stack trace of the lazy errors collected by soft assertions is captured.
+   *
+   * @param softAssertionErrorsStackTraceCapture flag
+   * @since 3.18.0
+   */
+  public void setSoftAssertionErrorsStackTraceCapture(boolean softAssertionErrorsStackTraceCapture) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    this.softAssertionErrorsStackTraceCapture = softAssertionErrorsStackTraceCapture;
+  }
+
+  /**
+   * Returns whether or not the stack trace of the lazy errors collected by soft assertions is captured.
+   * @return whether or not the stack trace of the lazy errors collected by soft assertions is captured.
+   * @since 3.18.0
+   */
+  public boolean isSoftAssertionErrorsStackTraceCapture() {
+    return softAssertionErrorsStackTraceCapture;
+  }
+
+  /**
+   * Calls the given soft assertion, the failures it creates with an {@link ErrorMessageFactory} are
+   * {@link LazyAssertionError}s if {@link #setLazySoftAssertionErrorMessages(boolean) enabled}.
+   *
+   * @param <T> the type of the soft assertion result.
+   * @param softAssertion the soft assertion to call.
+   * @return the soft assertion result.
+   * @throws Exception any exception thrown by the soft assertion.
+   * @since 3.18.0
+   */
+  public <T> T callSoftAssertion(Callable<T> softAssertion) throws Exception {
+    if (!lazySoftAssertionErrorMessages) return softAssertion.call();
+    Boolean wasInSoftAssertion = inSoftAssertion.get();
+    inSoftAssertion.set(true);
+    try {
+      return softAssertion.call();
+    } finally {
+      inSoftAssertion.set(wasInSoftAssertion);
+    }
+  }
+
   @VisibleForTesting
   Failures() {}
 
@@ -122,7 +227,10 @@ public class Failures {
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory messageFactory) {
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
-    AssertionError assertionError = new AssertionError(messageFactory.create(info.description(), info.representation()));
+    AssertionError assertionError = isLazySoftAssertionFailure()
+        ? new LazyAssertionError(messageFactory, info.description(), info.representation(),
+                                 softAssertionErrorsStackTraceCapture)
+        : newAssertionError(messageFactory.create(info.description(), info.representation()));
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
     return assertionError;
@@ -136,6 +244,28 @@ public class Failures {
     return assertionError;
   }
 
+  private AssertionError newAssertionError(String message) {
+    if (stackTraceCapture == StackTraceCapture.FULL) return new AssertionError(message);
+    AssertionError assertionError = new ConfiguredStackTraceAssertionError(message);
+    assertionError.setStackTrace(captureStackTrace());
+    return assertionError;
+  }
+
+  private StackTraceElement[] captureStackTrace() {
+    switch (stackTraceCapture) {
+    case NONE:
+      return NO_STACK_TRACE;
+    case TRUNCATED:
+      return StackTraces.nonAssertJRelatedElements(TRUNCATED_STACK_TRACE_DEPTH);
+    default:
+      return StackTraces.nonAssertJRelatedElements(Integer.MAX_VALUE);
+    }
+  }
+
+  private boolean isLazySoftAssertionFailure() {
+    return lazySoftAssertionErrorMessages && inSoftAssertion.get();
+  }
+
   protected String assertionErrorMessage(AssertionInfo info, ErrorMessageFactory messageFactory) {
     String overridingErrorMessage = info.overridingErrorMessage();
     String message = isNullOrEmpty(overridingErrorMessage)
@@ -161,7 +291,7 @@ public class Failures {
    * @return the created <code>{@link AssertionError}</code>.
    */
   public AssertionError failure(String message) {
-    AssertionError assertionError = new AssertionError(message);
+    AssertionError assertionError = newAssertionError(message);
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
     return assertionError;
@@ -208,13 +338,34 @@ public class Failures {
   at sun.reflect.DelegatingConstructorAccessorImpl.newInstance(DelegatingConstructorAccessorImpl.java:27)
   at examples.StackTraceFilterExample.main(StackTraceFilterExample.java:20)</code></pre>
    *
+   * When a {@link StackTraceCapture} other than {@link StackTraceCapture#FULL FULL} is set, the stack trace is
+   * reduced accordingly instead (errors created by this class already have the expected stack trace).
+   * <p>
    * Method is public because we need to call it from {@link ShouldBeEqual#newAssertionError(Description, org.assertj.core.presentation.Representation)} that is building a junit ComparisonFailure by reflection.
    *
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
-    if (removeAssertJRelatedElementsFromStackTrace) {
+    // the stack trace was already captured according to stackTraceCapture
+    if (assertionError instanceof ConfiguredStackTraceAssertionError) return;
+    switch (stackTraceCapture) {
+    case NONE:
+      assertionError.setStackTrace(NO_STACK_TRACE);
+      break;
+    case TRUNCATED:
       Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
+      StackTraceElement[] stackTrace = assertionError.getStackTrace();
+      if (stackTrace.length > TRUNCATED_STACK_TRACE_DEPTH) {
+        assertionError.setStackTrace(Arrays.copyOf(stackTrace, TRUNCATED_STACK_TRACE_DEPTH));
+      }
+      break;
+    case WITHOUT_ASSERTJ_FRAMES:
+      Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
+      break;
+    default:
+      if (removeAssertJRelatedElementsFromStackTrace) {
+        Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
+      }
     }
   }
 
@@ -13,7 +13,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -46,7 +45,6 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
@@ -125,7 +123,7 @@ public class Files {
       try {
         // MalformedInputException is thrown by readLine() called in diff
         // compute a binary diff, if there is a binary diff, it it shows the offset of the malformed input
-        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
         if (binaryDiffResult.hasNoDiff()) {
           // fall back to the UncheckedIOException : not throwing an error is wrong as there was one in the first place.
           throw e;
@@ -155,7 +153,7 @@ public class Files {
     verifyIsFile(expected);
     assertIsFile(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(format(UNABLE_TO_COMPARE_FILE_CONTENTS, actual, expected), ioe);
@@ -436,8 +434,9 @@ public class Files {
     assertExists(info, actual);
     assertIsFile(info, actual);
     assertCanRead(info, actual);
-    try (InputStream actualStream = nioFilesWrapper.newInputStream(actual.toPath())) {
-      DigestDiff digestDiff = digestDiff(actualStream, digest, expected);
+    try {
+      Path actualPath = actual.toPath();
+      DigestDiff digestDiff = digestDiff(actualPath, () -> nioFilesWrapper.newInputStream(actualPath), digest, expected);
       if (digestDiff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, digestDiff));
     } catch (IOException e) {
       throw new UncheckedIOException(format("Unable to calculate digest of path:<%s>", actual), e);
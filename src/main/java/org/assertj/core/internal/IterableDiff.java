@@ -51,6 +51,9 @@ class IterableDiff {
    * @return the list of elements in the first iterable that are not in the second, i.e. first - second
    */
   private <T> List<Object> subtract(Iterable<T> first, Iterable<T> second) {
+    if (ElementMultiset.canCount(comparisonStrategy, first, second)) {
+      return unmodifiableList(ElementMultiset.of(second).removeEach(first));
+    }
     List<Object> missingInFirst = new ArrayList<>();
     // use a copy to deal correctly with potential duplicates
     List<T> copyOfSecond = newArrayList(second);
@@ -374,17 +374,25 @@ public class Iterables {
     final List<?> actualAsList = newArrayList(actual);
     if (commonCheckThatIterableAssertionSucceeds(info, actualAsList, expectedValues)) return;
 
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actualAsList);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actualAsList, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
+    List<Object> unexpectedValues;
+    List<Object> missingValues;
+    List<Object> expectedValuesAsList = asList(expectedValues);
+    if (ElementMultiset.canCount(comparisonStrategy, actualAsList, expectedValuesAsList)) {
+      unexpectedValues = ElementMultiset.of(expectedValuesAsList).notContained(actualAsList);
+      missingValues = ElementMultiset.of(actualAsList).notContained(expectedValuesAsList);
+    } else {
+      // after the for loop, unexpected = expectedValues - actual
+      unexpectedValues = newArrayList(actualAsList);
+      // after the for loop, missing = actual - expectedValues
+      missingValues = newArrayList(expectedValues);
+      for (Object expected : expectedValues) {
+        if (iterableContains(actualAsList, expected)) {
+          // since expected was found in actual:
+          // -- it does not belong to the missing elements
+          iterablesRemove(missingValues, expected);
+          // -- it does not belong to the unexpected elements
+          iterablesRemove(unexpectedValues, expected);
+        }
       }
     }
 
@@ -1276,13 +1284,21 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
-    List<Object> notExpected = newArrayList(actual);
-    List<Object> notFound = newArrayList(values);
-
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
+    List<Object> notExpected;
+    List<Object> notFound;
+    List<Object> actualAsList = newArrayList(actual);
+    List<Object> valuesAsList = asList(values);
+    if (ElementMultiset.canCount(comparisonStrategy, actualAsList, valuesAsList)) {
+      notExpected = ElementMultiset.of(valuesAsList).removeEach(actualAsList);
+      notFound = ElementMultiset.of(actualAsList).removeEach(valuesAsList);
+    } else {
+      notExpected = actualAsList;
+      notFound = newArrayList(values);
+      for (Object value : values) {
+        if (iterableContains(notExpected, value)) {
+          iterablesRemoveFirst(notExpected, value);
+          iterablesRemoveFirst(notFound, value);
+        }
       }
     }
 
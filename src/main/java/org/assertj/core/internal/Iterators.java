@@ -12,22 +12,57 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfy;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfyAny;
+import static org.assertj.core.error.ElementsShouldSatisfy.unsatisfiedRequirement;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
 import static org.assertj.core.error.ShouldBeExhausted.shouldBeExhausted;
+import static org.assertj.core.error.ShouldContain.shouldContain;
 import static org.assertj.core.error.ShouldHaveNext.shouldHaveNext;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.internal.CommonValidations.checkIsNotNull;
+import static org.assertj.core.internal.CommonValidations.checkIsNotNullAndNotEmpty;
+import static org.assertj.core.internal.CommonValidations.failIfEmptySinceActualIsNotEmpty;
 import static org.assertj.core.internal.Comparables.assertNotNull;
+import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.error.ElementsShouldSatisfy.UnsatisfiedRequirement;
+import org.assertj.core.presentation.PredicateDescription;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Reusable assertions for <code>{@link Iterator}</code>s.
+ * <p>
+ * The assertions checking the iterator elements read them in a single pass without keeping them in memory and stop as
+ * soon as the result is known, the elements read are consumed and can't be checked again.
  *
  * @author Stephan Windmüller
  */
 public class Iterators {
 
+  // the elements read are not kept, error messages refer to the iterator instead
+  private static final Object ITERATOR_UNDER_TEST = new Object() {
+    @Override
+    public String toString() {
+      return "the iterator under test";
+    }
+  };
+
+  @VisibleForTesting
+  static final int MAX_REPORTED_UNSATISFIED_REQUIREMENTS = 10;
+
   private static final Iterators INSTANCE = new Iterators();
 
   /**
@@ -41,6 +76,9 @@ public class Iterators {
   @VisibleForTesting
   Failures failures = Failures.instance();
 
+  private final ComparisonStrategy comparisonStrategy = StandardComparisonStrategy.instance();
+  private final Predicates predicates = Predicates.instance();
+
   @VisibleForTesting
   Iterators() {}
 
@@ -54,4 +92,123 @@ public class Iterators {
     if (actual.hasNext()) throw failures.failure(info, shouldBeExhausted());
   }
 
+  public void assertContains(AssertionInfo info, Iterator<?> actual, Object[] values) {
+    checkIsNotNull(values);
+    assertNotNull(info, actual);
+    if (values.length == 0) {
+      if (actual.hasNext()) failIfEmptySinceActualIsNotEmpty(values);
+      return;
+    }
+    List<Object> notFound = newArrayList(values);
+    while (!notFound.isEmpty() && actual.hasNext()) {
+      Object element = actual.next();
+      notFound.removeIf(value -> comparisonStrategy.areEqual(element, value));
+    }
+    if (notFound.isEmpty()) return;
+    throw failures.failure(info, shouldContain(ITERATOR_UNDER_TEST, values, notFound));
+  }
+
+  public void assertDoesNotContain(AssertionInfo info, Iterator<?> actual, Object[] values) {
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    List<Object> found = new ArrayList<>();
+    while (actual.hasNext()) {
+      Object element = actual.next();
+      for (Object value : values) {
+        if (comparisonStrategy.areEqual(element, value) && !comparisonStrategy.iterableContains(found, value)) {
+          found.add(value);
+        }
+      }
+    }
+    if (found.isEmpty()) return;
+    throw failures.failure(info, shouldNotContain(ITERATOR_UNDER_TEST, values, found));
+  }
+
+  public void assertStartsWith(AssertionInfo info, Iterator<?> actual, Object[] sequence) {
+    checkIsNotNull(sequence);
+    assertNotNull(info, actual);
+    if (sequence.length == 0) {
+      if (actual.hasNext()) failIfEmptySinceActualIsNotEmpty(sequence);
+      return;
+    }
+    for (Object expected : sequence) {
+      if (!actual.hasNext() || !comparisonStrategy.areEqual(actual.next(), expected)) {
+        throw failures.failure(info, shouldStartWith(ITERATOR_UNDER_TEST, sequence));
+      }
+    }
+  }
+
+  public <E> void assertAnyMatch(AssertionInfo info, Iterator<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    while (actual.hasNext()) {
+      if (predicate.test(actual.next())) return;
+    }
+    throw failures.failure(info, anyElementShouldMatch(ITERATOR_UNDER_TEST, predicateDescription));
+  }
+
+  public <E> void assertAllMatch(AssertionInfo info, Iterator<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    while (actual.hasNext()) {
+      E element = actual.next();
+      if (!predicate.test(element)) {
+        throw failures.failure(info, elementsShouldMatch(ITERATOR_UNDER_TEST, element, predicateDescription));
+      }
+    }
+  }
+
+  public <E> void assertNoneMatch(AssertionInfo info, Iterator<? extends E> actual, Predicate<? super E> predicate,
+                                  PredicateDescription predicateDescription) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    while (actual.hasNext()) {
+      E element = actual.next();
+      if (predicate.test(element)) {
+        throw failures.failure(info, noElementsShouldMatch(ITERATOR_UNDER_TEST, element, predicateDescription));
+      }
+    }
+  }
+
+  public <E> void assertAllSatisfy(AssertionInfo info, Iterator<? extends E> actual, Consumer<? super E> requirements) {
+    assertNotNull(info, actual);
+    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+    while (actual.hasNext()) {
+      UnsatisfiedRequirement unsatisfiedRequirement = failsRequirements(requirements, actual.next());
+      if (unsatisfiedRequirement != null) {
+        throw failures.failure(info, elementsShouldSatisfy(ITERATOR_UNDER_TEST, singletonList(unsatisfiedRequirement), info));
+      }
+    }
+  }
+
+  public <E> void assertAnySatisfy(AssertionInfo info, Iterator<? extends E> actual, Consumer<? super E> requirements) {
+    assertNotNull(info, actual);
+    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+    // only a sample of the unsatisfied requirements is kept to read the iterator in constant memory
+    List<UnsatisfiedRequirement> reportedUnsatisfiedRequirements = new ArrayList<>();
+    long unreportedUnsatisfiedRequirementsCount = 0;
+    while (actual.hasNext()) {
+      UnsatisfiedRequirement unsatisfiedRequirement = failsRequirements(requirements, actual.next());
+      if (unsatisfiedRequirement == null) return; // element satisfied the requirements
+      if (reportedUnsatisfiedRequirements.size() < MAX_REPORTED_UNSATISFIED_REQUIREMENTS) {
+        reportedUnsatisfiedRequirements.add(unsatisfiedRequirement);
+      } else {
+        unreportedUnsatisfiedRequirementsCount++;
+      }
+    }
+    throw failures.failure(info, elementsShouldSatisfyAny(ITERATOR_UNDER_TEST, reportedUnsatisfiedRequirements,
+                                                          unreportedUnsatisfiedRequirementsCount, info));
+  }
+
+  private static <E> UnsatisfiedRequirement failsRequirements(Consumer<? super E> requirements, E element) {
+    try {
+      requirements.accept(element);
+    } catch (AssertionError ex) {
+      return unsatisfiedRequirement(element, ex.getMessage());
+    }
+    return null;
+  }
+
 }
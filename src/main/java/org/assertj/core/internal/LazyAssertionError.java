@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.presentation.Representation;
+
+/**
+ * {@link AssertionError} collected by soft assertions that only builds its message the first time it is requested,
+ * failing soft assertions that are only counted or summarized don't pay for formatting the values they involve.
+ * <p>
+ * The stack trace is only captured when requested at creation time.
+ *
+ * @since 3.18.0
+ */
+public class LazyAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient ErrorMessageFactory messageFactory;
+  private transient Description description;
+  private transient Representation representation;
+  // set for a copy with a message suffix, the copy message is the original error message followed by the suffix
+  private transient LazyAssertionError original;
+  private transient String messageSuffix;
+  private volatile String message;
+  private boolean stackTraceCaptured;
+
+  LazyAssertionError(ErrorMessageFactory messageFactory, Description description, Representation representation,
+                     boolean captureStackTrace) {
+    this.messageFactory = messageFactory;
+    this.description = description;
+    this.representation = representation;
+    // fillInStackTrace is a no-op while the super constructor runs as stackTraceCaptured is still false
+    stackTraceCaptured = captureStackTrace;
+    if (captureStackTrace) super.fillInStackTrace();
+  }
+
+  /**
+   * Creates a new {@link LazyAssertionError} with an already built message, used to copy a collected error when
+   * decorating its message.
+   *
+   * @param message the detail message.
+   * @param cause the cause, may be {@code null}.
+   */
+  public LazyAssertionError(String message, Throwable cause) {
+    super(message, cause);
+    this.message = message;
+    stackTraceCaptured = true;
+    super.fillInStackTrace();
+  }
+
+  private LazyAssertionError(LazyAssertionError original, String messageSuffix) {
+    this.original = original;
+    this.messageSuffix = messageSuffix;
+    stackTraceCaptured = original.stackTraceCaptured;
+    setStackTrace(original.getStackTrace());
+    if (original.getCause() != null) initCause(original.getCause());
+    for (Throwable suppressed : original.getSuppressed()) {
+      addSuppressed(suppressed);
+    }
+  }
+
+  /**
+   * Returns a copy of this error whose message is this error message followed by the given suffix, the message is still
+   * only built the first time it is requested.
+   *
+   * @param suffix the text to append to this error message.
+   * @return a copy of this error with the given message suffix.
+   */
+  public LazyAssertionError withMessageSuffix(String suffix) {
+    return new LazyAssertionError(this, suffix);
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return stackTraceCaptured ? super.fillInStackTrace() : this;
+  }
+
+  @Override
+  public String getMessage() {
+    String result = message;
+    if (result != null) return result;
+    synchronized (this) {
+      if (message == null) {
+        message = original != null ? original.getMessage() + messageSuffix : messageFactory.create(description, representation);
+        // not needed anymore, let them be garbage collected
+        messageFactory = null;
+        description = null;
+        representation = null;
+        original = null;
+        messageSuffix = null;
+      }
+      return message;
+    }
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    // the message factory, description and representation are not necessarily serializable
+    getMessage();
+    out.defaultWriteObject();
+  }
+}
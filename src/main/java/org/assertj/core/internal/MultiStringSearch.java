@@ -0,0 +1,252 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Math.max;
+import static java.util.Arrays.fill;
+
+import java.util.Arrays;
+
+/**
+ * Searches a text for many strings at once with the Aho-Corasick algorithm, the text is read once whatever the number of
+ * strings to look for instead of once per string like {@link String#contains(CharSequence)} would.
+ * <p>
+ * The results are the same as the ones computed with {@link String#indexOf(String)} for each string, or with
+ * {@code text.toLowerCase().indexOf(string.toLowerCase())} for a search {@link #ignoringCase(CharSequence...) ignoring case}.
+ */
+final class MultiStringSearch {
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+
+  private final String[] strings;
+  private final boolean ignoringCase;
+  private final Transitions transitions;
+  // trie nodes, a node is the prefix of one or more strings, its depth is the prefix length
+  private int nodeCount = 1;
+  private int[] depth = new int[16];
+  private int[] firstChild = new int[16];
+  private int[] nextSibling = new int[16];
+  private char[] parentChar = new char[16];
+  // the node reached by the longest proper suffix of a node prefix
+  private int[] failure;
+  // the nearest node in the failure chain which ends one of the strings
+  private int[] output;
+  // strings ending at a node are chained by index, the strings with the same value all end at the same node
+  private final int[] firstStringEndingAt;
+  private final int[] nextStringEndingAtSameNode;
+
+  private MultiStringSearch(CharSequence[] values, boolean ignoringCase) {
+    this.ignoringCase = ignoringCase;
+    strings = new String[values.length];
+    int totalLength = 0;
+    for (int i = 0; i < values.length; i++) {
+      strings[i] = normalize(values[i]);
+      totalLength += strings[i].length();
+    }
+    transitions = new Transitions(totalLength);
+    fill(firstChild, NONE);
+    nextStringEndingAtSameNode = new int[strings.length];
+    int[] endNodes = new int[strings.length];
+    for (int i = 0; i < strings.length; i++) {
+      endNodes[i] = insert(strings[i]);
+    }
+    firstStringEndingAt = new int[nodeCount];
+    fill(firstStringEndingAt, NONE);
+    // iterate backwards to chain the strings ending at the same node in their original order
+    for (int i = strings.length - 1; i >= 0; i--) {
+      nextStringEndingAtSameNode[i] = firstStringEndingAt[endNodes[i]];
+      firstStringEndingAt[endNodes[i]] = i;
+    }
+    computeFailureAndOutputLinks();
+  }
+
+  /**
+   * Creates a search for the given values.
+   *
+   * @param values the strings to look for
+   * @return a search for the given values
+   */
+  static MultiStringSearch of(CharSequence... values) {
+    return new MultiStringSearch(values, false);
+  }
+
+  /**
+   * Creates a search for the given values ignoring case considerations, the values and the searched text are compared
+   * once converted with {@link String#toLowerCase()}.
+   *
+   * @param values the strings to look for
+   * @return a search for the given values ignoring case considerations
+   */
+  static MultiStringSearch ignoringCase(CharSequence... values) {
+    return new MultiStringSearch(values, true);
+  }
+
+  /**
+   * Returns the index of the first occurrence of each value in the given text, or -1 for the values not found, in the
+   * order the values were given.
+   * <p>
+   * The text is read until all the values have been found. When ignoring case, the indexes refer to the lower case text,
+   * they only differ from the original text indexes when lower casing changes its length.
+   *
+   * @param text the text to search
+   * @return the index of the first occurrence of each value, -1 if not found
+   */
+  int[] firstIndexesIn(CharSequence text) {
+    String searched = normalize(text);
+    int[] firstIndexes = new int[strings.length];
+    fill(firstIndexes, NONE);
+    int notFoundCount = strings.length;
+    // the empty string is found at the start of any text
+    for (int i = firstStringEndingAt[ROOT]; i != NONE; i = nextStringEndingAtSameNode[i]) {
+      firstIndexes[i] = 0;
+      notFoundCount--;
+    }
+    int node = ROOT;
+    for (int textIndex = 0; textIndex < searched.length() && notFoundCount > 0; textIndex++) {
+      char c = searched.charAt(textIndex);
+      int next = transitions.get(node, c);
+      while (next == NONE && node != ROOT) {
+        node = failure[node];
+        next = transitions.get(node, c);
+      }
+      node = next == NONE ? ROOT : next;
+      for (int match = endsString(node) ? node : output[node]; match != NONE; match = output[match]) {
+        int string = firstStringEndingAt[match];
+        // all the strings ending at a node are found at the same time, no need to record them twice
+        if (firstIndexes[string] != NONE) continue;
+        for (; string != NONE; string = nextStringEndingAtSameNode[string]) {
+          firstIndexes[string] = textIndex - depth[match] + 1;
+          notFoundCount--;
+        }
+      }
+    }
+    return firstIndexes;
+  }
+
+  private String normalize(CharSequence value) {
+    return ignoringCase ? value.toString().toLowerCase() : value.toString();
+  }
+
+  private boolean endsString(int node) {
+    return node != ROOT && firstStringEndingAt[node] != NONE;
+  }
+
+  private int insert(String string) {
+    int node = ROOT;
+    for (int i = 0; i < string.length(); i++) {
+      char c = string.charAt(i);
+      int child = transitions.get(node, c);
+      if (child == NONE) {
+        child = newNode(node, c);
+        transitions.put(node, c, child);
+      }
+      node = child;
+    }
+    return node;
+  }
+
+  private int newNode(int parent, char c) {
+    if (nodeCount == depth.length) {
+      int capacity = depth.length * 2;
+      depth = Arrays.copyOf(depth, capacity);
+      firstChild = Arrays.copyOf(firstChild, capacity);
+      fill(firstChild, nodeCount, capacity, NONE);
+      nextSibling = Arrays.copyOf(nextSibling, capacity);
+      parentChar = Arrays.copyOf(parentChar, capacity);
+    }
+    int node = nodeCount++;
+    depth[node] = depth[parent] + 1;
+    parentChar[node] = c;
+    nextSibling[node] = firstChild[parent];
+    firstChild[parent] = node;
+    return node;
+  }
+
+  // breadth first so that the failure link of a node, which is less deep, is always computed before the node one
+  private void computeFailureAndOutputLinks() {
+    failure = new int[nodeCount];
+    output = new int[nodeCount];
+    failure[ROOT] = ROOT;
+    output[ROOT] = NONE;
+    int[] queue = new int[nodeCount];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = ROOT;
+    while (head < tail) {
+      int parent = queue[head++];
+      for (int node = firstChild[parent]; node != NONE; node = nextSibling[node]) {
+        queue[tail++] = node;
+        failure[node] = parent == ROOT ? ROOT : failureTarget(failure[parent], parentChar[node]);
+        output[node] = endsString(failure[node]) ? failure[node] : output[failure[node]];
+      }
+    }
+  }
+
+  private int failureTarget(int node, char c) {
+    int next = transitions.get(node, c);
+    while (next == NONE && node != ROOT) {
+      node = failure[node];
+      next = transitions.get(node, c);
+    }
+    return next == NONE ? ROOT : next;
+  }
+
+  /**
+   * The trie edges in a single open addressing hash table keyed by node and char, a map per node would cost far more
+   * memory for the many nodes having a single child.
+   */
+  private static final class Transitions {
+
+    private static final long EMPTY = -1L;
+
+    private final long[] keys;
+    private final int[] children;
+    private final int mask;
+
+    private Transitions(int maxSize) {
+      // keep the load factor under 0.5
+      int capacity = Integer.highestOneBit(max(maxSize, 1) * 2 + 1) << 1;
+      keys = new long[capacity];
+      fill(keys, EMPTY);
+      children = new int[capacity];
+      mask = capacity - 1;
+    }
+
+    int get(int node, char c) {
+      long key = key(node, c);
+      for (int slot = slot(key);; slot = (slot + 1) & mask) {
+        if (keys[slot] == key) return children[slot];
+        if (keys[slot] == EMPTY) return NONE;
+      }
+    }
+
+    void put(int node, char c, int child) {
+      long key = key(node, c);
+      int slot = slot(key);
+      while (keys[slot] != EMPTY) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      children[slot] = child;
+    }
+
+    private static long key(int node, char c) {
+      return ((long) node << 16) | c;
+    }
+
+    private int slot(long key) {
+      return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+  }
+}
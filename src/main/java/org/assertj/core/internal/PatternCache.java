@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of the patterns compiled from the regular expressions given as {@code CharSequence} to the String
+ * assertions like {@link Strings#assertMatches(org.assertj.core.api.AssertionInfo, CharSequence, CharSequence)}, so
+ * that applying the same regular expressions to many strings compiles them only once.
+ * <p>
+ * Lookups don't lock, the least recently used pattern is evicted when a new pattern would exceed the cache capacity.
+ *
+ * @since 3.18.0
+ */
+public final class PatternCache {
+
+  /**
+   * The default maximum number of cached patterns.
+   */
+  public static final int DEFAULT_MAX_SIZE = 256;
+
+  private static final PatternCache INSTANCE = new PatternCache(DEFAULT_MAX_SIZE);
+
+  private final int maxSize;
+  private final Map<String, CachedPattern> patterns = new ConcurrentHashMap<>();
+  // logical clock giving the order in which the patterns were last used
+  private final AtomicLong clock = new AtomicLong();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * Returns the cache used by the String assertions.
+   *
+   * @return the cache used by the String assertions.
+   */
+  public static PatternCache instance() {
+    return INSTANCE;
+  }
+
+  PatternCache(int maxSize) {
+    checkArgument(maxSize >= 1, "maxSize must be >= 1, but was %s", maxSize);
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the pattern compiled from the given regular expression, compiling it only if it is not cached.
+   *
+   * @param regex the regular expression to compile.
+   * @return the compiled pattern.
+   * @throws java.util.regex.PatternSyntaxException if the regular expression's syntax is invalid.
+   */
+  Pattern compile(String regex) {
+    CachedPattern cachedPattern = patterns.get(regex);
+    if (cachedPattern != null) {
+      hitCount.increment();
+      cachedPattern.lastUse = clock.incrementAndGet();
+      return cachedPattern.pattern;
+    }
+    missCount.increment();
+    Pattern pattern = Pattern.compile(regex);
+    // patterns compiled concurrently for the same regex are equivalent, the last one is kept
+    patterns.put(regex, new CachedPattern(pattern, clock.incrementAndGet()));
+    if (patterns.size() > maxSize) evictLeastRecentlyUsedPatterns();
+    return pattern;
+  }
+
+  private synchronized void evictLeastRecentlyUsedPatterns() {
+    while (patterns.size() > maxSize) {
+      String leastRecentlyUsedRegex = null;
+      long leastRecentUse = Long.MAX_VALUE;
+      for (Map.Entry<String, CachedPattern> entry : patterns.entrySet()) {
+        if (entry.getValue().lastUse < leastRecentUse) {
+          leastRecentUse = entry.getValue().lastUse;
+          leastRecentlyUsedRegex = entry.getKey();
+        }
+      }
+      if (leastRecentlyUsedRegex == null) return;
+      patterns.remove(leastRecentlyUsedRegex);
+      evictionCount.increment();
+    }
+  }
+
+  /**
+   * Returns the number of lookups that found the pattern in the cache.
+   *
+   * @return the number of lookups that found the pattern in the cache.
+   */
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of lookups that had to compile the pattern.
+   *
+   * @return the number of lookups that had to compile the pattern.
+   */
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of patterns evicted from the cache to keep it under its maximum size.
+   *
+   * @return the number of patterns evicted from the cache.
+   */
+  public long evictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * Returns the number of cached patterns.
+   *
+   * @return the number of cached patterns.
+   */
+  public int size() {
+    return patterns.size();
+  }
+
+  /**
+   * Removes all the cached patterns and resets the statistics.
+   */
+  public void clear() {
+    patterns.clear();
+    hitCount.reset();
+    missCount.reset();
+    evictionCount.reset();
+  }
+
+  private static final class CachedPattern {
+
+    private final Pattern pattern;
+    private volatile long lastUse;
+
+    private CachedPattern(Pattern pattern, long lastUse) {
+      this.pattern = pattern;
+      this.lastUse = lastUse;
+    }
+  }
+}
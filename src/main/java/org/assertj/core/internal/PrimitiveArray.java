@@ -0,0 +1,478 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.binarySearch;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read only view of a primitive array giving access to its elements without boxing them, so that large primitive
+ * arrays compared with the {@link StandardComparisonStrategy} are checked in (close to) linear time and without
+ * allocating an object per element. Elements are only boxed to report the ones making an assertion fail.
+ * <p>
+ * Elements are compared through {@code long} keys that are equal if and only if the boxed elements are equal, i.e. the
+ * bits of {@code float} and {@code double} elements are compared like {@link Float#equals(Object)} and
+ * {@link Double#equals(Object)} do.
+ */
+abstract class PrimitiveArray {
+
+  private final Object array;
+
+  private PrimitiveArray(Object array) {
+    this.array = array;
+  }
+
+  /**
+   * Returns a view of the given array or {@code null} if it is not a primitive array.
+   *
+   * @param array the array to view
+   * @return a view of the given array or {@code null} if it is not a primitive array
+   */
+  static PrimitiveArray of(Object array) {
+    if (array instanceof boolean[]) return new BooleanArray((boolean[]) array);
+    if (array instanceof byte[]) return new ByteArray((byte[]) array);
+    if (array instanceof char[]) return new CharArray((char[]) array);
+    if (array instanceof short[]) return new ShortArray((short[]) array);
+    if (array instanceof int[]) return new IntArray((int[]) array);
+    if (array instanceof long[]) return new LongArray((long[]) array);
+    if (array instanceof float[]) return new FloatArray((float[]) array);
+    if (array instanceof double[]) return new DoubleArray((double[]) array);
+    return null;
+  }
+
+  /**
+   * Returns whether the given arrays can be compared through {@link PrimitiveArray} views, that is when they are
+   * compared with the {@link StandardComparisonStrategy} and are primitive arrays of the same type.
+   *
+   * @param comparisonStrategy the strategy used to compare the elements
+   * @param first the first array to compare
+   * @param second the second array to compare
+   * @return true if the given arrays can be compared through {@link PrimitiveArray} views, false otherwise
+   */
+  static boolean canCompare(ComparisonStrategy comparisonStrategy, Object first, Object second) {
+    return canCompare(comparisonStrategy, first) && second != null && first.getClass() == second.getClass();
+  }
+
+  static boolean canCompare(ComparisonStrategy comparisonStrategy, Object array) {
+    // subclasses could redefine areEqual
+    if (comparisonStrategy.getClass() != StandardComparisonStrategy.class) return false;
+    return array != null && array.getClass().isArray() && array.getClass().getComponentType().isPrimitive();
+  }
+
+  abstract int length();
+
+  abstract long key(int index);
+
+  /**
+   * Returns the index of the first element greater than the next one according to the natural order of the boxed
+   * elements.
+   *
+   * @return the index of the first element greater than the next one, -1 if the array is sorted
+   */
+  abstract int indexOfFirstUnsortedElement();
+
+  abstract boolean hasDuplicates();
+
+  Object get(int index) {
+    return Array.get(array, index);
+  }
+
+  long[] sortedDistinctKeys() {
+    long[] keys = new long[length()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = key(i);
+    }
+    java.util.Arrays.sort(keys);
+    int distinctCount = 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (i == 0 || keys[i] != keys[distinctCount - 1]) keys[distinctCount++] = keys[i];
+    }
+    return java.util.Arrays.copyOf(keys, distinctCount);
+  }
+
+  /**
+   * Returns the given keys that are keys of elements of this array.
+   *
+   * @param sortedKeys the distinct keys to look for, in ascending order
+   * @return the keys found, in ascending order
+   */
+  long[] find(long[] sortedKeys) {
+    boolean[] found = new boolean[sortedKeys.length];
+    int foundCount = 0;
+    for (int i = 0; i < length() && foundCount < sortedKeys.length; i++) {
+      int keyIndex = binarySearch(sortedKeys, key(i));
+      if (keyIndex >= 0 && !found[keyIndex]) {
+        found[keyIndex] = true;
+        foundCount++;
+      }
+    }
+    long[] foundKeys = new long[foundCount];
+    for (int i = 0, j = 0; i < sortedKeys.length; i++) {
+      if (found[i]) foundKeys[j++] = sortedKeys[i];
+    }
+    return foundKeys;
+  }
+
+  /**
+   * Returns the elements of this array whose keys are not in the given ones, boxed and in iteration order.
+   *
+   * @param sortedKeys the distinct keys of the elements to leave out, in ascending order
+   * @return the elements whose keys are not in the given ones
+   */
+  List<Object> elementsNotIn(long[] sortedKeys) {
+    List<Object> elements = new ArrayList<>();
+    for (int i = 0; i < length(); i++) {
+      if (binarySearch(sortedKeys, key(i)) < 0) elements.add(get(i));
+    }
+    return elements;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given sequence in this array (Knuth-Morris-Pratt search).
+   *
+   * @param sequence the non empty sequence to look for
+   * @return the index of the first occurrence of the given sequence, -1 if not found
+   */
+  int indexOf(PrimitiveArray sequence) {
+    int sequenceLength = sequence.length();
+    long[] sequenceKeys = new long[sequenceLength];
+    for (int i = 0; i < sequenceLength; i++) {
+      sequenceKeys[i] = sequence.key(i);
+    }
+    // length of the longest proper prefix of sequence[0..i] that is also a suffix of it
+    int[] prefixLengths = new int[sequenceLength];
+    for (int i = 1, prefixLength = 0; i < sequenceLength; i++) {
+      while (prefixLength > 0 && sequenceKeys[i] != sequenceKeys[prefixLength]) {
+        prefixLength = prefixLengths[prefixLength - 1];
+      }
+      if (sequenceKeys[i] == sequenceKeys[prefixLength]) prefixLength++;
+      prefixLengths[i] = prefixLength;
+    }
+    for (int i = 0, matchLength = 0; i < length(); i++) {
+      long key = key(i);
+      while (matchLength > 0 && key != sequenceKeys[matchLength]) matchLength = prefixLengths[matchLength - 1];
+      if (key == sequenceKeys[matchLength]) matchLength++;
+      if (matchLength == sequenceLength) return i - sequenceLength + 1;
+    }
+    return -1;
+  }
+
+  private static final class BooleanArray extends PrimitiveArray {
+
+    private final boolean[] array;
+
+    private BooleanArray(boolean[] array) {
+      super(array);
+      this.array = array;
+    }
+
+    @Override
+    int length() {
+      return array.length;
+    }
+
+    @Override
+    long key(int index) {
+      return array[index] ? 1 : 0;
+    }
+
+    @Override
+    int indexOfFirstUnsortedElement() {
+      for (int i = 0; i < array.length - 1; i++) {
+        if (Boolean.compare(array[i], array[i + 1]) > 0) return i;
+      }
+      return -1;
+    }
+
+    @Override
+    boolean hasDuplicates() {
+      boolean foundTrue = false;
+      boolean foundFalse = false;
+      for (boolean element : array) {
+        if (element ? foundTrue : foundFalse) return true;
+        if (element) foundTrue = true;
+        else foundFalse = true;
+      }
+      return false;
+    }
+  }
+
+  private static final class ByteArray extends PrimitiveArray {
+
+    private final byte[] array;
+
+    private ByteArray(byte[] array) {
+      super(array);
+      this.array = array;
+    }
+
+    @Override
+    int length() {
+      return array.length;
+    }
+
+    @Override
+    long key(int index) {
+      return array[index];
+    }
+
+    @Override
+    int indexOfFirstUnsortedElement() {
+      for (int i = 0; i < array.length - 1; i++) {
+        if (Byte.compare(array[i], array[i + 1]) > 0) return i;
+      }
+      return -1;
+    }
+
+    @Override
+    boolean hasDuplicates() {
+      byte[] sorted = array.clone();
+      java.util.Arrays.sort(sorted);
+      for (int i = 0; i < sorted.length - 1; i++) {
+        if (sorted[i] == sorted[i + 1]) return true;
+      }
+      return false;
+    }
+  }
+
+  private static final class CharArray extends PrimitiveArray {
+
+    private final char[] array;
+
+    private CharArray(char[] array) {
+      super(array);
+      this.array = array;
+    }
+
+    @Override
+    int length() {
+      return array.length;
+    }
+
+    @Override
+    long key(int index) {
+      return array[index];
+    }
+
+    @Override
+    int indexOfFirstUnsortedElement() {
+      for (int i = 0; i < array.length - 1; i++) {
+        if (Character.compare(array[i], array[i + 1]) > 0) return i;
+      }
+      return -1;
+    }
+
+    @Override
+    boolean hasDuplicates() {
+      char[] sorted = array.clone();
+      java.util.Arrays.sort(sorted);
+      for (int i = 0; i < sorted.length - 1; i++) {
+        if (sorted[i] == sorted[i + 1]) return true;
+      }
+      return false;
+    }
+  }
+
+  private static final class ShortArray extends PrimitiveArray {
+
+    private final short[] array;
+
+    private ShortArray(short[] array) {
+      super(array);
+      this.array = array;
+    }
+
+    @Override
+    int length() {
+      return array.length;
+    }
+
+    @Override
+    long key(int index) {
+      return array[index];
+    }
+
+    @Override
+    int indexOfFirstUnsortedElement() {
+      for (int i = 0; i < array.length - 1; i++) {
+        if (Short.compare(array[i], array[i + 1]) > 0) return i;
+      }
+      return -1;
+    }
+
+    @Override
+    boolean hasDuplicates() {
+      short[] sorted = array.clone();
+      java.util.Arrays.sort(sorted);
+      for (int i = 0; i < sorted.length - 1; i++) {
+        if (sorted[i] == sorted[i + 1]) return true;
+      }
+      return false;
+    }
+  }
+
+  private static final class IntArray extends PrimitiveArray {
+
+    private final int[] array;
+
+    private IntArray(int[] array) {
+      super(array);
+      this.array = array;
+    }
+
+    @Override
+    int length() {
+      return array.length;
+    }
+
+    @Override
+    long key(int index) {
+      return array[index];
+    }
+
+    @Override
+    int indexOfFirstUnsortedElement() {
+      for (int i = 0; i < array.length - 1; i++) {
+        if (Integer.compare(array[i], array[i + 1]) > 0) return i;
+      }
+      return -1;
+    }
+
+    @Override
+    boolean hasDuplicates() {
+      int[] sorted = array.clone();
+      java.util.Arrays.sort(sorted);
+      for (int i = 0; i < sorted.length - 1; i++) {
+        if (sorted[i] == sorted[i + 1]) return true;
+      }
+      return false;
+    }
+  }
+
+  private static final class LongArray extends PrimitiveArray {
+
+    private final long[] array;
+
+    private LongArray(long[] array) {
+      super(array);
+      this.array = array;
+    }
+
+    @Override
+    int length() {
+      return array.length;
+    }
+
+    @Override
+    long key(int index) {
+      return array[index];
+    }
+
+    @Override
+    int indexOfFirstUnsortedElement() {
+      for (int i = 0; i < array.length - 1; i++) {
+        if (Long.compare(array[i], array[i + 1]) > 0) return i;
+      }
+      return -1;
+    }
+
+    @Override
+    boolean hasDuplicates() {
+      long[] sorted = array.clone();
+      java.util.Arrays.sort(sorted);
+      for (int i = 0; i < sorted.length - 1; i++) {
+        if (sorted[i] == sorted[i + 1]) return true;
+      }
+      return false;
+    }
+  }
+
+  private static final class FloatArray extends PrimitiveArray {
+
+    private final float[] array;
+
+    private FloatArray(float[] array) {
+      super(array);
+      this.array = array;
+    }
+
+    @Override
+    int length() {
+      return array.length;
+    }
+
+    @Override
+    long key(int index) {
+      return Float.floatToIntBits(array[index]);
+    }
+
+    @Override
+    int indexOfFirstUnsortedElement() {
+      for (int i = 0; i < array.length - 1; i++) {
+        if (Float.compare(array[i], array[i + 1]) > 0) return i;
+      }
+      return -1;
+    }
+
+    @Override
+    boolean hasDuplicates() {
+      float[] sorted = array.clone();
+      java.util.Arrays.sort(sorted);
+      for (int i = 0; i < sorted.length - 1; i++) {
+        if (Float.floatToIntBits(sorted[i]) == Float.floatToIntBits(sorted[i + 1])) return true;
+      }
+      return false;
+    }
+  }
+
+  private static final class DoubleArray extends PrimitiveArray {
+
+    private final double[] array;
+
+    private DoubleArray(double[] array) {
+      super(array);
+      this.array = array;
+    }
+
+    @Override
+    int length() {
+      return array.length;
+    }
+
+    @Override
+    long key(int index) {
+      return Double.doubleToLongBits(array[index]);
+    }
+
+    @Override
+    int indexOfFirstUnsortedElement() {
+      for (int i = 0; i < array.length - 1; i++) {
+        if (Double.compare(array[i], array[i + 1]) > 0) return i;
+      }
+      return -1;
+    }
+
+    @Override
+    boolean hasDuplicates() {
+      double[] sorted = array.clone();
+      java.util.Arrays.sort(sorted);
+      for (int i = 0; i < sorted.length - 1; i++) {
+        if (Double.doubleToLongBits(sorted[i]) == Double.doubleToLongBits(sorted[i + 1])) return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.Arrays;
+
+import org.assertj.core.util.Throwables;
+
+/**
+ * Captures the stack frames not related to AssertJ.
+ * <p>
+ * Java 9+ uses the version of this class located in src/main/java9 that skips AssertJ frames while walking the stack.
+ */
+final class StackTraces {
+
+  private StackTraces() {}
+
+  static StackTraceElement[] nonAssertJRelatedElements(int maxDepth) {
+    Throwable throwable = new Throwable();
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    return stackTrace.length > maxDepth ? Arrays.copyOf(stackTrace, maxDepth) : stackTrace;
+  }
+}
@@ -98,7 +98,8 @@ import org.assertj.core.util.VisibleForTesting;
 public class Strings {
 
   private static final Strings INSTANCE = new Strings();
-  private static final String PUNCTUATION_REGEX = "\\p{Punct}";
+  // below that, String#contains called for each value is faster than a MultiStringSearch
+  private static final int MIN_VALUES_SEARCHED_AT_ONCE = 16;
   private final ComparisonStrategy comparisonStrategy;
   @VisibleForTesting
   Failures failures = Failures.instance();
@@ -460,8 +461,7 @@ public class Strings {
    */
   public void assertContains(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> notFound = stream(values).filter(value -> !stringContains(actual, value))
-                                               .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> notFound = valuesNotFound(actual, values);
     if (notFound.isEmpty()) return;
     if (notFound.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldContain(actual, values[0], comparisonStrategy));
@@ -498,6 +498,31 @@ public class Strings {
     return comparisonStrategy.stringContains(actual.toString(), sequence.toString());
   }
 
+  private Set<CharSequence> valuesNotFound(CharSequence actual, CharSequence[] values) {
+    if (!canSearchAtOnce(values)) return stream(values).filter(value -> !stringContains(actual, value))
+                                                       .collect(toCollection(LinkedHashSet::new));
+    return valuesAt(values, MultiStringSearch.of(values).firstIndexesIn(actual), false);
+  }
+
+  private Set<CharSequence> valuesFound(CharSequence actual, CharSequence[] values) {
+    if (!canSearchAtOnce(values)) return stream(values).filter(value -> stringContains(actual, value))
+                                                       .collect(toCollection(LinkedHashSet::new));
+    return valuesAt(values, MultiStringSearch.of(values).firstIndexesIn(actual), true);
+  }
+
+  private boolean canSearchAtOnce(CharSequence[] values) {
+    // subclasses could redefine stringContains
+    return comparisonStrategy.getClass() == StandardComparisonStrategy.class && values.length >= MIN_VALUES_SEARCHED_AT_ONCE;
+  }
+
+  private static Set<CharSequence> valuesAt(CharSequence[] values, int[] firstIndexes, boolean found) {
+    Set<CharSequence> valuesAt = new LinkedHashSet<>();
+    for (int i = 0; i < values.length; i++) {
+      if (firstIndexes[i] >= 0 == found) valuesAt.add(values[i]);
+    }
+    return valuesAt;
+  }
+
   /**
    * Verifies that the given {@code CharSequence} contains the given sequence, ignoring case considerations.
    *
@@ -531,9 +556,9 @@ public class Strings {
   public void assertDoesNotContainIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
 
-    String actualLowerCase = actual.toString().toLowerCase();
-    Set<CharSequence> foundValues = stream(values).filter(value -> actualLowerCase.contains(value.toString().toLowerCase()))
-                                                  .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> foundValues = values.length >= MIN_VALUES_SEARCHED_AT_ONCE
+        ? valuesAt(values, MultiStringSearch.ignoringCase(values).firstIndexesIn(actual), true)
+        : valuesFoundIgnoringCase(actual, values);
     if (foundValues.isEmpty()) return;
     if (foundValues.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldNotContainIgnoringCase(actual, values[0]));
@@ -541,6 +566,12 @@ public class Strings {
     throw failures.failure(info, shouldNotContainIgnoringCase(actual, values, foundValues));
   }
 
+  private static Set<CharSequence> valuesFoundIgnoringCase(CharSequence actual, CharSequence[] values) {
+    String actualLowerCase = actual.toString().toLowerCase();
+    return stream(values).filter(value -> actualLowerCase.contains(value.toString().toLowerCase()))
+                         .collect(toCollection(LinkedHashSet::new));
+  }
+
   /**
    * Verifies that the given {@code CharSequence} does not contain any one of the given values.
    *
@@ -555,8 +586,7 @@ public class Strings {
    */
   public void assertDoesNotContain(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> found = stream(values).filter(value -> stringContains(actual, value))
-                                            .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> found = valuesFound(actual, values);
     if (found.isEmpty()) return;
     if (found.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldNotContain(actual, values[0], comparisonStrategy));
@@ -608,14 +638,43 @@ public class Strings {
    * @throws AssertionError if the given {@code CharSequence}s are equal after normalizing newlines.
    */
   public void assertIsEqualToNormalizingNewlines(AssertionInfo info, CharSequence actual, CharSequence expected) {
-    String actualNormalized = normalizeNewlines(actual);
-    String expectedNormalized = normalizeNewlines(expected);
-    if (!actualNormalized.equals(expectedNormalized))
+    if (!areEqualNormalizingNewlines(actual, expected, false))
       throw failures.failure(info, shouldBeEqualIgnoringNewLineDifferences(actual, expected), actual, expected);
   }
 
-  private static String normalizeNewlines(CharSequence actual) {
-    return actual.toString().replace("\r\n", "\n");
+  // compares the char sequences as if "\r\n" was replaced by "\n", and then "\n" removed when removingNewlines is true
+  private static boolean areEqualNormalizingNewlines(CharSequence actual, CharSequence expected, boolean removingNewlines) {
+    int actualIndex = 0;
+    int expectedIndex = 0;
+    while (true) {
+      if (removingNewlines) {
+        actualIndex = skipNewlines(actual, actualIndex);
+        expectedIndex = skipNewlines(expected, expectedIndex);
+      }
+      if (actualIndex == actual.length() || expectedIndex == expected.length()) {
+        return actualIndex == actual.length() && expectedIndex == expected.length();
+      }
+      boolean actualCrLf = isCrLfAt(actual, actualIndex);
+      boolean expectedCrLf = isCrLfAt(expected, expectedIndex);
+      char actualChar = actualCrLf ? '\n' : actual.charAt(actualIndex);
+      char expectedChar = expectedCrLf ? '\n' : expected.charAt(expectedIndex);
+      if (actualChar != expectedChar) return false;
+      actualIndex += actualCrLf ? 2 : 1;
+      expectedIndex += expectedCrLf ? 2 : 1;
+    }
+  }
+
+  private static boolean isCrLfAt(CharSequence text, int index) {
+    return text.charAt(index) == '\r' && index + 1 < text.length() && text.charAt(index + 1) == '\n';
+  }
+
+  private static int skipNewlines(CharSequence text, int index) {
+    while (index < text.length()) {
+      if (text.charAt(index) == '\n') index++;
+      else if (isCrLfAt(text, index)) index += 2;
+      else break;
+    }
+    return index;
   }
 
   /**
@@ -647,19 +706,24 @@ public class Strings {
   private boolean areEqualIgnoringWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return removeAllWhitespaces(actual).equals(removeAllWhitespaces(expected));
+    // compares the char sequences as if their whitespaces were removed
+    int actualIndex = 0;
+    int expectedIndex = 0;
+    while (true) {
+      actualIndex = skipWhitespaces(actual, actualIndex, actual.length(), false);
+      expectedIndex = skipWhitespaces(expected, expectedIndex, expected.length(), false);
+      if (actualIndex == actual.length() || expectedIndex == expected.length()) {
+        return actualIndex == actual.length() && expectedIndex == expected.length();
+      }
+      if (actual.charAt(actualIndex++) != expected.charAt(expectedIndex++)) return false;
+    }
   }
 
-  private String removeAllWhitespaces(CharSequence toBeStripped) {
-    final StringBuilder result = new StringBuilder(toBeStripped.length());
-    for (int i = 0; i < toBeStripped.length(); i++) {
-      char c = toBeStripped.charAt(i);
-      if (isWhitespace(c)) {
-        continue;
-      }
-      result.append(c);
+  private static int skipWhitespaces(CharSequence text, int index, int end, boolean skippingPunctuation) {
+    while (index < end && (isWhitespace(text.charAt(index)) || skippingPunctuation && isPunctuation(text.charAt(index)))) {
+      index++;
     }
-    return result.toString();
+    return index;
   }
 
   /**
@@ -695,23 +759,71 @@ public class Strings {
   private boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return normalizeWhitespace(actual).equals(normalizeWhitespace(expected));
-  }
-
-  private static String normalizeWhitespace(CharSequence toNormalize) {
-    final StringBuilder result = new StringBuilder(toNormalize.length());
-    boolean lastWasSpace = true;
-    for (int i = 0; i < toNormalize.length(); i++) {
-      char c = toNormalize.charAt(i);
-      if (isWhitespace(c)) {
-        if (!lastWasSpace) result.append(' ');
-        lastWasSpace = true;
+    return areEqualNormalizingWhitespace(actual, expected, false);
+  }
+
+  // compares the char sequences as if their punctuation was removed when removingPunctuation is true, then their
+  // whitespace sequences replaced by a single space and the result trimmed with String#trim
+  private static boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected,
+                                                       boolean removingPunctuation) {
+    int actualIndex = trimmedStart(actual, removingPunctuation);
+    int actualEnd = trimmedEnd(actual, actualIndex, removingPunctuation);
+    int expectedIndex = trimmedStart(expected, removingPunctuation);
+    int expectedEnd = trimmedEnd(expected, expectedIndex, removingPunctuation);
+    while (true) {
+      if (removingPunctuation) {
+        actualIndex = skipPunctuation(actual, actualIndex, actualEnd);
+        expectedIndex = skipPunctuation(expected, expectedIndex, expectedEnd);
+      }
+      if (actualIndex == actualEnd || expectedIndex == expectedEnd) {
+        return actualIndex == actualEnd && expectedIndex == expectedEnd;
+      }
+      char actualChar = actual.charAt(actualIndex);
+      char expectedChar = expected.charAt(expectedIndex);
+      if (isWhitespace(actualChar) && isWhitespace(expectedChar)) {
+        // both normalized to a single space, whatever the whitespaces and removed punctuation in between
+        actualIndex = skipWhitespaces(actual, actualIndex, actualEnd, removingPunctuation);
+        expectedIndex = skipWhitespaces(expected, expectedIndex, expectedEnd, removingPunctuation);
+      } else if (actualChar != expectedChar || isWhitespace(actualChar)) {
+        return false;
       } else {
-        result.append(c);
-        lastWasSpace = false;
+        actualIndex++;
+        expectedIndex++;
       }
     }
-    return result.toString().trim();
+  }
+
+  // String#trim removes the chars <= ' ', whitespaces normalized to ' ' are removed too
+  private static boolean isTrimmed(char c, boolean removingPunctuation) {
+    return c <= ' ' || isWhitespace(c) || removingPunctuation && isPunctuation(c);
+  }
+
+  private static int trimmedStart(CharSequence text, boolean removingPunctuation) {
+    int start = 0;
+    while (start < text.length() && isTrimmed(text.charAt(start), removingPunctuation)) {
+      start++;
+    }
+    return start;
+  }
+
+  private static int trimmedEnd(CharSequence text, int start, boolean removingPunctuation) {
+    int end = text.length();
+    while (end > start && isTrimmed(text.charAt(end - 1), removingPunctuation)) {
+      end--;
+    }
+    return end;
+  }
+
+  private static int skipPunctuation(CharSequence text, int index, int end) {
+    while (index < end && isPunctuation(text.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  // same as the \p{Punct} regex, i.e. one of !"#$%&'()*+,-./:;<=>?@[\]^_`{|}~
+  private static boolean isPunctuation(char c) {
+    return c >= '!' && c <= '/' || c >= ':' && c <= '@' || c >= '[' && c <= '`' || c >= '{' && c <= '~';
   }
 
   /**
@@ -732,11 +844,7 @@ public class Strings {
   private static boolean areEqualNormalizingPunctuationAndWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return normalizeWhitespaceAndPunctuation(actual).equals(normalizeWhitespaceAndPunctuation(expected));
-  }
-
-  private static String normalizeWhitespaceAndPunctuation(CharSequence toNormalize) {
-    return normalizeWhitespace(toNormalize.toString().replaceAll(PUNCTUATION_REGEX, ""));
+    return areEqualNormalizingWhitespace(actual, expected, true);
   }
 
   /**
@@ -868,7 +976,7 @@ public class Strings {
   public void assertMatches(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (!Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldMatch(actual, regex));
+    if (!compile(regex).matcher(actual).matches()) throw failures.failure(info, shouldMatch(actual, regex));
   }
 
   /**
@@ -885,13 +993,17 @@ public class Strings {
   public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldNotMatch(actual, regex));
+    if (compile(regex).matcher(actual).matches()) throw failures.failure(info, shouldNotMatch(actual, regex));
   }
 
   private void checkRegexIsNotNull(CharSequence regex) {
     if (regex == null) throw patternToMatchIsNull();
   }
 
+  private static Pattern compile(CharSequence regex) {
+    return PatternCache.instance().compile(regex.toString());
+  }
+
   /**
    * Verifies that the given {@code CharSequence} matches the given regular expression.
    *
@@ -948,8 +1060,7 @@ public class Strings {
   public void assertContainsSequence(AssertionInfo info, CharSequence actual, CharSequence[] sequence) {
     doCommonCheckForCharSequence(info, actual, sequence);
 
-    Set<CharSequence> notFound = stream(sequence).filter(value -> !stringContains(actual, value))
-                                                 .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> notFound = valuesNotFound(actual, sequence);
 
     if (!notFound.isEmpty()) {
       // don't bother looking for a sequence, some of the sequence elements were not found !
@@ -985,6 +1096,11 @@ public class Strings {
   public void assertContainsSubsequence(AssertionInfo info, CharSequence actual, CharSequence[] subsequence) {
     doCommonCheckForCharSequence(info, actual, subsequence);
 
+    // subclasses could redefine stringContains and stringStartsWith
+    if (comparisonStrategy.getClass() == StandardComparisonStrategy.class) {
+      assertContainsSubsequenceComparingWithIndexOf(info, actual, subsequence);
+      return;
+    }
     Set<CharSequence> notFound = stream(subsequence).filter(value -> !stringContains(actual, value))
                                                     .collect(toCollection(LinkedHashSet::new));
 
@@ -1013,6 +1129,29 @@ public class Strings {
     }
   }
 
+  // same as above with each element searched from the end of the previous one instead of searching a copy of what is left
+  private void assertContainsSubsequenceComparingWithIndexOf(AssertionInfo info, CharSequence actual,
+                                                             CharSequence[] subsequence) {
+    String actualString = actual.toString();
+    int[] firstIndexes = canSearchAtOnce(subsequence)
+        ? MultiStringSearch.of(subsequence).firstIndexesIn(actualString)
+        : stream(subsequence).mapToInt(value -> actualString.indexOf(value.toString())).toArray();
+    Set<CharSequence> notFound = valuesAt(subsequence, firstIndexes, false);
+    if (!notFound.isEmpty()) {
+      if (notFound.size() == 1 && subsequence.length == 1) {
+        throw failures.failure(info, shouldContain(actual, subsequence[0], comparisonStrategy));
+      }
+      throw failures.failure(info, shouldContain(actual, subsequence, notFound, comparisonStrategy));
+    }
+    int fromIndex = firstIndexes[0] + subsequence[0].length();
+    for (int i = 1; i < subsequence.length; i++) {
+      // no need to search again when the first occurrence is after the previous element
+      int index = firstIndexes[i] >= fromIndex ? firstIndexes[i] : actualString.indexOf(subsequence[i].toString(), fromIndex);
+      if (index < 0) throw failures.failure(info, shouldContainSubsequence(actual, subsequence, i - 1, comparisonStrategy));
+      fromIndex = index + subsequence[i].length();
+    }
+  }
+
   private String removeUpTo(String string, CharSequence toRemove) {
     int index = indexOf(string, toRemove);
     // remove the start of string up to toRemove included
@@ -1060,7 +1199,7 @@ public class Strings {
   public void assertContainsPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    Pattern pattern = Pattern.compile(regex.toString());
+    Pattern pattern = compile(regex);
     Matcher matcher = pattern.matcher(actual);
     if (!matcher.find()) throw failures.failure(info, shouldContainPattern(actual, pattern.pattern()));
   }
@@ -1095,7 +1234,7 @@ public class Strings {
    */
   public void assertDoesNotContainPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
-    Pattern pattern = Pattern.compile(regex.toString());
+    Pattern pattern = compile(regex);
     assertDoesNotContainPattern(info, actual, pattern);
   }
 
@@ -1133,9 +1272,7 @@ public class Strings {
    * @param expected the expected {@code CharSequence} (new lines will be ignored).
    */
   public void assertIsEqualToIgnoringNewLines(AssertionInfo info, CharSequence actual, CharSequence expected) {
-    String actualWithoutNewLines = removeNewLines(actual);
-    String expectedWithoutNewLines = removeNewLines(expected);
-    if (!actualWithoutNewLines.equals(expectedWithoutNewLines))
+    if (!areEqualNormalizingNewlines(actual, expected, true))
       throw failures.failure(info, shouldBeEqualIgnoringNewLines(actual, expected), actual, expected);
   }
 
@@ -1168,11 +1305,6 @@ public class Strings {
     }
   }
 
-  private static String removeNewLines(CharSequence text) {
-    String normalizedText = normalizeNewlines(text);
-    return normalizedText.replace("\n", "");
-  }
-
   private void doCommonCheckForCharSequence(AssertionInfo info, CharSequence actual, CharSequence[] sequence) {
     assertNotNull(info, actual);
     checkIsNotNull(sequence);
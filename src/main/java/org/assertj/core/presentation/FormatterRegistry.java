@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.util.introspection.ClassUtils.getAllInterfaces;
+import static org.assertj.core.util.introspection.ClassUtils.getAllSuperclasses;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Thread safe registry of the formatters registered per type.
+ * <p>
+ * The formatter of a type is the one registered for the type itself, or else for its closest superclass, or else for
+ * the first of its interfaces (in {@link org.assertj.core.util.introspection.ClassUtils#getAllInterfaces(Class)
+ * getAllInterfaces} order), or else for {@code Object}. It is resolved once per type, types without formatter included.
+ */
+final class FormatterRegistry {
+
+  // registering a formatter replaces the whole state so that lookups never cache a resolution made with stale formatters
+  private volatile State state = new State(emptyMap());
+
+  synchronized <T> void register(Class<T> type, Function<T, String> formatter) {
+    Map<Class<?>, Function<?, String>> formatters = new HashMap<>(state.formatterByType);
+    formatters.put(type, formatter);
+    state = new State(formatters);
+  }
+
+  synchronized void clear() {
+    state = new State(emptyMap());
+  }
+
+  /**
+   * Returns the formatter to use for the given type if any.
+   *
+   * @param type the type to format.
+   * @return the formatter to use for the given type, {@code null} if none.
+   */
+  Function<?, String> formatterFor(Class<?> type) {
+    State currentState = state;
+    if (currentState.formatterByType.isEmpty()) return null;
+    return currentState.resolvedFormatterByType.computeIfAbsent(type, currentState::resolve).orElse(null);
+  }
+
+  private static final class State {
+
+    private final Map<Class<?>, Function<?, String>> formatterByType;
+    private final Map<Class<?>, Optional<Function<?, String>>> resolvedFormatterByType = new ConcurrentHashMap<>();
+
+    private State(Map<Class<?>, Function<?, String>> formatterByType) {
+      this.formatterByType = formatterByType;
+    }
+
+    private Optional<Function<?, String>> resolve(Class<?> type) {
+      Function<?, String> formatter = formatterByType.get(type);
+      if (formatter != null) return Optional.of(formatter);
+      for (Class<?> superclass : getAllSuperclasses(type)) {
+        if (superclass == Object.class) continue;
+        formatter = formatterByType.get(superclass);
+        if (formatter != null) return Optional.of(formatter);
+      }
+      for (Class<?> implementedInterface : getAllInterfaces(type)) {
+        formatter = formatterByType.get(implementedInterface);
+        if (formatter != null) return Optional.of(formatter);
+      }
+      return Optional.ofNullable(formatterByType.get(Object.class));
+    }
+  }
+}
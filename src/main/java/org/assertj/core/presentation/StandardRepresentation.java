@@ -15,15 +15,14 @@ package org.assertj.core.presentation;
 import static java.lang.Integer.toHexString;
 import static java.lang.reflect.Array.get;
 import static java.lang.reflect.Array.getLength;
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
 import static org.assertj.core.util.Arrays.isObjectArray;
 import static org.assertj.core.util.Arrays.notAnArrayOfPrimitives;
 import static org.assertj.core.util.DateUtil.formatAsDatetime;
 import static org.assertj.core.util.DateUtil.formatAsDatetimeWithMs;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkArgument;
-import static org.assertj.core.util.Streams.stream;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 import static org.assertj.core.util.Throwables.getStackTrace;
@@ -37,15 +36,19 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
@@ -61,7 +64,7 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
@@ -92,6 +95,7 @@ public class StandardRepresentation implements Representation {
   private static final String DEFAULT_END = "]";
 
   private static final String DEFAULT_MAX_ELEMENTS_EXCEEDED = "...";
+  private static final String ENTRY_SEPARATOR = ", ";
 
   // 4 spaces indentation : 2 space indentation after new line + '<' + '['
   static final String INDENTATION_AFTER_NEWLINE = "    ";
@@ -103,8 +107,9 @@ public class StandardRepresentation implements Representation {
 
   private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+  private static int maxCharactersForPrinting = Configuration.MAX_CHARACTERS_FOR_PRINTING;
 
-  private static final Map<Class<?>, Function<?, String>> customFormatterByType = new HashMap<>();
+  private static final FormatterRegistry customFormatters = new FormatterRegistry();
   private static final Class<?>[] TYPE_WITH_UNAMBIGUOUS_REPRESENTATION = { Date.class, LocalDateTime.class, ZonedDateTime.class,
       OffsetDateTime.class, Calendar.class };
 
@@ -129,11 +134,13 @@ public class StandardRepresentation implements Representation {
    * <ul>
    *   <li>{@code maxLengthForSingleLineDescription} = {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION} </li>
    *   <li>{@code maxElementsForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_ELEMENTS_FOR_PRINTING} </li>
+   *   <li>{@code maxCharactersForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_CHARACTERS_FOR_PRINTING} </li>
    * </ul>
    */
   public static void resetDefaults() {
     maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
     maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+    maxCharactersForPrinting = Configuration.MAX_CHARACTERS_FOR_PRINTING;
   }
 
   public static void setMaxLengthForSingleLineDescription(int value) {
@@ -158,22 +165,37 @@ public class StandardRepresentation implements Representation {
     return maxElementsForPrinting;
   }
 
+  public static void setMaxCharactersForPrinting(int value) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    checkArgument(value >= 1, "maxCharactersForPrinting must be >= 1, but was %s", value);
+    maxCharactersForPrinting = value;
+  }
+
+  @VisibleForTesting
+  public static int getMaxCharactersForPrinting() {
+    return maxCharactersForPrinting;
+  }
+
   /**
    * Registers new formatter for the given type. All instances of the given type will be formatted with the provided formatter.
+   * <p>
+   * The formatter is also used for the subtypes of the given type, unless a formatter is registered for a closer type.
+   * Formatters registered for superclasses take precedence over the ones registered for interfaces, a formatter registered
+   * for {@code Object} is only used when no other one applies.
    *
    * @param <T> the type to register a formatter for
    * @param type the class of the type to register a formatter for
    * @param formatter the formatter
    */
   public static <T> void registerFormatterForType(Class<T> type, Function<T, String> formatter) {
-    customFormatterByType.put(type, formatter);
+    customFormatters.register(type, formatter);
   }
 
   /**
    * Clear all formatters registered per type with {@link #registerFormatterForType(Class, Function)}.
    */
   public static void removeAllRegisteredFormatters() {
-    customFormatterByType.clear();
+    customFormatters.clear();
   }
 
   /**
@@ -258,12 +280,12 @@ public class StandardRepresentation implements Representation {
   @SuppressWarnings("unchecked")
   protected <T> String customFormat(T object) {
     if (object == null) return null;
-    return ((Function<T, String>) customFormatterByType.get(object.getClass())).apply(object);
+    return ((Function<T, String>) customFormatters.formatterFor(object.getClass())).apply(object);
   }
 
   protected boolean hasCustomFormatterFor(Object object) {
     if (object == null) return false;
-    return customFormatterByType.containsKey(object.getClass());
+    return customFormatters.formatterFor(object.getClass()) != null;
   }
 
   /**
@@ -422,17 +444,28 @@ public class StandardRepresentation implements Representation {
     Iterator<?> entriesIterator = sortedMap.entrySet().iterator();
     if (!entriesIterator.hasNext()) return "{}";
     StringBuilder builder = new StringBuilder("{");
-    int printedElements = 0;
-    for (;;) {
-      Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
-      if (printedElements == maxElementsForPrinting) {
-        builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
-        return builder.append("}").toString();
+    PrintingBudget budget = PrintingBudget.enterGroup();
+    try {
+      int printedElements = 0;
+      for (;;) {
+        Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
+        if (printedElements == maxElementsForPrinting) {
+          builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+          return builder.append("}").toString();
+        }
+        String key = budget.represent(printedElements == 0 ? 0 : ENTRY_SEPARATOR.length(), () -> format(map, entry.getKey()));
+        String value = key == null ? null : budget.represent(1, () -> format(map, entry.getValue()));
+        if (value == null) {
+          builder.append(maxCharactersExceeded(map.size() - printedElements));
+          return builder.append("}").toString();
+        }
+        builder.append(key).append('=').append(value);
+        printedElements++;
+        if (!entriesIterator.hasNext()) return builder.append("}").toString();
+        builder.append(ENTRY_SEPARATOR);
       }
-      builder.append(format(map, entry.getKey())).append('=').append(format(map, entry.getValue()));
-      printedElements++;
-      if (!entriesIterator.hasNext()) return builder.append("}").toString();
-      builder.append(", ");
+    } finally {
+      budget.exitGroup();
     }
   }
 
@@ -469,8 +502,9 @@ public class StandardRepresentation implements Representation {
    * @return the {@code String} representation of the given {@code Iterable}.
    */
   protected String smartFormat(Iterable<?> iterable) {
-    String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
-    return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    if (iterable == null) return null;
+    return smartFormat(representElements(elementsOf(iterable), DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                                         INDENTATION_FOR_SINGLE_LINE, iterable));
   }
 
   /**
@@ -486,8 +520,9 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String smartFormat(Object[] array) {
-    String description = singleLineFormat(array, array);
-    return doesDescriptionFitOnSingleLine(description) ? description : multiLineFormat(array, array);
+    if (array == null) return null;
+    return smartFormat(representElements(Arrays.asList(array), DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                                         INDENTATION_FOR_SINGLE_LINE, array));
   }
 
   protected String formatPrimitiveArray(Object o) {
@@ -507,7 +542,8 @@ public class StandardRepresentation implements Representation {
   protected String format(Object[] array, String start, String end, String elementSeparator, String indentation, Object root) {
     if (array == null) return null;
     // root is used to avoid infinite recursion in case one element refers to it.
-    List<String> representedElements = representElements(Stream.of(array), start, end, elementSeparator, indentation, root);
+    RepresentedElements representedElements = representElements(Arrays.asList(array), start, end, elementSeparator,
+                                                                 indentation, root);
     return representGroup(representedElements, start, end, elementSeparator, indentation);
   }
 
@@ -517,7 +553,8 @@ public class StandardRepresentation implements Representation {
     Iterator<?> iterator = iterable.iterator();
     if (!iterator.hasNext()) return start + end;
     // alreadyVisited is used to avoid infinite recursion when one element is a container already visited
-    List<String> representedElements = representElements(stream(iterable), start, end, elementSeparator, indentation, root);
+    RepresentedElements representedElements = representElements(elementsOf(iterable), start, end, elementSeparator,
+                                                                 indentation, root);
     return representGroup(representedElements, start, end, elementSeparator, indentation);
   }
 
@@ -536,33 +573,80 @@ public class StandardRepresentation implements Representation {
 
   // private methods
 
-  private List<String> representElements(Stream<?> elements, String start, String end, String elementSeparator,
-                                         String indentation, Object root) {
-    return elements.map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
-                   .collect(toList());
+  // the single and multi line descriptions only differ by their separators, the elements are only represented once
+  private static String smartFormat(RepresentedElements representedElements) {
+    String singleLineDescription = representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                                                  INDENTATION_FOR_SINGLE_LINE);
+    if (doesDescriptionFitOnSingleLine(singleLineDescription)) return singleLineDescription;
+    return representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE,
+                          INDENTATION_AFTER_NEWLINE);
   }
 
-  // this method only deals with max number of elements to display, the elements representation is already computed
-  private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
-                                       String indentation) {
-    int size = representedElements.size();
+  private static List<?> elementsOf(Iterable<?> iterable) {
+    return iterable instanceof List && iterable instanceof RandomAccess ? (List<?>) iterable : newArrayList(iterable);
+  }
+
+  // only the elements that are displayed are represented, that is:
+  // - the first and last maxElementsForPrinting/2 elements when there are more than maxElementsForPrinting elements
+  // - as long as they fit in the maxCharactersForPrinting characters shared with the enclosing and nested groups
+  private RepresentedElements representElements(List<?> elements, String start, String end, String elementSeparator,
+                                                String indentation, Object root) {
+    int size = elements.size();
+    boolean allElementsCanBePrinted = size <= maxElementsForPrinting;
+    // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
+    int maxFirstElementsToPrint = allElementsCanBePrinted ? size : (maxElementsForPrinting + 1) / 2;
+    int maxLastElementsToPrint = allElementsCanBePrinted ? 0 : maxElementsForPrinting / 2;
+    RepresentedElements representedElements = new RepresentedElements(size);
+    PrintingBudget budget = PrintingBudget.enterGroup();
+    try {
+      int separatorLength = elementSeparator.length() + indentation.length();
+      for (int i = 0; i < maxFirstElementsToPrint; i++) {
+        Object element = elements.get(i);
+        String representedElement = budget.represent(i == 0 ? 0 : separatorLength,
+                                                     () -> safeStringOf(element, start, end, elementSeparator, indentation, root));
+        if (representedElement == null) return representedElements.maxCharactersExceeded();
+        representedElements.first.add(representedElement);
+      }
+      // last elements are represented from the end so that the displayed ones are the actual last elements
+      for (int i = size - 1; i >= size - maxLastElementsToPrint; i--) {
+        Object element = elements.get(i);
+        String representedElement = budget.represent(separatorLength,
+                                                     () -> safeStringOf(element, start, end, elementSeparator, indentation, root));
+        if (representedElement == null) return representedElements.maxCharactersExceeded();
+        representedElements.last.addFirst(representedElement);
+      }
+      return representedElements;
+    } finally {
+      budget.exitGroup();
+    }
+  }
+
+  // this method only deals with laying out the elements to display, their representation is already computed
+  private static String representGroup(RepresentedElements representedElements, String start, String end,
+                                       String elementSeparator, String indentation) {
+    List<String> firstElements = representedElements.first;
     StringBuilder desc = new StringBuilder(start);
-    if (size <= maxElementsForPrinting) {
+    int notRepresentedElementsCount = representedElements.notRepresentedElementsCount();
+    if (notRepresentedElementsCount == 0) {
       // display all elements
+      int size = firstElements.size();
       for (int i = 0; i < size; i++) {
         if (i != 0) desc.append(indentation);
-        desc.append(representedElements.get(i));
+        desc.append(firstElements.get(i));
         if (i != size - 1) desc.append(elementSeparator);
       }
       return desc.append(end).toString();
     }
-    // we can't display all elements, picks the first and last maxElementsForPrinting/2 elements
-    // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
-    int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
-    for (int i = 0; i < maxFirstElementsToPrint; i++) {
-      desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
+    // we can't display all elements, displays the first elements, a marker for the missing ones and the last elements
+    for (String firstElement : firstElements) {
+      desc.append(firstElement).append(elementSeparator).append(indentation);
     }
-    desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+    desc.append(representedElements.maxCharactersExceeded
+        ? maxCharactersExceeded(notRepresentedElementsCount)
+        : DEFAULT_MAX_ELEMENTS_EXCEEDED);
+    Deque<String> lastElements = representedElements.last;
+    // nothing after the elements exceeding maxCharactersForPrinting
+    if (representedElements.maxCharactersExceeded && lastElements.isEmpty()) return desc.append(end).toString();
     // we only append a new line if the separator had one ",\n"
     if (elementSeparator.contains(System.lineSeparator())) {
       // we just want a new line after DEFAULT_MAX_ELEMENTS_EXCEEDED but no char separator ','
@@ -577,14 +661,81 @@ public class StandardRepresentation implements Representation {
       desc.append(System.lineSeparator());
     }
     // display last elements
-    int maxLastElementsToPrint = maxElementsForPrinting / 2;
-    for (int i = size - maxLastElementsToPrint; i < size; i++) {
-      if (i != size - maxLastElementsToPrint) desc.append(elementSeparator);
-      desc.append(indentation).append(representedElements.get(i));
+    boolean firstLastElement = true;
+    for (String lastElement : lastElements) {
+      if (!firstLastElement) desc.append(elementSeparator);
+      desc.append(indentation).append(lastElement);
+      firstLastElement = false;
     }
     return desc.append(end).toString();
   }
 
+  private static String maxCharactersExceeded(int notRepresentedElementsCount) {
+    return String.format("%s(%s more element%s)", DEFAULT_MAX_ELEMENTS_EXCEEDED, notRepresentedElementsCount,
+                         notRepresentedElementsCount == 1 ? "" : "s");
+  }
+
+  private static class RepresentedElements {
+    private final int size;
+    private final List<String> first = new ArrayList<>();
+    private final Deque<String> last = new ArrayDeque<>();
+    private boolean maxCharactersExceeded;
+
+    private RepresentedElements(int size) {
+      this.size = size;
+    }
+
+    private RepresentedElements maxCharactersExceeded() {
+      maxCharactersExceeded = true;
+      return this;
+    }
+
+    private int notRepresentedElementsCount() {
+      return size - first.size() - last.size();
+    }
+  }
+
+  /**
+   * The characters left to represent the elements of the outermost group being represented by the current thread, the
+   * nested groups use the same budget so that the whole representation is bounded, whatever the nesting.
+   */
+  private static class PrintingBudget {
+    private static final ThreadLocal<PrintingBudget> CURRENT = new ThreadLocal<>();
+
+    private int remainingCharacters = maxCharactersForPrinting;
+    private int nestingDepth;
+
+    private static PrintingBudget enterGroup() {
+      PrintingBudget budget = CURRENT.get();
+      if (budget == null) {
+        budget = new PrintingBudget();
+        CURRENT.set(budget);
+      }
+      budget.nestingDepth++;
+      return budget;
+    }
+
+    private void exitGroup() {
+      nestingDepth--;
+      if (nestingDepth == 0) CURRENT.remove();
+    }
+
+    // returns the element representation if it fits in the remaining characters once the separator preceding it is
+    // counted, null otherwise, no element is represented once the budget is spent.
+    private String represent(int separatorLength, Supplier<String> representation) {
+      if (remainingCharacters <= separatorLength) return null;
+      remainingCharacters -= separatorLength;
+      int remainingCharactersBeforeElement = remainingCharacters;
+      // a null map key or value is represented as "null"
+      String representedElement = String.valueOf(representation.get());
+      // the elements of a nested group have already been counted, only count what surrounds them
+      int nestedCharacters = remainingCharactersBeforeElement - remainingCharacters;
+      remainingCharacters -= representedElement.length() - nestedCharacters;
+      // a nested group has already been cut to fit in the budget but a single element too long is not represented
+      return remainingCharacters < 0 && nestedCharacters == 0 ? null : representedElement;
+    }
+  }
+
   private String toStringOf(ChangeDelta<?> changeDelta) {
     return String.format("Changed content at line %s:%nexpecting:%n  %s%nbut was:%n  %s%n",
                          changeDelta.lineNumber(),
@@ -33,19 +33,22 @@ import java.util.Date;
  */
 public class DateUtil {
 
+  // the formats are copied per thread as SimpleDateFormat is not thread safe (sigh), the copies keep the time zone of
+  // the original formats, that is the default one when this class was loaded
+
   /**
    * ISO 8601 date format (yyyy-MM-dd), example : <code>2003-04-23</code>
    */
-  private static final DateFormat ISO_DATE_FORMAT = newIsoDateFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_FORMAT = threadLocalCopyOf(newIsoDateFormat());
   /**
    * ISO 8601 local date-time format (yyyy-MM-dd'T'HH:mm:ss), example : <code>2003-04-26T13:01:02</code>
    */
-  private static final DateFormat ISO_DATE_TIME_FORMAT = newIsoDateTimeFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_TIME_FORMAT = threadLocalCopyOf(newIsoDateTimeFormat());
   /**
    * ISO 8601 local date-time format with millisecond (yyyy-MM-dd'T'HH:mm:ss.SSS), example :
    * <code>2003-04-26T03:01:02.999</code>
    */
-  private static final DateFormat ISO_DATE_TIME_FORMAT_WITH_MS = newIsoDateTimeWithMsFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_TIME_FORMAT_WITH_MS = threadLocalCopyOf(newIsoDateTimeWithMsFormat());
 
   /**
    * ISO 8601 date format (yyyy-MM-dd), example : <code>2003-04-23</code>
@@ -105,32 +108,34 @@ public class DateUtil {
     return dateFormat;
   }
 
+  private static ThreadLocal<DateFormat> threadLocalCopyOf(DateFormat dateFormat) {
+    return ThreadLocal.withInitial(() -> (DateFormat) dateFormat.clone());
+  }
+
   /**
    * Formats the given date using the ISO 8601 date-time format (yyyy-MM-dd'T'HH:mm:ss).<br>
-   * Method is synchronized
-   * because SimpleDateFormat is not thread safe (sigh).
+   * Method is thread safe.
    * <p>
    * Returns null if given the date is null.
    *
    * @param date the date to format.
    * @return the formatted date or null if given the date was null.
    */
-  public static synchronized String formatAsDatetime(Date date) {
-    return date == null ? null : ISO_DATE_TIME_FORMAT.format(date);
+  public static String formatAsDatetime(Date date) {
+    return date == null ? null : ISO_DATE_TIME_FORMAT.get().format(date);
   }
 
   /**
    * Formats the given date using the ISO 8601 date-time format with millisecond (yyyy-MM-dd'T'HH:mm:ss:SSS).<br>
-   * Method
-   * is synchronized because SimpleDateFormat is not thread safe (sigh).
+   * Method is thread safe.
    * <p>
    * Returns null if given the date is null.
    *
    * @param date the date to format.
    * @return the formatted date or null if given the date was null.
    */
-  public static synchronized String formatAsDatetimeWithMs(Date date) {
-    return date == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.format(date);
+  public static String formatAsDatetimeWithMs(Date date) {
+    return date == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.get().format(date);
   }
 
   /**
@@ -153,9 +158,9 @@ public class DateUtil {
    * @return the corresponding Date or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parse(String dateAsString) {
+  public static Date parse(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_FORMAT.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_FORMAT.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -171,9 +176,9 @@ public class DateUtil {
    * @return the corresponding Date with time details or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parseDatetime(String dateAsString) {
+  public static Date parseDatetime(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -190,9 +195,9 @@ public class DateUtil {
    * @return the corresponding Date with time details or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parseDatetimeWithMs(String dateAsString) {
+  public static Date parseDatetimeWithMs(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
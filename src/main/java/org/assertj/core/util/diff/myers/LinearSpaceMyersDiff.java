@@ -0,0 +1,230 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * Linear space variant of the <a href="http://www.cs.arizona.edu/people/gene/">Eugene Myers</a> differencing algorithm
+ * (section 4b of the paper): the middle snake of the edit path is searched from both ends and the sequences are split
+ * around it until they only differ by insertions or deletions.
+ * <p>
+ * Unlike {@link MyersDiff} which keeps the whole edit path, this algorithm only needs memory proportional to the size of
+ * the compared sequences. Common prefixes and suffixes are skipped before each split.
+ * <p>
+ * The edit distance searched between two parts of the sequences can be capped, the parts whose edit distance is larger
+ * than the cap are reported as a single {@link ChangeDelta} instead of being diffed precisely, this bounds the time
+ * spent on sequences that have (almost) nothing in common.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  private final Equalizer<T> equalizer;
+  private final int maxEditDistance;
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm finding the minimal differences.
+   */
+  public LinearSpaceMyersDiff() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm, the parts of the sequences whose edit
+   * distance exceeds the given one are reported as a single change.
+   *
+   * @param maxEditDistance the maximum edit distance searched between two parts of the compared sequences.
+   * @throws IllegalArgumentException if {@code maxEditDistance} is less than 1.
+   */
+  public LinearSpaceMyersDiff(int maxEditDistance) {
+    checkArgument(maxEditDistance >= 1, "maxEditDistance must be >= 1, but was %s", maxEditDistance);
+    this.equalizer = Object::equals;
+    this.maxEditDistance = maxEditDistance;
+  }
+
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    return new Comparison(randomAccess(original), randomAccess(revised)).patch();
+  }
+
+  private static <T> List<T> randomAccess(List<T> list) {
+    return list instanceof RandomAccess ? list : new ArrayList<>(list);
+  }
+
+  private class Comparison {
+
+    private final List<T> original;
+    private final List<T> revised;
+    // elements belonging to the longest common subsequence, the nth common element of original matches the nth of revised
+    private final boolean[] commonInOriginal;
+    private final boolean[] commonInRevised;
+    // furthest reaching x per diagonal of the forward and backward searches, shared by all the splits
+    private final int[] forward;
+    private final int[] backward;
+    // the middle snake found by the last search: start x, start y, end x, end y
+    private final int[] snake = new int[4];
+
+    private Comparison(List<T> original, List<T> revised) {
+      this.original = original;
+      this.revised = revised;
+      commonInOriginal = new boolean[original.size()];
+      commonInRevised = new boolean[revised.size()];
+      int maxDiagonals = 2 * (Math.min(original.size() + revised.size(), maxEditDistance) + 1) + 1;
+      forward = new int[maxDiagonals];
+      backward = new int[maxDiagonals];
+    }
+
+    private Patch<T> patch() {
+      compare(0, original.size(), 0, revised.size());
+      Patch<T> patch = new Patch<>();
+      int i = 0;
+      int j = 0;
+      while (i < original.size() || j < revised.size()) {
+        if (i < original.size() && j < revised.size() && commonInOriginal[i] && commonInRevised[j]) {
+          i++;
+          j++;
+          continue;
+        }
+        int originalStart = i;
+        int revisedStart = j;
+        while (i < original.size() && !commonInOriginal[i]) i++;
+        while (j < revised.size() && !commonInRevised[j]) j++;
+        patch.addDelta(delta(new Chunk<>(originalStart, copyOfRange(original, originalStart, i)),
+                             new Chunk<>(revisedStart, copyOfRange(revised, revisedStart, j))));
+      }
+      return patch;
+    }
+
+    private void compare(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      while (originalStart < originalEnd && revisedStart < revisedEnd
+             && equals(original.get(originalStart), revised.get(revisedStart))) {
+        markCommon(originalStart++, revisedStart++);
+      }
+      while (originalStart < originalEnd && revisedStart < revisedEnd
+             && equals(original.get(originalEnd - 1), revised.get(revisedEnd - 1))) {
+        markCommon(--originalEnd, --revisedEnd);
+      }
+      // only insertions or deletions left, or too many differences to be diffed precisely
+      if (originalStart == originalEnd || revisedStart == revisedEnd) return;
+      if (!findMiddleSnake(originalStart, originalEnd, revisedStart, revisedEnd)) return;
+      int snakeStartX = snake[0];
+      int snakeStartY = snake[1];
+      int snakeEndX = snake[2];
+      int snakeEndY = snake[3];
+      for (int x = snakeStartX, y = snakeStartY; x < snakeEndX; x++, y++) {
+        markCommon(x, y);
+      }
+      compare(originalStart, snakeStartX, revisedStart, snakeStartY);
+      compare(snakeEndX, originalEnd, snakeEndY, revisedEnd);
+    }
+
+    /**
+     * Searches the middle snake of the edit path between the given parts of the sequences, it is stored in
+     * {@link #snake} with absolute indexes.
+     *
+     * @return false if the edit distance between the parts exceeds {@link #maxEditDistance}.
+     */
+    private boolean findMiddleSnake(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      int n = originalEnd - originalStart;
+      int m = revisedEnd - revisedStart;
+      int delta = n - m;
+      boolean oddDelta = (delta & 1) != 0;
+      int maxD = Math.min((n + m + 1) / 2, maxEditDistance / 2 + maxEditDistance % 2);
+      // diagonal k is stored at index k + offset, diagonals -maxD - 1 to maxD + 1 are used
+      int offset = maxD + 1;
+      forward[offset + 1] = 0;
+      backward[offset + 1] = 0;
+      for (int d = 0; d <= maxD; d++) {
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+              ? forward[offset + k + 1]
+              : forward[offset + k - 1] + 1;
+          int y = x - k;
+          int startX = x;
+          int startY = y;
+          while (x < n && y < m && equals(original.get(originalStart + x), revised.get(revisedStart + y))) {
+            x++;
+            y++;
+          }
+          forward[offset + k] = x;
+          int backwardK = delta - k;
+          if (oddDelta && backwardK >= -(d - 1) && backwardK <= d - 1 && x + backward[offset + backwardK] >= n) {
+            setSnake(originalStart + startX, revisedStart + startY, originalStart + x, revisedStart + y);
+            return true;
+          }
+        }
+        for (int k = -d; k <= d; k += 2) {
+          // x and y are counted from the end of the parts
+          int x = k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])
+              ? backward[offset + k + 1]
+              : backward[offset + k - 1] + 1;
+          int y = x - k;
+          int startX = x;
+          int startY = y;
+          while (x < n && y < m && equals(original.get(originalEnd - 1 - x), revised.get(revisedEnd - 1 - y))) {
+            x++;
+            y++;
+          }
+          backward[offset + k] = x;
+          int forwardK = delta - k;
+          if (!oddDelta && forwardK >= -d && forwardK <= d && x + forward[offset + forwardK] >= n) {
+            setSnake(originalEnd - x, revisedEnd - y, originalEnd - startX, revisedEnd - startY);
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    private void setSnake(int startX, int startY, int endX, int endY) {
+      snake[0] = startX;
+      snake[1] = startY;
+      snake[2] = endX;
+      snake[3] = endY;
+    }
+
+    private void markCommon(int originalIndex, int revisedIndex) {
+      commonInOriginal[originalIndex] = true;
+      commonInRevised[revisedIndex] = true;
+    }
+
+    private boolean equals(T orig, T rev) {
+      return equalizer.equals(orig, rev);
+    }
+  }
+
+  private static <T> Delta<T> delta(Chunk<T> original, Chunk<T> revised) {
+    if (original.size() == 0) return new InsertDelta<>(original, revised);
+    if (revised.size() == 0) return new DeleteDelta<>(original, revised);
+    return new ChangeDelta<>(original, revised);
+  }
+
+  private static <T> List<T> copyOfRange(List<T> list, int fromIndex, int toIndex) {
+    return new ArrayList<>(list.subList(fromIndex, toIndex));
+  }
+}
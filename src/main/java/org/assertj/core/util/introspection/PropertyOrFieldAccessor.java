@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.assertj.core.util.introspection.FieldUtils.getField;
+import static org.assertj.core.util.introspection.Introspection.canIntrospectExtractBareNamePropertyMethods;
+import static org.assertj.core.util.introspection.Introspection.findPublicPropertyGetter;
+import static org.assertj.core.util.introspection.MemberUtils.isPackageAccess;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The resolved way to read a property or field of a given name in a given class, resolved once and then accessed with a
+ * {@link MethodHandle}.
+ * <p>
+ * Like {@link PropertyOrFieldSupport#getSimpleValue(String, Object)}, the public getter is preferred over the field.
+ * The accessor only knows how to read values in the common cases, the others (getter throwing an exception, private
+ * field while private fields can't be used, ...) are left to {@link PropertyOrFieldSupport} to get the same value or error.
+ */
+final class PropertyOrFieldAccessor {
+
+  // negative results are cached too, they are the ones paying the reflection exceptions cost on each lookup.
+  // Accessors are kept per class in a ClassValue which, unlike a map keyed by class, lets classes be unloaded.
+  private static final ClassValue<Map<AccessorKey, PropertyOrFieldAccessor>> ACCESSOR_CACHE = new ClassValue<Map<AccessorKey, PropertyOrFieldAccessor>>() {
+    @Override
+    protected Map<AccessorKey, PropertyOrFieldAccessor> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+  private static final MethodType ACCESSOR_TYPE = methodType(Object.class, Object.class);
+
+  private static final PropertyOrFieldAccessor UNRESOLVED = new PropertyOrFieldAccessor(null, false, false);
+  private static final PropertyOrFieldAccessor ABSENT = new PropertyOrFieldAccessor(null, false, true);
+
+  private final MethodHandle handle;
+  // whether the value can be read when private fields can't be used
+  private final boolean isPublic;
+  private final boolean isAbsent;
+
+  private PropertyOrFieldAccessor(MethodHandle handle, boolean isPublic, boolean isAbsent) {
+    this.handle = handle;
+    this.isPublic = isPublic;
+    this.isAbsent = isAbsent;
+  }
+
+  static PropertyOrFieldAccessor of(Class<?> type, String name) {
+    // getters resolution depends on this global setting
+    AccessorKey key = new AccessorKey(type, name, canIntrospectExtractBareNamePropertyMethods());
+    return ACCESSOR_CACHE.get(type).computeIfAbsent(key, PropertyOrFieldAccessor::resolve);
+  }
+
+  /**
+   * @param fieldSupport the {@link FieldSupport} telling whether private fields can be read
+   * @return whether {@link #read(Object)} can be used to read the value
+   */
+  boolean canRead(FieldSupport fieldSupport) {
+    return handle != null && (isPublic || fieldSupport.isAllowedToUsePrivateFields());
+  }
+
+  /**
+   * @return whether the class has neither a public getter nor a field with the accessor name.
+   */
+  boolean isAbsent() {
+    return isAbsent;
+  }
+
+  Object read(Object target) throws Throwable {
+    return handle.invokeExact(target);
+  }
+
+  private static PropertyOrFieldAccessor resolve(AccessorKey key) {
+    try {
+      Method getter = findPublicPropertyGetter(key.name, key.type);
+      if (getter != null) {
+        // force access for static class with public getter
+        getter.setAccessible(true);
+        return new PropertyOrFieldAccessor(MethodHandles.lookup().unreflect(getter).asType(ACCESSOR_TYPE), true, false);
+      }
+      Field field = getField(key.type, key.name, true);
+      if (field == null) return ABSENT;
+      field.setAccessible(true);
+      MethodHandle handle = MethodHandles.lookup().unreflectGetter(field);
+      if (isStatic(field.getModifiers())) handle = dropArguments(handle, 0, Object.class);
+      return new PropertyOrFieldAccessor(handle.asType(ACCESSOR_TYPE), isReadableWithoutForcingAccess(field), false);
+    } catch (Exception e) {
+      // can't make the getter or field accessible (ex: java module not opened) or ambiguous field
+      return UNRESOLVED;
+    }
+  }
+
+  // same rule as FieldUtils reading a field without forcing access
+  private static boolean isReadableWithoutForcingAccess(Field field) {
+    int declaringClassModifiers = field.getDeclaringClass().getModifiers();
+    return isPublic(field.getModifiers()) && (isPublic(declaringClassModifiers) || isPackageAccess(declaringClassModifiers));
+  }
+
+  private static final class AccessorKey {
+    private final Class<?> type;
+    private final String name;
+    private final boolean bareNamePropertyMethods;
+
+    private AccessorKey(Class<?> type, String name, boolean bareNamePropertyMethods) {
+      this.type = type;
+      this.name = name;
+      this.bareNamePropertyMethods = bareNamePropertyMethods;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      AccessorKey accessorKey = (AccessorKey) o;
+      return bareNamePropertyMethods == accessorKey.bareNamePropertyMethods
+             && Objects.equals(type, accessorKey.type)
+             && Objects.equals(name, accessorKey.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, name, bareNamePropertyMethods);
+    }
+  }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.util.introspection.Introspection.canIntrospectExtractBareNamePropertyMethods;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * A property/field name like {@code "address.street.number"} split once into the names to read one after the other.
+ * <p>
+ * Each name remembers the accessor used for the last class it was read from, extracting the same path from many
+ * elements of the same type does not resolve anything again.
+ * <p>
+ * Paths are built from user supplied names, the cache is emptied when it reaches {@value #MAX_CACHED_PATHS} paths to
+ * keep it bounded, clearing it does not slow down the concurrent reads like a least recently used eviction would.
+ */
+final class PropertyOrFieldPath {
+
+  private static final String SEPARATOR = ".";
+  @VisibleForTesting
+  static final int MAX_CACHED_PATHS = 256;
+  private static final Map<String, PropertyOrFieldPath> PATH_CACHE = new ConcurrentHashMap<>();
+
+  private final String[] names;
+  // the last accessor used for each name, racy updates are fine as entries are immutable
+  private final CachedAccessor[] cachedAccessors;
+
+  private PropertyOrFieldPath(String[] names) {
+    this.names = names;
+    this.cachedAccessors = new CachedAccessor[names.length];
+  }
+
+  static PropertyOrFieldPath of(String propertyOrFieldName) {
+    PropertyOrFieldPath path = PATH_CACHE.get(propertyOrFieldName);
+    if (path != null) return path;
+    if (PATH_CACHE.size() >= MAX_CACHED_PATHS) PATH_CACHE.clear();
+    return PATH_CACHE.computeIfAbsent(propertyOrFieldName, PropertyOrFieldPath::parse);
+  }
+
+  private static PropertyOrFieldPath parse(String propertyOrFieldName) {
+    List<String> names = new ArrayList<>();
+    String remainingNames = propertyOrFieldName;
+    while (isNested(remainingNames)) {
+      int separatorIndex = remainingNames.indexOf(SEPARATOR);
+      names.add(remainingNames.substring(0, separatorIndex));
+      remainingNames = remainingNames.substring(separatorIndex + 1);
+    }
+    names.add(remainingNames);
+    return new PropertyOrFieldPath(names.toArray(new String[0]));
+  }
+
+  private static boolean isNested(String propertyOrFieldName) {
+    return propertyOrFieldName.contains(SEPARATOR)
+           && !propertyOrFieldName.startsWith(SEPARATOR)
+           && !propertyOrFieldName.endsWith(SEPARATOR);
+  }
+
+  /**
+   * Reads the value at the end of this path, {@code null} if one of the intermediate values is {@code null}.
+   *
+   * @param input the object to read the path from, not {@code null}
+   * @param propertyOrFieldSupport used to read each name of the path
+   * @return the value at the end of this path
+   */
+  Object valueOf(Object input, PropertyOrFieldSupport propertyOrFieldSupport) {
+    Object value = input;
+    for (int i = 0; i < names.length; i++) {
+      // when one of the intermediate nested property/field value is null, return null
+      if (value == null) return null;
+      value = propertyOrFieldSupport.getSimpleValue(names[i], value, accessor(i, value.getClass()));
+    }
+    return value;
+  }
+
+  String[] names() {
+    return names.clone();
+  }
+
+  private PropertyOrFieldAccessor accessor(int nameIndex, Class<?> type) {
+    boolean bareNamePropertyMethods = canIntrospectExtractBareNamePropertyMethods();
+    CachedAccessor cachedAccessor = cachedAccessors[nameIndex];
+    if (cachedAccessor != null && cachedAccessor.type == type
+        && cachedAccessor.bareNamePropertyMethods == bareNamePropertyMethods) {
+      return cachedAccessor.accessor;
+    }
+    PropertyOrFieldAccessor accessor = PropertyOrFieldAccessor.of(type, names[nameIndex]);
+    cachedAccessors[nameIndex] = new CachedAccessor(type, bareNamePropertyMethods, accessor);
+    return accessor;
+  }
+
+  private static final class CachedAccessor {
+    private final Class<?> type;
+    // getters resolution depends on this global setting
+    private final boolean bareNamePropertyMethods;
+    private final PropertyOrFieldAccessor accessor;
+
+    private CachedAccessor(Class<?> type, boolean bareNamePropertyMethods, PropertyOrFieldAccessor accessor) {
+      this.type = type;
+      this.bareNamePropertyMethods = bareNamePropertyMethods;
+      this.accessor = accessor;
+    }
+  }
+
+}
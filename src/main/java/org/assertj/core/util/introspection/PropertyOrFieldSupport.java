@@ -20,7 +20,6 @@ import java.util.Map;
 import org.assertj.core.util.VisibleForTesting;
 
 public class PropertyOrFieldSupport {
-  private static final String SEPARATOR = ".";
   private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
 
@@ -48,19 +47,28 @@ public class PropertyOrFieldSupport {
     checkArgument(!propertyOrFieldName.isEmpty(), "The name of the property/field to read should not be empty");
     checkArgument(input != null, "The object to extract property/field from should not be null");
 
-    if (isNested(propertyOrFieldName)) {
-      String firstPropertyName = popNameFrom(propertyOrFieldName);
-      Object propertyOrFieldValue = getSimpleValue(firstPropertyName, input);
-      // when one of the intermediate nested property/field value is null, return null
-      if (propertyOrFieldValue == null) return null;
-      // extract next sub-property/field value until reaching the last sub-property/field
-      return getValueOf(nextNameFrom(propertyOrFieldName), propertyOrFieldValue);
-    }
-
-    return getSimpleValue(propertyOrFieldName, input);
+    return PropertyOrFieldPath.of(propertyOrFieldName).valueOf(input, this);
   }
 
   public Object getSimpleValue(String name, Object input) {
+    if (input == null) return resolveSimpleValue(name, input);
+    return getSimpleValue(name, input, PropertyOrFieldAccessor.of(input.getClass(), name));
+  }
+
+  Object getSimpleValue(String name, Object input, PropertyOrFieldAccessor accessor) {
+    if (accessor.canRead(fieldSupport)) {
+      try {
+        return accessor.read(input);
+      } catch (Throwable ignored) {
+        // the getter failed, resolve the value the slow way which might fall back to the field or report the error
+      }
+    }
+    // no need to fail looking for a property then a field to know that the name is a map key
+    if (accessor.isAbsent() && input instanceof Map) return ((Map<?, ?>) input).get(name);
+    return resolveSimpleValue(name, input);
+  }
+
+  private Object resolveSimpleValue(String name, Object input) {
     // try to get name as a property, then try as a field, then try as a map key
     try {
       return propertySupport.propertyValueOf(name, Object.class, input);
@@ -90,20 +98,4 @@ public class PropertyOrFieldSupport {
     }
   }
 
-  private String popNameFrom(String propertyOrFieldNameChain) {
-    if (!isNested(propertyOrFieldNameChain)) return propertyOrFieldNameChain;
-    return propertyOrFieldNameChain.substring(0, propertyOrFieldNameChain.indexOf(SEPARATOR));
-  }
-
-  private String nextNameFrom(String propertyOrFieldNameChain) {
-    if (!isNested(propertyOrFieldNameChain)) return "";
-    return propertyOrFieldNameChain.substring(propertyOrFieldNameChain.indexOf(SEPARATOR) + 1);
-  }
-
-  private boolean isNested(String propertyOrFieldName) {
-    return propertyOrFieldName.contains(SEPARATOR)
-           && !propertyOrFieldName.startsWith(SEPARATOR)
-           && !propertyOrFieldName.endsWith(SEPARATOR);
-  }
-
 }
@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.lang.StackWalker.StackFrame;
+
+/**
+ * Captures the stack frames not related to AssertJ, they are skipped while walking the stack so that only the kept
+ * ones are turned into {@link StackTraceElement}s.
+ */
+final class StackTraces {
+
+  private static final String ORG_ASSERTJ = "org.assert";
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+  private StackTraces() {}
+
+  static StackTraceElement[] nonAssertJRelatedElements(int maxDepth) {
+    return STACK_WALKER.walk(frames -> frames.filter(frame -> !frame.getClassName().contains(ORG_ASSERTJ))
+                                             .limit(maxDepth)
+                                             .map(StackFrame::toStackTraceElement)
+                                             .toArray(StackTraceElement[]::new));
+  }
+}
@@ -1618,6 +1618,21 @@ class BDDSoftAssertionsTest extends BaseAssertionsTest {
     assertThat(errorsCollected.get(3)).hasMessageContaining("check size after navigating back");
   }
 
+  // the test would fail if any method was not proxyable as the assertion error would not be softly caught
+  @Test
+  void iterator_soft_assertions_should_report_errors_on_final_methods() {
+    // WHEN
+    softly.then(list(1, 2, 3).iterator()).contains(4);
+    softly.then(list(1, 2, 3).iterator()).doesNotContain(2);
+    softly.then(list(1, 2, 3).iterator()).startsWith(2);
+    // THEN
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    assertThat(errorsCollected).hasSize(3);
+    assertThat(errorsCollected.get(0)).hasMessageContaining("to contain");
+    assertThat(errorsCollected.get(1)).hasMessageContaining("not to contain");
+    assertThat(errorsCollected.get(2)).hasMessageContaining("to start with");
+  }
+
   @SuppressWarnings("unchecked")
   @Test
   void predicate_soft_assertions_should_report_errors_on_final_methods() {
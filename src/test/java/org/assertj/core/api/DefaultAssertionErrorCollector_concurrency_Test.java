@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class DefaultAssertionErrorCollector_concurrency_Test {
+
+  private static final int THREADS = 8;
+  private static final int ERRORS_PER_THREAD = 10_000;
+
+  private final DefaultAssertionErrorCollector collector = new DefaultAssertionErrorCollector();
+
+  @Test
+  void should_collect_errors_from_concurrent_threads_in_the_order_each_thread_collected_them() throws Exception {
+    // GIVEN
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int thread = 0; thread < THREADS; thread++) {
+        String threadName = "thread" + thread;
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < ERRORS_PER_THREAD; i++) {
+            collector.collectAssertionError(new AssertionError(threadName + " " + i));
+          }
+          return null;
+        }));
+      }
+      // WHEN
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    // THEN
+    List<String> messages = collector.assertionErrorsCollected().stream().map(Throwable::getMessage).collect(toList());
+    then(messages).hasSize(THREADS * ERRORS_PER_THREAD);
+    then(collector.wasSuccess()).isFalse();
+    for (int thread = 0; thread < THREADS; thread++) {
+      String threadName = "thread" + thread;
+      List<String> expectedThreadMessages = IntStream.range(0, ERRORS_PER_THREAD).mapToObj(i -> threadName + " " + i)
+                                                     .collect(toList());
+      Stream<String> threadMessages = messages.stream().filter(message -> message.startsWith(threadName + " "));
+      then(threadMessages).containsExactlyElementsOf(expectedThreadMessages);
+    }
+  }
+
+  @Test
+  void should_return_a_snapshot_of_the_errors_collected_so_far() {
+    // GIVEN
+    collector.collectAssertionError(new AssertionError("first"));
+    List<AssertionError> errors = collector.assertionErrorsCollected();
+    // WHEN
+    collector.collectAssertionError(new AssertionError("second"));
+    // THEN
+    then(errors).hasSize(1);
+    then(collector.assertionErrorsCollected()).extracting(Throwable::getMessage).containsExactly("first", "second");
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.DateUtil.newIsoDateFormat;
+import static org.assertj.core.util.DateUtil.newIsoDateTimeFormat;
+import static org.assertj.core.util.DateUtil.newIsoDateTimeWithIsoTimeZoneFormat;
+import static org.assertj.core.util.DateUtil.newIsoDateTimeWithMsAndIsoTimeZoneFormat;
+import static org.assertj.core.util.DateUtil.newIsoDateTimeWithMsFormat;
+import static org.assertj.core.util.DateUtil.newTimestampDateFormat;
+import static org.assertj.core.util.Lists.list;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class DefaultDateFormats_Test {
+
+  private final DefaultDateFormats defaultDateFormats = new DefaultDateFormats(dateFormats());
+
+  @Test
+  void should_parse_strings_like_the_first_default_date_format_able_to_parse_them() {
+    // GIVEN
+    List<String> datesAsStrings = list("2003-04-26T03:01:02.758+00:00", "2003-04-26T03:01:02.758Z",
+                                       "2003-04-26T03:01:02.758-05", "2003-04-26T03:01:02.999", "2003-04-26 03:01:02.999",
+                                       "2003-04-26T03:01:02+01:00", "2003-04-26T03:01:02+0100", "2003-04-26T13:01:02",
+                                       "2003-04-26", "1492-10-12T10:00:00",
+                                       // offset minutes are ignored by the default date formats
+                                       "2003-04-26T03:01:02+05:30",
+                                       // extra characters are ignored by the default date formats
+                                       "2003-04-26T03:01:02.1", "2003-04-26 03:01:02", "2003-04-26T03:01:02.758+00:00 CET");
+    for (String dateAsString : datesAsStrings) {
+      // WHEN
+      Date date = defaultDateFormats.parse(dateAsString);
+      // THEN
+      then(date).as(dateAsString).isEqualTo(parseWithDateFormats(dateAsString));
+    }
+  }
+
+  @Test
+  void should_return_null_if_no_default_date_format_can_parse_string() {
+    then(defaultDateFormats.parse("2003-02-30")).isNull();
+    then(defaultDateFormats.parse("2003/04/26")).isNull();
+  }
+
+  @Test
+  void should_parse_strings_leniently_if_enabled() {
+    // GIVEN
+    defaultDateFormats.setLenient(true);
+    // WHEN
+    Date date = defaultDateFormats.parse("2003-04-26T24:00:00");
+    // THEN
+    then(date).isEqualTo(defaultDateFormats.parse("2003-04-27"));
+  }
+
+  @Test
+  void should_parse_strings_concurrently() throws Exception {
+    // GIVEN
+    String dateAsString = "2003-04-26T03:01:02.999";
+    Date expected = parseWithDateFormats(dateAsString);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<Date>> dates = new ArrayList<>();
+    // WHEN
+    for (int i = 0; i < 100; i++) {
+      dates.add(executor.submit(() -> defaultDateFormats.parse(dateAsString)));
+    }
+    // THEN
+    for (Future<Date> date : dates) {
+      then(date.get(10, SECONDS)).isEqualTo(expected);
+    }
+    executor.shutdown();
+  }
+
+  private static List<DateFormat> dateFormats() {
+    return list(newIsoDateTimeWithMsAndIsoTimeZoneFormat(), newIsoDateTimeWithMsFormat(), newTimestampDateFormat(),
+                newIsoDateTimeWithIsoTimeZoneFormat(), newIsoDateTimeFormat(), newIsoDateFormat());
+  }
+
+  private static Date parseWithDateFormats(String dateAsString) {
+    for (DateFormat dateFormat : dateFormats()) {
+      try {
+        return dateFormat.parse(dateAsString);
+      } catch (@SuppressWarnings("unused") ParseException e) {
+        // try next date format
+      }
+    }
+    return null;
+  }
+}
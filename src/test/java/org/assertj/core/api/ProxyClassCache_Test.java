@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.ProxyClassCache.ProxyClassGenerator;
+import org.junit.jupiter.api.Test;
+
+class ProxyClassCache_Test {
+
+  private final ProxyClassCache cache = new ProxyClassCache();
+  private final AtomicInteger generationCount = new AtomicInteger();
+
+  @Test
+  void should_generate_proxy_class_of_assertj_assert_class_once() {
+    // GIVEN
+    cache.findOrCreate(StringAssert.class, this::generate);
+    // WHEN
+    Class<? extends StringAssert> proxyClass = cache.findOrCreate(StringAssert.class, this::generate);
+    // THEN
+    then(proxyClass).isEqualTo(StringAssert.class);
+    then(generationCount).hasValue(1);
+  }
+
+  @Test
+  void should_generate_proxy_class_per_assert_class() {
+    // GIVEN
+    cache.findOrCreate(StringAssert.class, this::generate);
+    // WHEN
+    Class<? extends ObjectAssert> proxyClass = cache.findOrCreate(ObjectAssert.class, this::generate);
+    // THEN
+    then(proxyClass).isEqualTo(ObjectAssert.class);
+    then(generationCount).hasValue(2);
+  }
+
+  @Test
+  void should_generate_proxy_class_again_if_its_generation_has_failed() {
+    // GIVEN
+    IllegalStateException boom = new IllegalStateException("boom");
+    Throwable throwable = catchThrowable(() -> cache.findOrCreate(StringAssert.class, new ProxyClassGenerator() {
+      @Override
+      public <T> Class<? extends T> generate(Class<T> assertClass) {
+        throw boom;
+      }
+    }));
+    // WHEN
+    Class<? extends StringAssert> proxyClass = cache.findOrCreate(StringAssert.class, this::generate);
+    // THEN
+    then(throwable).isSameAs(boom);
+    then(proxyClass).isEqualTo(StringAssert.class);
+    then(generationCount).hasValue(1);
+  }
+
+  @Test
+  void should_not_hold_a_lock_while_generating_a_proxy_class() {
+    // GIVEN
+    ProxyClassGenerator generatingAnotherClass = new ProxyClassGenerator() {
+      @Override
+      public <T> Class<? extends T> generate(Class<T> assertClass) {
+        cache.findOrCreate(ObjectAssert.class, ProxyClassCache_Test.this::generate);
+        return ProxyClassCache_Test.this.generate(assertClass);
+      }
+    };
+    // WHEN
+    Class<? extends StringAssert> proxyClass = cache.findOrCreate(StringAssert.class, generatingAnotherClass);
+    // THEN
+    then(proxyClass).isEqualTo(StringAssert.class);
+    then(cache.findOrCreate(ObjectAssert.class, this::generate)).isEqualTo(ObjectAssert.class);
+    then(generationCount).hasValue(2);
+  }
+
+  // stands for the ByteBuddy generation, the assert class itself is good enough to check the caching
+  private <T> Class<? extends T> generate(Class<T> assertClass) {
+    generationCount.incrementAndGet();
+    return assertClass;
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.assumptions;
+
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.assertj.core.api.assumptions.BaseAssumptionRunner.assumptionRunner;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.IteratorAssert;
+
+/**
+ * verify that assertions final methods in {@link IteratorAssert} work with assumptions (i.e. that they are proxied correctly).
+ */
+class Iterator_final_method_assertions_in_assumptions_Test extends BaseAssumptionsRunnerTest {
+
+  public static Stream<AssumptionRunner<?>> provideAssumptionsRunners() {
+    // a fresh iterator is created in each assumption as the element assertions consume it
+    List<Integer> numbers = list(1, 2, 3);
+    return Stream.of(
+        assumptionRunner(numbers,
+            value -> assumeThat(value.iterator()).contains(1, 3),
+            value -> assumeThat(value.iterator()).contains(4)),
+        assumptionRunner(numbers,
+            value -> assumeThat(value.iterator()).doesNotContain(4, 5),
+            value -> assumeThat(value.iterator()).doesNotContain(2)),
+        assumptionRunner(numbers,
+            value -> assumeThat(value.iterator()).startsWith(1, 2),
+            value -> assumeThat(value.iterator()).startsWith(2))
+    );
+  }
+}
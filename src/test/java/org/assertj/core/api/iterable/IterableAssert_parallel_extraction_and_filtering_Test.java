@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.iterable;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.setParallelExtractionAndFiltering;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.assertj.core.test.Name;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IterableAssert_parallel_extraction_and_filtering_Test {
+
+  private final List<Name> names = IntStream.range(0, 100_000).mapToObj(i -> new Name("first" + i, "last" + i % 10))
+                                            .collect(toList());
+
+  @BeforeEach
+  void setUp() {
+    setParallelExtractionAndFiltering(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    setParallelExtractionAndFiltering(false);
+  }
+
+  @Test
+  void should_filter_and_extract_elements_in_their_original_order() {
+    assertThat(names).filteredOn("last", "last7")
+                     .hasSize(10_000)
+                     .extracting("first")
+                     .startsWith("first7", "first17", "first27")
+                     .endsWith("first99997");
+  }
+
+  @Test
+  void should_filter_with_predicate_and_flat_extract_elements_in_their_original_order() {
+    assertThat(names).filteredOn(name -> name.getFirst().endsWith("99"))
+                     .flatExtracting("first", "last")
+                     .hasSize(2_000)
+                     .startsWith("first99", "last9", "first199", "last9");
+  }
+}
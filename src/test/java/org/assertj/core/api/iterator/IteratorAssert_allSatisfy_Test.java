@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AbstractIteratorAssert;
+import org.assertj.core.api.IteratorAssert;
+import org.assertj.core.api.IteratorAssertBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link AbstractIteratorAssert#allSatisfy(Consumer)}</code>.
+ */
+class IteratorAssert_allSatisfy_Test extends IteratorAssertBaseTest {
+
+  private final Consumer<Object> requirements = o -> assertThat(o).isNotNull();
+
+  @Override
+  protected IteratorAssert<Object> invoke_api_method() {
+    return assertions.allSatisfy(requirements);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(iterators).assertAllSatisfy(getInfo(assertions), getActual(assertions), requirements);
+  }
+
+  @Test
+  void should_pass_if_all_elements_satisfy_requirements() {
+    assertThat(list("a", "b").iterator()).allSatisfy(s -> assertThat(s).hasSize(1));
+  }
+
+  @Test
+  void should_fail_on_the_first_element_not_satisfying_requirements() {
+    // GIVEN
+    Iterator<Integer> iterator = Stream.iterate(1, i -> i + 1).iterator();
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).allSatisfy(i -> assertThat(i).isLessThan(100)),
+                                                AssertionError.class);
+    // THEN
+    assertThat(error).hasMessageContainingAll("the iterator under test", "<100>");
+    assertThat(iterator.next()).isEqualTo(101);
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Iterator<Object> iterator = null;
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).allSatisfy(requirements), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage(actualIsNull());
+  }
+
+}
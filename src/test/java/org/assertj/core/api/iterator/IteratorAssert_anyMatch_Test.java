@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.iterator;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AbstractIteratorAssert;
+import org.assertj.core.api.IteratorAssert;
+import org.assertj.core.api.IteratorAssertBaseTest;
+import org.assertj.core.presentation.PredicateDescription;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link AbstractIteratorAssert#anyMatch(Predicate)}</code>.
+ */
+class IteratorAssert_anyMatch_Test extends IteratorAssertBaseTest {
+
+  private final Predicate<Object> predicate = o -> o != null;
+
+  @Override
+  protected IteratorAssert<Object> invoke_api_method() {
+    return assertions.anyMatch(predicate);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(iterators).assertAnyMatch(getInfo(assertions), getActual(assertions), predicate, PredicateDescription.GIVEN);
+  }
+
+  @Test
+  void should_stop_reading_elements_once_one_matches() {
+    assertThat(Stream.iterate(1, i -> i + 1).iterator()).anyMatch(i -> i > 100);
+  }
+
+  @Test
+  void should_fail_if_no_elements_match() {
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(list(1, 2, 3).iterator()).anyMatch(i -> i > 100), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage(format("%n" +
+                                        "Expecting any elements of:%n" +
+                                        "  <the iterator under test>%n" +
+                                        "to match given predicate but none did."));
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Iterator<Object> iterator = null;
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).anyMatch(predicate), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage(actualIsNull());
+  }
+
+}
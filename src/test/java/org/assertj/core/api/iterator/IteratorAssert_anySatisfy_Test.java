@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AbstractIteratorAssert;
+import org.assertj.core.api.IteratorAssert;
+import org.assertj.core.api.IteratorAssertBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link AbstractIteratorAssert#anySatisfy(Consumer)}</code>.
+ */
+class IteratorAssert_anySatisfy_Test extends IteratorAssertBaseTest {
+
+  private final Consumer<Object> requirements = o -> assertThat(o).isNotNull();
+
+  @Override
+  protected IteratorAssert<Object> invoke_api_method() {
+    return assertions.anySatisfy(requirements);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(iterators).assertAnySatisfy(getInfo(assertions), getActual(assertions), requirements);
+  }
+
+  @Test
+  void should_stop_reading_elements_once_one_satisfies_requirements() {
+    // GIVEN
+    Iterator<Integer> iterator = Stream.iterate(1, i -> i + 1).iterator();
+    // WHEN
+    assertThat(iterator).anySatisfy(i -> assertThat(i).isGreaterThan(100));
+    // THEN
+    assertThat(iterator.next()).isEqualTo(102);
+  }
+
+  @Test
+  void should_fail_if_no_elements_satisfy_requirements() {
+    // GIVEN
+    Iterator<String> iterator = list("a", "b").iterator();
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).anySatisfy(s -> assertThat(s).isEqualTo("c")),
+                                                AssertionError.class);
+    // THEN
+    assertThat(error).hasMessageContainingAll("the iterator under test", "\"a\"", "\"b\"");
+  }
+
+  @Test
+  void should_only_report_a_bounded_sample_of_the_elements_not_satisfying_requirements() {
+    // GIVEN
+    Iterator<Integer> iterator = Stream.iterate(1, i -> i + 1).limit(25).iterator();
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).anySatisfy(i -> assertThat(i).isZero()),
+                                                AssertionError.class);
+    // THEN
+    assertThat(error).hasMessageContainingAll("<10>", "... and 15 other elements not satisfying the requirements");
+    assertThat(error.getMessage()).doesNotContain("<11>");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Iterator<Object> iterator = null;
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).anySatisfy(requirements), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage(actualIsNull());
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.iterator;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AbstractIteratorAssert;
+import org.assertj.core.api.IteratorAssert;
+import org.assertj.core.api.IteratorAssertBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link AbstractIteratorAssert#contains(Object...)}</code>.
+ */
+class IteratorAssert_contains_Test extends IteratorAssertBaseTest {
+
+  @Override
+  protected IteratorAssert<Object> invoke_api_method() {
+    return assertions.contains("foo", "bar");
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(iterators).assertContains(getInfo(assertions), getActual(assertions), new Object[] { "foo", "bar" });
+  }
+
+  @Test
+  void should_pass_if_actual_contains_given_values_in_any_order() {
+    assertThat(list("a", "b", "c").iterator()).contains("c", "a");
+  }
+
+  @Test
+  void should_stop_reading_elements_once_all_values_are_found() {
+    // GIVEN
+    Iterator<Integer> iterator = Stream.iterate(1, i -> i + 1).iterator();
+    // WHEN
+    assertThat(iterator).contains(3, 1);
+    // THEN
+    assertThat(iterator.next()).isEqualTo(4);
+  }
+
+  @Test
+  void should_pass_if_actual_and_values_are_empty() {
+    assertThat(list().iterator()).contains();
+  }
+
+  @Test
+  void should_fail_if_values_are_empty_and_actual_is_not() {
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(list("a").iterator()).contains(), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage("actual is not empty");
+  }
+
+  @Test
+  void should_fail_if_values_are_null() {
+    // GIVEN
+    String[] values = null;
+    // THEN
+    assertThatNullPointerException().isThrownBy(() -> assertThat(list("a").iterator()).contains(values));
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_contain_all_values() {
+    // GIVEN
+    Iterator<String> iterator = list("a", "b", "c").iterator();
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).contains("a", "d", "e"), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage(format("%n" +
+                                        "Expecting :%n" +
+                                        " <the iterator under test>%n" +
+                                        "to contain:%n" +
+                                        " <[\"a\", \"d\", \"e\"]>%n" +
+                                        "but could not find the following element(s):%n" +
+                                        " <[\"d\", \"e\"]>%n"));
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Iterator<Object> iterator = null;
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).contains("a"), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage(actualIsNull());
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.iterator;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+
+import org.assertj.core.api.AbstractIteratorAssert;
+import org.assertj.core.api.IteratorAssert;
+import org.assertj.core.api.IteratorAssertBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link AbstractIteratorAssert#doesNotContain(Object...)}</code>.
+ */
+class IteratorAssert_doesNotContain_Test extends IteratorAssertBaseTest {
+
+  @Override
+  protected IteratorAssert<Object> invoke_api_method() {
+    return assertions.doesNotContain("foo", "bar");
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(iterators).assertDoesNotContain(getInfo(assertions), getActual(assertions), new Object[] { "foo", "bar" });
+  }
+
+  @Test
+  void should_pass_if_actual_does_not_contain_given_values() {
+    assertThat(list("a", "b", "c").iterator()).doesNotContain("d", "e");
+  }
+
+  @Test
+  void should_fail_if_values_are_empty() {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThat(list("a").iterator()).doesNotContain());
+  }
+
+  @Test
+  void should_fail_if_actual_contains_some_values() {
+    // GIVEN
+    Iterator<String> iterator = list("a", "b", "a", "c").iterator();
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).doesNotContain("d", "a", "c"), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage(format("%n" +
+                                        "Expecting%n" +
+                                        " <the iterator under test>%n" +
+                                        "not to contain%n" +
+                                        " <[\"d\", \"a\", \"c\"]>%n" +
+                                        "but found%n" +
+                                        " <[\"a\", \"c\"]>%n"));
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Iterator<Object> iterator = null;
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).doesNotContain("a"), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage(actualIsNull());
+  }
+
+}
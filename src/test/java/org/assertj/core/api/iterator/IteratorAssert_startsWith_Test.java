@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.iterator;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AbstractIteratorAssert;
+import org.assertj.core.api.IteratorAssert;
+import org.assertj.core.api.IteratorAssertBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link AbstractIteratorAssert#startsWith(Object...)}</code>.
+ */
+class IteratorAssert_startsWith_Test extends IteratorAssertBaseTest {
+
+  @Override
+  protected IteratorAssert<Object> invoke_api_method() {
+    return assertions.startsWith("foo", "bar");
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(iterators).assertStartsWith(getInfo(assertions), getActual(assertions), new Object[] { "foo", "bar" });
+  }
+
+  @Test
+  void should_only_read_the_elements_of_the_sequence() {
+    // GIVEN
+    Iterator<Integer> iterator = Stream.iterate(1, i -> i + 1).iterator();
+    // WHEN
+    assertThat(iterator).startsWith(1, 2, 3);
+    // THEN
+    assertThat(iterator.next()).isEqualTo(4);
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_start_with_sequence() {
+    // GIVEN
+    Iterator<String> iterator = list("a", "b", "c").iterator();
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).startsWith("a", "c"), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage(format("%n" +
+                                        "Expecting:%n" +
+                                        " <the iterator under test>%n" +
+                                        "to start with:%n" +
+                                        " <[\"a\", \"c\"]>%n"));
+  }
+
+  @Test
+  void should_fail_if_actual_is_shorter_than_sequence() {
+    // GIVEN
+    Iterator<String> iterator = list("a").iterator();
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).startsWith("a", "b"), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessageContaining("to start with");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Iterator<Object> iterator = null;
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat(iterator).startsWith("a"), AssertionError.class);
+    // THEN
+    assertThat(error).hasMessage(actualIsNull());
+  }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.Objects.getFieldsNames;
+
+import org.junit.jupiter.api.Test;
+
+class ClassFields_Test {
+
+  @Test
+  void should_have_the_class_fields_names() {
+    assertThat(ClassFields.of(Child.class).names()).isEqualTo(getFieldsNames(Child.class));
+  }
+
+  @Test
+  void should_introspect_a_class_once() {
+    assertThat(ClassFields.of(Child.class)).isSameAs(ClassFields.of(Child.class));
+  }
+
+  @SuppressWarnings("unused")
+  private static class Parent {
+    private final int id = 1;
+    private int age;
+  }
+
+  @SuppressWarnings("unused")
+  private static class Child extends Parent {
+    private String name;
+    private long id;
+  }
+}
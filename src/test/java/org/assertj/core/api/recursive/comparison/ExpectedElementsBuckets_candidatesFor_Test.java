@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import org.assertj.core.internal.objects.data.Person;
+import org.assertj.core.internal.objects.data.PersonDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpectedElementsBuckets_candidatesFor_Test {
+
+  private static final List<String> PATH = list("foo", "bar");
+
+  private RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+
+  @BeforeEach
+  void setup() {
+    recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+  }
+
+  @Test
+  void should_only_return_expected_elements_equal_to_basic_value() {
+    // GIVEN
+    ExpectedElementsBuckets expectedElements = bucket(list("a", "b", 1, "a", null));
+    // WHEN
+    List<Integer> candidates = toList(expectedElements.candidatesFor("a"));
+    // THEN
+    assertThat(candidates).containsExactly(0, 3);
+  }
+
+  @Test
+  void should_only_return_expected_enums_with_the_same_name() {
+    // GIVEN
+    ExpectedElementsBuckets expectedElements = bucket(list(Color.RED, Color.BLUE, ColorDto.RED, "GREEN"));
+    // WHEN
+    List<Integer> candidates = toList(expectedElements.candidatesFor(Color.RED));
+    // THEN
+    assertThat(candidates).containsExactly(0, 2);
+  }
+
+  @Test
+  void should_only_return_expected_elements_with_the_same_basic_field_values() {
+    // GIVEN
+    ExpectedElementsBuckets expectedElements = bucket(list(new Person("Sheldon"), new Person("Leonard"),
+                                                           new PersonDto("Sheldon"), "Sheldon"));
+    // WHEN
+    List<Integer> candidates = toList(expectedElements.candidatesFor(new Person("Sheldon")));
+    // THEN
+    assertThat(candidates).containsExactly(0, 2);
+  }
+
+  @Test
+  void should_not_return_matched_expected_elements() {
+    // GIVEN
+    ExpectedElementsBuckets expectedElements = bucket(list("a", "b", "a"));
+    // WHEN
+    expectedElements.markAsMatched(0);
+    // THEN
+    assertThat(toList(expectedElements.candidatesFor("a"))).containsExactly(2);
+    assertThat(expectedElements.allMatched()).isFalse();
+  }
+
+  @Test
+  void should_return_all_unmatched_expected_elements_when_actual_element_is_null() {
+    // GIVEN
+    ExpectedElementsBuckets expectedElements = bucket(list("a", null, "b"));
+    expectedElements.markAsMatched(1);
+    // WHEN
+    List<Integer> candidates = toList(expectedElements.candidatesFor(null));
+    // THEN
+    assertThat(candidates).containsExactly(0, 2);
+  }
+
+  @Test
+  void should_return_all_expected_elements_when_a_comparator_is_registered_for_actual_element_type() {
+    // GIVEN
+    recursiveComparisonConfiguration.registerComparatorForType(String.CASE_INSENSITIVE_ORDER, String.class);
+    ExpectedElementsBuckets expectedElements = bucket(list("a", "A", "b"));
+    // WHEN
+    List<Integer> candidates = toList(expectedElements.candidatesFor("a"));
+    // THEN
+    assertThat(candidates).containsExactly(0, 1, 2);
+  }
+
+  @Test
+  void should_return_all_expected_elements_when_a_comparator_is_registered_for_the_iterable_field() {
+    // GIVEN
+    recursiveComparisonConfiguration.registerComparatorForFields(String.CASE_INSENSITIVE_ORDER, "foo.bar");
+    ExpectedElementsBuckets expectedElements = bucket(list("a", "A", "b"));
+    // WHEN
+    List<Integer> candidates = toList(expectedElements.candidatesFor("a"));
+    // THEN
+    assertThat(candidates).containsExactly(0, 1, 2);
+  }
+
+  @Test
+  void should_not_fingerprint_ignored_fields() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFields("foo.bar.name");
+    ExpectedElementsBuckets expectedElements = bucket(list(new Person("Sheldon"), new Person("Leonard")));
+    // WHEN
+    List<Integer> candidates = toList(expectedElements.candidatesFor(new Person("Howard")));
+    // THEN
+    assertThat(candidates).containsExactly(0, 1);
+  }
+
+  @Test
+  void should_not_fingerprint_fields_with_a_registered_comparator() {
+    // GIVEN
+    recursiveComparisonConfiguration.registerComparatorForFields(String.CASE_INSENSITIVE_ORDER, "foo.bar.name");
+    ExpectedElementsBuckets expectedElements = bucket(list(new Person("Sheldon"), new Person("Leonard")));
+    // WHEN
+    List<Integer> candidates = toList(expectedElements.candidatesFor(new Person("SHELDON")));
+    // THEN
+    assertThat(candidates).containsExactly(0, 1);
+  }
+
+  @Test
+  void should_return_all_expected_elements_when_fields_are_ignored_depending_on_their_values() {
+    // GIVEN
+    recursiveComparisonConfiguration.setIgnoreAllActualNullFields(true);
+    ExpectedElementsBuckets expectedElements = bucket(list(new Person("Sheldon"), new Person("Leonard")));
+    // WHEN
+    List<Integer> candidates = toList(expectedElements.candidatesFor(new Person(null)));
+    // THEN
+    assertThat(candidates).containsExactly(0, 1);
+  }
+
+  private ExpectedElementsBuckets bucket(List<?> expected) {
+    return new ExpectedElementsBuckets(expected, PATH, recursiveComparisonConfiguration);
+  }
+
+  private static List<Integer> toList(PrimitiveIterator.OfInt candidates) {
+    List<Integer> indexes = new ArrayList<>();
+    candidates.forEachRemaining((int index) -> indexes.add(index));
+    return indexes;
+  }
+}
@@ -46,6 +46,7 @@ class RecursiveComparisonAssert_fluent_API_Test {
                                                                                           .getRecursiveComparisonConfiguration();
     // THEN
     assertThat(recursiveComparisonConfiguration.isInStrictTypeCheckingMode()).isFalse();
+    assertThat(recursiveComparisonConfiguration.getParallelism()).isEqualTo(1);
     List<Entry<Class<?>, Comparator<?>>> defaultComparators = defaultTypeComparators().comparatorByTypes().collect(toList());
     assertThat(recursiveComparisonConfiguration.comparatorByTypes()).containsExactlyElementsOf(defaultComparators);
     assertThat(recursiveComparisonConfiguration.comparatorByFields()).isEmpty();
@@ -71,6 +72,16 @@ class RecursiveComparisonAssert_fluent_API_Test {
     assertThat(configuration.isInStrictTypeCheckingMode()).isTrue();
   }
 
+  @Test
+  void should_allow_to_compare_in_parallel() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = assertThat(ACTUAL).usingRecursiveComparison()
+                                                                       .withParallelism(4)
+                                                                       .getRecursiveComparisonConfiguration();
+    // THEN
+    assertThat(configuration.getParallelism()).isEqualTo(4);
+  }
+
   @Test
   void should_allow_to_use_its_own_RecursiveComparisonConfiguration() {
     // GIVEN
@@ -30,7 +30,9 @@ import static org.mockito.Mockito.verify;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.RecursiveComparisonAssert_isEqualTo_BaseTest;
@@ -264,6 +266,33 @@ class RecursiveComparisonAssert_isEqualTo_Test extends RecursiveComparisonAssert
                       .isEqualTo(expected);
   }
 
+  @Test
+  void should_be_able_to_compare_trees_with_references_to_parents() {
+    // GIVEN
+    TreeNode actual = tree(3, 10);
+    TreeNode expected = tree(3, 10);
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_report_difference_in_tree_with_references_to_parents() {
+    // GIVEN
+    TreeNode actual = tree(3, 10);
+    TreeNode expected = tree(3, 10);
+    TreeNode lastLeaf = expected.children.get(9).children.get(9);
+    lastLeaf.id = -1;
+    // WHEN
+    compareRecursivelyFailsAsExpected(actual, expected);
+    // THEN
+    ComparisonDifference idDifference = diff("children.children.id", 110, -1);
+    verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, idDifference);
+  }
+
   @Test
   void should_report_difference_in_collection() {
     // GIVEN
@@ -370,6 +399,36 @@ class RecursiveComparisonAssert_isEqualTo_Test extends RecursiveComparisonAssert
                           .isEqualTo(container2);
   }
 
+  // builds a tree of the given depth where each node has a reference to its parent, ids are given breadth first
+  private static TreeNode tree(int depth, int childrenCount) {
+    TreeNode root = new TreeNode(0, null);
+    List<TreeNode> level = list(root);
+    int id = 1;
+    for (int i = 1; i < depth; i++) {
+      List<TreeNode> nextLevel = new ArrayList<>();
+      for (TreeNode parent : level) {
+        for (int j = 0; j < childrenCount; j++) {
+          TreeNode child = new TreeNode(id++, parent);
+          parent.children.add(child);
+          nextLevel.add(child);
+        }
+      }
+      level = nextLevel;
+    }
+    return root;
+  }
+
+  static class TreeNode {
+    int id;
+    TreeNode parent;
+    List<TreeNode> children = new ArrayList<>();
+
+    TreeNode(int id, TreeNode parent) {
+      this.id = id;
+      this.parent = parent;
+    }
+  }
+
   public static class Container {
     private Path path;
 
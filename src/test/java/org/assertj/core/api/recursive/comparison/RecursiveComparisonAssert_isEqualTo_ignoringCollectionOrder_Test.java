@@ -15,9 +15,11 @@ package org.assertj.core.api.recursive.comparison;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.internal.objects.data.FriendlyPerson.friend;
 import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import static org.assertj.core.util.Lists.list;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -353,4 +355,34 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
 
   }
 
+  @Test
+  void should_pass_for_unordered_collections_with_many_elements_having_the_same_basic_field_values() {
+    // GIVEN
+    List<FriendlyPerson> actual = new ArrayList<>();
+    List<FriendlyPerson> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      FriendlyPerson person = friend("Sherlock Holmes " + i % 10);
+      person.home.address.number = i;
+      actual.add(person);
+      FriendlyPerson expectedPerson = friend("Sherlock Holmes " + (999 - i) % 10);
+      expectedPerson.home.address.number = 999 - i;
+      expected.add(expectedPerson);
+    }
+    // WHEN - THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_when_actual_duplicate_element_is_only_matched_by_an_already_matched_expected_element() {
+    // GIVEN
+    List<Color> actual = list(Color.RED, Color.RED);
+    List<Color> expected = list(Color.BLUE, Color.RED);
+    // WHEN - THEN
+    expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                 .ignoringCollectionOrder()
+                                                 .isEqualTo(expected));
+  }
+
 }
@@ -313,4 +313,25 @@ class RecursiveComparisonConfiguration_builder_Test {
     // THEN
     then(configuration.hasComparatorForType(String.class)).isTrue();
   }
+
+  @Test
+  void should_set_parallelism() {
+    // GIVEN
+    int parallelism = RandomUtils.nextInt(1, 16);
+    // WHEN
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withParallelism(parallelism)
+                                                                                     .build();
+    // THEN
+    then(configuration.getParallelism()).isEqualTo(parallelism);
+  }
+
+  @Test
+  void should_fail_if_parallelism_is_less_than_one() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> RecursiveComparisonConfiguration.builder().withParallelism(0).build());
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("parallelism must be greater than 0 but was 0");
+  }
 }
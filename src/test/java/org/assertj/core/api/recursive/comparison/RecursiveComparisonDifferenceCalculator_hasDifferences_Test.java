@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.internal.objects.data.FriendlyPerson;
+import org.assertj.core.internal.objects.data.Person;
+import org.assertj.core.internal.objects.data.PersonDto;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonDifferenceCalculator_hasDifferences_Test {
+
+  private final RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+
+  @Test
+  void should_return_false_when_objects_are_equivalent() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.neighbour = new Person("Jack");
+    actual.neighbour.neighbour = actual;
+    Person expected = new Person("John");
+    expected.neighbour = new Person("Jack");
+    expected.neighbour.neighbour = expected;
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(actual, expected, recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isFalse();
+  }
+
+  @Test
+  void should_return_true_when_objects_have_differences() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.neighbour = new Person("Jack");
+    Person expected = new Person("John");
+    expected.neighbour = new Person("Jim");
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(actual, expected, recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isTrue();
+  }
+
+  @Test
+  void should_return_true_when_types_are_not_compatible_in_strict_type_checking_mode() {
+    // GIVEN
+    Person actual = new Person("John");
+    PersonDto expected = new PersonDto("John");
+    recursiveComparisonConfiguration.strictTypeChecking(true);
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(actual, expected, recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isTrue();
+  }
+
+  @Test
+  void should_stop_comparing_at_the_first_difference() {
+    // GIVEN
+    List<String> actual = list("a", "b", "c");
+    List<String> expected = list("x", "y", "z");
+    AtomicInteger comparisonsCount = new AtomicInteger();
+    recursiveComparisonConfiguration.registerComparatorForType((s1, s2) -> {
+      comparisonsCount.incrementAndGet();
+      return s1.compareTo(s2);
+    }, String.class);
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(actual, expected, recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isTrue();
+    then(comparisonsCount).hasValue(1);
+  }
+
+  @Test
+  void should_find_differences_when_comparing_in_parallel() {
+    // GIVEN
+    List<Person> actual = list(new Person("John"), new Person("Jack"), new Person("Jim"));
+    List<Person> expected = list(new Person("John"), new Person("Jack"), new Person("James"));
+    recursiveComparisonConfiguration.setParallelism(2);
+    // WHEN
+    boolean hasDifferences = calculator.hasDifferences(actual, expected, recursiveComparisonConfiguration);
+    // THEN
+    then(hasDifferences).isTrue();
+  }
+
+  @Test
+  void should_agree_with_determineDifferences_on_cyclic_graphs_with_unordered_collections() {
+    // GIVEN
+    FriendlyPerson actual = cyclicGraph("Sherlock");
+    FriendlyPerson equivalent = cyclicGraph("Sherlock");
+    FriendlyPerson different = cyclicGraph("Mycroft");
+    // WHEN/THEN
+    then(calculator.hasDifferences(actual, equivalent, recursiveComparisonConfiguration)).isFalse();
+    then(calculator.determineDifferences(actual, equivalent, recursiveComparisonConfiguration)).isEmpty();
+    then(calculator.hasDifferences(actual, different, recursiveComparisonConfiguration)).isTrue();
+    then(calculator.determineDifferences(actual, different, recursiveComparisonConfiguration)).isNotEmpty();
+  }
+
+  @Test
+  void should_agree_with_determineDifferences_on_cyclic_graphs_when_ignoring_collection_order() {
+    // GIVEN
+    FriendlyPerson actual = cyclicGraph("Sherlock");
+    FriendlyPerson equivalent = cyclicGraph("Sherlock");
+    FriendlyPerson different = cyclicGraph("Mycroft");
+    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    // WHEN/THEN
+    then(calculator.hasDifferences(actual, equivalent, recursiveComparisonConfiguration)).isFalse();
+    then(calculator.determineDifferences(actual, equivalent, recursiveComparisonConfiguration)).isEmpty();
+    then(calculator.hasDifferences(actual, different, recursiveComparisonConfiguration)).isTrue();
+    then(calculator.determineDifferences(actual, different, recursiveComparisonConfiguration)).isNotEmpty();
+  }
+
+  // John is the neighbour and friend of Jack and the other way around, both are friends with the given person
+  private static FriendlyPerson cyclicGraph(String commonFriendName) {
+    FriendlyPerson john = new FriendlyPerson("John");
+    FriendlyPerson jack = new FriendlyPerson("Jack");
+    FriendlyPerson commonFriend = new FriendlyPerson(commonFriendName);
+    john.neighbour = jack;
+    jack.neighbour = john;
+    john.friends.add(jack);
+    john.friends.add(commonFriend);
+    jack.friends.add(john);
+    jack.friends.add(commonFriend);
+    john.otherFriends.add(john);
+    john.otherFriends.add(jack);
+    john.otherFriends.add(commonFriend);
+    jack.otherFriends.add(jack);
+    jack.otherFriends.add(john);
+    jack.otherFriends.add(commonFriend);
+    return john;
+  }
+}
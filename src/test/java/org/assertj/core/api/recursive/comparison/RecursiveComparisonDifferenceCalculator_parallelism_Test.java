@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonDifferenceCalculator_parallelism_Test {
+
+  private final RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+
+  @Test
+  void should_find_the_same_differences_as_the_sequential_comparison() {
+    // GIVEN
+    Node actual = tree(500, 7);
+    Node expected = tree(500, 11);
+    RecursiveComparisonConfiguration sequentialConfiguration = new RecursiveComparisonConfiguration();
+    RecursiveComparisonConfiguration parallelConfiguration = new RecursiveComparisonConfiguration();
+    parallelConfiguration.setParallelism(4);
+    // WHEN
+    List<ComparisonDifference> differences = calculator.determineDifferences(actual, expected, parallelConfiguration);
+    // THEN
+    then(differences).isNotEmpty()
+                     .isEqualTo(calculator.determineDifferences(actual, expected, sequentialConfiguration));
+  }
+
+  @Test
+  void should_find_the_same_differences_as_the_sequential_comparison_when_ignoring_collection_order() {
+    // GIVEN
+    Node actual = tree(500, 7);
+    Node expected = tree(500, 11);
+    RecursiveComparisonConfiguration sequentialConfiguration = new RecursiveComparisonConfiguration();
+    sequentialConfiguration.ignoreCollectionOrder(true);
+    RecursiveComparisonConfiguration parallelConfiguration = new RecursiveComparisonConfiguration();
+    parallelConfiguration.ignoreCollectionOrder(true);
+    parallelConfiguration.setParallelism(4);
+    // WHEN
+    List<ComparisonDifference> differences = calculator.determineDifferences(actual, expected, parallelConfiguration);
+    // THEN
+    then(differences).isNotEmpty()
+                     .isEqualTo(calculator.determineDifferences(actual, expected, sequentialConfiguration));
+  }
+
+  @Test
+  void should_pass_when_comparing_equal_graphs_with_cycles() {
+    // GIVEN
+    Node actual = tree(500, 7);
+    Node expected = tree(500, 7);
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .withParallelism(4)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_rethrow_the_exception_thrown_by_a_registered_comparator() {
+    // GIVEN
+    Node actual = tree(100, 7);
+    Node expected = tree(100, 11);
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+    configuration.setParallelism(2);
+    IllegalStateException boom = new IllegalStateException("boom");
+    configuration.registerComparatorForType((id1, id2) -> {
+      throw boom;
+    }, Integer.class);
+    // WHEN
+    Throwable throwable = catchThrowable(() -> calculator.determineDifferences(actual, expected, configuration));
+    // THEN
+    then(throwable).isSameAs(boom);
+  }
+
+  @Test
+  void should_compare_subgraphs_in_daemon_threads_shared_between_comparisons() {
+    // GIVEN
+    Set<Thread> comparingThreads = ConcurrentHashMap.newKeySet();
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+    configuration.setParallelism(2);
+    configuration.registerComparatorForType((Integer id1, Integer id2) -> {
+      comparingThreads.add(Thread.currentThread());
+      return id1.compareTo(id2);
+    }, Integer.class);
+    // WHEN
+    calculator.determineDifferences(tree(500, 7), tree(500, 7), configuration);
+    calculator.determineDifferences(tree(500, 7), tree(500, 7), configuration);
+    // THEN
+    comparingThreads.remove(Thread.currentThread());
+    then(comparingThreads).isNotEmpty()
+                          .hasSizeLessThanOrEqualTo(2)
+                          .allMatch(Thread::isDaemon);
+  }
+
+  // builds a tree of the given size where each node has a few children and a reference to its parent, one node out of
+  // differenceFrequency has a different value
+  private static Node tree(int size, int differenceFrequency) {
+    Node root = new Node(0, null);
+    List<Node> nodes = new ArrayList<>();
+    nodes.add(root);
+    for (int id = 1; id < size; id++) {
+      Node parent = nodes.get((id - 1) / 3);
+      Node child = new Node(id % differenceFrequency == 0 ? -id : id, parent);
+      parent.children.add(child);
+      nodes.add(child);
+    }
+    return root;
+  }
+
+  static class Node {
+    final int id;
+    final Node parent;
+    final List<Node> children = new ArrayList<>();
+
+    Node(int id, Node parent) {
+      this.id = id;
+      this.parent = parent;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.DualValueUtil.randomPath;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+
+import org.assertj.core.internal.objects.data.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VisitedDualValues")
+class VisitedDualValuesTest {
+
+  private VisitedDualValues visitedDualValues;
+
+  @BeforeEach
+  void beforeEachTest() {
+    visitedDualValues = new VisitedDualValues();
+  }
+
+  @Test
+  void should_contain_dual_values_referencing_the_same_actual_and_expected_values() {
+    // GIVEN
+    Person actual = new Person("John");
+    Person expected = new Person("John");
+    // WHEN
+    visitedDualValues.add(dualValue(actual, expected));
+    // THEN
+    then(visitedDualValues.contains(dualValue(actual, expected))).isTrue();
+  }
+
+  @Test
+  void should_not_contain_dual_values_referencing_equal_but_not_the_same_values() {
+    // GIVEN
+    Person actual = new Person("John");
+    Person expected = new Person("John");
+    // WHEN
+    visitedDualValues.add(dualValue(actual, expected));
+    // THEN
+    then(visitedDualValues.contains(dualValue(new Person("John"), expected))).isFalse();
+    then(visitedDualValues.contains(dualValue(actual, new Person("John")))).isFalse();
+    then(visitedDualValues.contains(dualValue(expected, actual))).isFalse();
+  }
+
+  @Test
+  void should_remove_one_dual_value_per_visit() {
+    // GIVEN
+    Person actual = new Person("John");
+    Person expected = new Person("John");
+    DualValue dualValue1 = dualValue(actual, expected);
+    DualValue dualValue2 = dualValue(actual, expected);
+    DualValue dualValue3 = dualValue(actual, expected);
+    DualValue otherDualValue = dualValue(actual, actual);
+    visitedDualValues.add(dualValue(actual, expected));
+    visitedDualValues.add(dualValue(actual, expected));
+    List<DualValue> dualValues = list(dualValue1, otherDualValue, dualValue2, dualValue3);
+    // WHEN
+    visitedDualValues.removeVisitedFrom(dualValues);
+    // THEN
+    then(dualValues).containsExactly(otherDualValue, dualValue3);
+  }
+
+  @Test
+  void should_not_remove_anything_when_nothing_was_visited() {
+    // GIVEN
+    DualValue dualValue = dualValue("John", "John");
+    List<DualValue> dualValues = list(dualValue);
+    // WHEN
+    visitedDualValues.removeVisitedFrom(dualValues);
+    // THEN
+    then(dualValues).containsExactly(dualValue);
+  }
+
+  private static DualValue dualValue(Object value1, Object value2) {
+    return new DualValue(randomPath(), value1, value2);
+  }
+}
@@ -17,6 +17,8 @@ import static org.assertj.core.api.BDDAssertions.then;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+import org.assertj.core.internal.Digests;
+import org.assertj.core.internal.ElementProcessing;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.introspection.FieldSupport;
@@ -40,9 +42,15 @@ class Configuration_apply_Test {
     // a bit dodgy but since our custom representation inherits StandardRepresentation, changing maxElementsForPrinting amd
     // maxLengthForSingleLineDescription will be effective.
     then(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(configuration.maxElementsForPrinting());
+    then(StandardRepresentation.getMaxCharactersForPrinting()).isEqualTo(configuration.maxCharactersForPrinting());
     then(StandardRepresentation.getMaxLengthForSingleLineDescription()).isEqualTo(configuration.maxLengthForSingleLineDescription());
     boolean removeAssertJRelatedElementsFromStackTrace = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
     then(removeAssertJRelatedElementsFromStackTrace).isEqualTo(configuration.removeAssertJRelatedElementsFromStackTraceEnabled());
+    then(Digests.isDigestCachingEnabled()).isEqualTo(configuration.digestCachingEnabled());
+    then(ElementProcessing.isParallelProcessingEnabled()).isEqualTo(configuration.parallelExtractionAndFilteringEnabled());
+    then(Failures.instance().isLazySoftAssertionErrorMessages()).isEqualTo(configuration.lazySoftAssertionErrorMessagesEnabled());
+    then(Failures.instance().isSoftAssertionErrorsStackTraceCapture()).isEqualTo(configuration.softAssertionErrorsStackTraceCaptureEnabled());
+    then(Failures.instance().getStackTraceCapture()).isEqualTo(configuration.stackTraceCapture());
     // check lenient is honored by parsing a string that would fail if the DateFormat was not lenient.
     then(configuration.lenientDateParsingEnabled()).isTrue();
     Date dateTime = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").parse("2001-02-03T04:05:06");
@@ -54,6 +62,16 @@ class Configuration_apply_Test {
               .isEqualTo("2001|02|03");
   }
 
+  @Test
+  void apply_of_default_configuration_should_restore_full_stack_trace_capture() {
+    // GIVEN
+    Failures.instance().setStackTraceCapture(StackTraceCapture.NONE);
+    // WHEN
+    Configuration.DEFAULT_CONFIGURATION.apply();
+    // THEN
+    then(Failures.instance().getStackTraceCapture()).isEqualTo(StackTraceCapture.FULL);
+  }
+
   @AfterEach
   public void afterEach() {
     // revert whatever we did in the other tests
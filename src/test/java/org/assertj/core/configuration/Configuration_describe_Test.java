@@ -50,8 +50,14 @@ class Configuration_describe_Test {
                                        "- additional date formats ......................... = [yyyy_MM_dd, yyyy|MM|dd]%n" +
                                        "- maxLengthForSingleLineDescription ............... = 81%n" +
                                        "- maxElementsForPrinting .......................... = 1001%n" +
+                                       "- maxCharactersForPrinting ........................ = 100001%n" +
                                        "- printAssertionsDescription ...................... = false%n" +
                                        "- descriptionConsumer ............................. = sysout%n" +
+                                       "- digestCachingEnabled ............................ = true%n" +
+                                       "- parallelExtractionAndFilteringEnabled ........... = true%n" +
+                                       "- lazySoftAssertionErrorMessagesEnabled ........... = true%n" +
+                                       "- softAssertionErrorsStackTraceCaptureEnabled ..... = false%n" +
+                                       "- stackTraceCapture ............................... = TRUNCATED%n" +
                                        "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n"));
   }
 
@@ -51,6 +51,11 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxElementsForPrinting() + 1;
   }
 
+  @Override
+  public int maxCharactersForPrinting() {
+    return super.maxCharactersForPrinting() + 1;
+  }
+
   @Override
   public int maxLengthForSingleLineDescription() {
     return super.maxLengthForSingleLineDescription() + 1;
@@ -66,6 +71,31 @@ class NonDefaultConfiguration extends Configuration {
     return !super.lenientDateParsingEnabled();
   }
 
+  @Override
+  public boolean digestCachingEnabled() {
+    return !super.digestCachingEnabled();
+  }
+
+  @Override
+  public boolean parallelExtractionAndFilteringEnabled() {
+    return !super.parallelExtractionAndFilteringEnabled();
+  }
+
+  @Override
+  public boolean lazySoftAssertionErrorMessagesEnabled() {
+    return !super.lazySoftAssertionErrorMessagesEnabled();
+  }
+
+  @Override
+  public boolean softAssertionErrorsStackTraceCaptureEnabled() {
+    return !super.softAssertionErrorsStackTraceCaptureEnabled();
+  }
+
+  @Override
+  public StackTraceCapture stackTraceCapture() {
+    return StackTraceCapture.TRUNCATED;
+  }
+
   @Override
   public List<DateFormat> additionalDateFormats() {
     return list(DATE_FORMAT1, DATE_FORMAT2);
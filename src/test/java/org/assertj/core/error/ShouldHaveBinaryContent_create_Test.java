@@ -44,4 +44,16 @@ class ShouldHaveBinaryContent_create_Test {
                                  actual);
   }
 
+  @Test
+  void should_create_error_message_with_offset_larger_than_an_int() {
+    // GIVEN
+    InputStream actual = new ByteArrayInputStream(new byte[] { 1, 3 });
+    BinaryDiffResult diff = new BinaryDiffResult(5_000_000_000L, 11, 3);
+    // WHEN
+    String errorMessage = shouldHaveBinaryContent(actual, diff).create(new TestDescription("TEST"));
+    // THEN
+    then(errorMessage).contains("does not have expected binary content at offset <5000000000>, expecting:");
+    then(diff.offset).isEqualTo(Integer.MAX_VALUE);
+    then(diff.longOffset()).isEqualTo(5_000_000_000L);
+  }
 }
@@ -329,6 +329,7 @@ class DeepDifference_Test {
 
   private void assertHaveNoDifferences(Object x, Object y, Map<String, Comparator<?>> fieldComparators, TypeComparators typeComparators) {
     assertThat(DeepDifference.determineDifferences(x, y, fieldComparators, typeComparators)).isEmpty();
+    assertThat(DeepDifference.hasDifferences(x, y, fieldComparators, typeComparators)).isFalse();
   }
 
   private void assertHaveDifferences(Object x, Object y) {
@@ -337,6 +338,7 @@ class DeepDifference_Test {
 
   private void assertHaveDifferences(Object x, Object y, Map<String, Comparator<?>> fieldComparators, TypeComparators typeComparators) {
     assertThat(DeepDifference.determineDifferences(x, y, fieldComparators, typeComparators)).isNotEmpty();
+    assertThat(DeepDifference.hasDifferences(x, y, fieldComparators, typeComparators)).isTrue();
   }
 
   private static class EmptyClass {
@@ -0,0 +1,147 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.assertj.core.util.diff.Delta;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Diff}</code> when the differences don't fit in the diff window.
+ */
+class Diff_diff_window_Test {
+
+  private final Diff diff = new Diff(2, 8);
+
+  @Test
+  void should_report_differences_found_in_different_windows() throws IOException {
+    // GIVEN
+    InputStream actual = stream("base", "line_0", "line1", "line2", "line3", "line4", "line5", "line_6");
+    String expected = lines("base", "line0", "line1", "line2", "line3", "line4", "line5", "line6");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    then(diffs).hasSize(2);
+    then(diffs.get(0)).hasToString(format("Changed content at line 2:%n"
+                                          + "expecting:%n"
+                                          + "  [\"line0\"]%n"
+                                          + "but was:%n"
+                                          + "  [\"line_0\"]%n"));
+    then(diffs.get(1)).hasToString(format("Changed content at line 8:%n"
+                                          + "expecting:%n"
+                                          + "  [\"line6\"]%n"
+                                          + "but was:%n"
+                                          + "  [\"line_6\"]%n"));
+  }
+
+  @Test
+  void should_report_difference_larger_than_the_window() throws IOException {
+    // GIVEN
+    InputStream actual = stream("base", "extra0", "extra1", "extra2", "extra3", "extra4", "line0", "line1");
+    String expected = lines("base", "line0", "line1");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    then(diffs).hasSize(1);
+    then(diffs.get(0)).hasToString(format("Extra content at line 2:%n"
+                                          + "  [\"extra0\",%n"
+                                          + "   \"extra1\",%n"
+                                          + "   \"extra2\",%n"
+                                          + "   \"extra3\",%n"
+                                          + "   \"extra4\"]%n"));
+  }
+
+  @Test
+  void should_report_difference_larger_than_the_largest_window_as_a_single_change() throws IOException {
+    // GIVEN
+    Diff diff = new Diff(2, 4);
+    InputStream actual = stream("base", "extra0", "extra1", "extra2", "extra3", "extra4", "line0", "line_1");
+    String expected = lines("base", "line0", "line1");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    then(diffs).hasSize(1);
+    then(diffs.get(0)).hasToString(format("Changed content at line 2:%n"
+                                          + "expecting:%n"
+                                          + "  [\"line0\"]%n"
+                                          + "but was:%n"
+                                          + "  [\"extra0\"]%n"));
+  }
+
+  @Test
+  void should_report_differences_after_lines_missing_in_actual() throws IOException {
+    // GIVEN
+    InputStream actual = stream("base", "line3", "line4", "line_5");
+    String expected = lines("base", "line0", "line1", "line2", "line3", "line4", "line5");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    then(diffs).hasSize(2);
+    then(diffs.get(0)).hasToString(format("Missing content at line 2:%n"
+                                          + "  [\"line0\",%n"
+                                          + "   \"line1\",%n"
+                                          + "   \"line2\"]%n"));
+    then(diffs.get(1)).hasToString(format("Changed content at line 7:%n"
+                                          + "expecting:%n"
+                                          + "  [\"line5\"]%n"
+                                          + "but was:%n"
+                                          + "  [\"line_5\"]%n"));
+  }
+
+  @Test
+  void should_report_difference_at_the_end_of_large_inputs() throws IOException {
+    // GIVEN
+    int lineCount = 500_000;
+    InputStream actual = new SequenceInputStream(new RepeatedLineInputStream(lineCount), stream("extra"));
+    InputStream expected = new RepeatedLineInputStream(lineCount);
+    // WHEN
+    List<Delta<String>> diffs = new Diff().diff(actual, expected);
+    // THEN
+    then(diffs).hasSize(1);
+    then(diffs.get(0).lineNumber()).isEqualTo(lineCount + 1);
+  }
+
+  private static String lines(String... lines) {
+    return String.join(System.lineSeparator(), lines);
+  }
+
+  private static InputStream stream(String... lines) {
+    return new ByteArrayInputStream(lines(lines).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  // generates the same line again and again without keeping the content in memory
+  private static class RepeatedLineInputStream extends InputStream {
+
+    private static final byte[] LINE = "the same line\n".getBytes(StandardCharsets.US_ASCII);
+    private final long size;
+    private long position;
+
+    RepeatedLineInputStream(int lineCount) {
+      size = (long) lineCount * LINE.length;
+    }
+
+    @Override
+    public int read() {
+      return position < size ? LINE[(int) (position++ % LINE.length)] : -1;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.Digests.digestDiff;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.internal.Digests.FileContent;
+import org.assertj.core.util.Files;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Digests#digestDiff(Path, FileContent, MessageDigest, byte[])}</code>.
+ */
+class Digests_digestCaching_Test {
+
+  private final AtomicInteger readsCount = new AtomicInteger();
+  private Path path;
+  private FileContent content;
+  private MessageDigest md5;
+
+  @BeforeEach
+  void setUp() throws NoSuchAlgorithmException {
+    path = Files.newTemporaryFile().toPath();
+    path.toFile().deleteOnExit();
+    content = () -> {
+      readsCount.incrementAndGet();
+      return newInputStream(path);
+    };
+    md5 = MessageDigest.getInstance("MD5");
+  }
+
+  @AfterEach
+  void tearDown() {
+    Digests.setDigestCaching(false);
+  }
+
+  @Test
+  void should_read_file_each_time_by_default() throws IOException {
+    // GIVEN
+    write(path, "foo".getBytes());
+    byte[] expected = md5.digest("foo".getBytes());
+    // WHEN
+    DigestDiff firstDiff = digestDiff(path, content, md5, expected);
+    DigestDiff secondDiff = digestDiff(path, content, md5, expected);
+    // THEN
+    then(firstDiff.digestsDiffer()).isFalse();
+    then(secondDiff.digestsDiffer()).isFalse();
+    then(readsCount).hasValue(2);
+  }
+
+  @Test
+  void should_read_unchanged_file_once_when_digest_caching_is_enabled() throws IOException {
+    // GIVEN
+    Digests.setDigestCaching(true);
+    write(path, "foo".getBytes());
+    byte[] expected = md5.digest("foo".getBytes());
+    // WHEN
+    DigestDiff firstDiff = digestDiff(path, content, md5, expected);
+    DigestDiff secondDiff = digestDiff(path, content, md5, expected);
+    // THEN
+    then(firstDiff.digestsDiffer()).isFalse();
+    then(secondDiff.digestsDiffer()).isFalse();
+    then(readsCount).hasValue(1);
+  }
+
+  @Test
+  void should_cache_digests_per_algorithm() throws IOException, NoSuchAlgorithmException {
+    // GIVEN
+    Digests.setDigestCaching(true);
+    write(path, "foo".getBytes());
+    MessageDigest sha1 = MessageDigest.getInstance("SHA1");
+    byte[] expected = sha1.digest("foo".getBytes());
+    digestDiff(path, content, md5, md5.digest("foo".getBytes()));
+    // WHEN
+    DigestDiff diff = digestDiff(path, content, sha1, expected);
+    // THEN
+    then(diff.digestsDiffer()).isFalse();
+    then(readsCount).hasValue(2);
+  }
+
+  @Test
+  void should_read_file_again_when_it_has_changed() throws IOException {
+    // GIVEN
+    Digests.setDigestCaching(true);
+    write(path, "foo".getBytes());
+    digestDiff(path, content, md5, md5.digest("foo".getBytes()));
+    write(path, "foobar".getBytes());
+    byte[] expected = md5.digest("foobar".getBytes());
+    // WHEN
+    DigestDiff diff = digestDiff(path, content, md5, expected);
+    // THEN
+    then(diff.digestsDiffer()).isFalse();
+    then(readsCount).hasValue(2);
+  }
+
+  @Test
+  void should_not_cache_digest_of_file_changed_while_being_read() throws IOException {
+    // GIVEN
+    Digests.setDigestCaching(true);
+    write(path, "foo".getBytes());
+    FileContent changingContent = () -> {
+      readsCount.incrementAndGet();
+      write(path, "foobar".getBytes());
+      return newInputStream(path);
+    };
+    digestDiff(path, changingContent, md5, md5.digest("foobar".getBytes()));
+    // WHEN
+    DigestDiff diff = digestDiff(path, content, md5, md5.digest("foobar".getBytes()));
+    // THEN
+    then(diff.digestsDiffer()).isFalse();
+    then(readsCount).hasValue(2);
+  }
+
+  @Test
+  void should_evict_least_recently_used_digest_when_cache_is_full() throws IOException {
+    // GIVEN
+    Digests.setDigestCaching(true);
+    write(path, "foo".getBytes());
+    byte[] expected = md5.digest("foo".getBytes());
+    digestDiff(path, content, md5, expected);
+    for (int i = 0; i < Digests.MAX_CACHED_DIGESTS; i++) {
+      Path otherPath = Files.newTemporaryFile().toPath();
+      otherPath.toFile().deleteOnExit();
+      digestDiff(otherPath, () -> newInputStream(otherPath), md5, expected);
+    }
+    // WHEN
+    DigestDiff diff = digestDiff(path, content, md5, expected);
+    // THEN
+    then(diff.digestsDiffer()).isFalse();
+    then(readsCount).hasValue(2);
+  }
+}
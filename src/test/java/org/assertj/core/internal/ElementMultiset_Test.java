@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class ElementMultiset_Test {
+
+  private final ComparisonStrategy standardComparisonStrategy = StandardComparisonStrategy.instance();
+
+  @Test
+  void should_return_elements_that_could_not_be_removed_in_iteration_order() {
+    // GIVEN
+    ElementMultiset multiset = ElementMultiset.of(list("b", "a", "b", null));
+    // WHEN
+    List<Object> notRemoved = multiset.removeEach(list("c", "b", "b", "b", "a", null, "a", "c"));
+    // THEN
+    then(notRemoved).containsExactly("c", "b", "a", "c");
+  }
+
+  @Test
+  void should_remove_arrays_by_content() {
+    // GIVEN
+    ElementMultiset multiset = ElementMultiset.of(list(new int[] { 1, 2 }, new String[] { "a" }));
+    // WHEN
+    List<Object> notRemoved = multiset.removeEach(list(new String[] { "a" }, new int[] { 1, 2 }, new int[] { 1 }));
+    // THEN
+    then(notRemoved).containsExactly(new int[] { 1 });
+  }
+
+  @Test
+  void should_return_elements_not_contained_in_iteration_order() {
+    // GIVEN
+    ElementMultiset multiset = ElementMultiset.of(list("a", "b"));
+    // WHEN
+    List<Object> notContained = multiset.notContained(list("c", "a", "b", "d", "a", "c"));
+    // THEN
+    then(notContained).containsExactly("c", "d", "c");
+  }
+
+  @Test
+  void should_count_elements_compared_with_the_standard_comparison_strategy() {
+    then(ElementMultiset.canCount(standardComparisonStrategy, list("a", null, 1), list(new Object[] { "b" }))).isTrue();
+  }
+
+  @Test
+  void should_not_count_elements_compared_with_a_comparator() {
+    // GIVEN
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    // THEN
+    then(ElementMultiset.canCount(comparisonStrategy, list("a"), list("A"))).isFalse();
+  }
+
+  @Test
+  void should_not_count_elements_redefining_equals_without_redefining_hashCode() {
+    // GIVEN
+    List<Object> elements = list("a", new EqualsWithoutHashCode());
+    // THEN
+    then(ElementMultiset.canCount(standardComparisonStrategy, list("a"), elements)).isFalse();
+    then(ElementMultiset.canCount(standardComparisonStrategy, list("a"), list(new Object[] { elements.get(1) }))).isFalse();
+  }
+
+  private static class EqualsWithoutHashCode {
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsWithoutHashCode;
+    }
+  }
+}
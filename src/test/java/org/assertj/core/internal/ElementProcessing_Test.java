@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.ElementProcessing.MIN_PARALLEL_PROCESSING_SIZE;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link ElementProcessing}</code> with parallel processing enabled.
+ */
+class ElementProcessing_Test {
+
+  private static final int SIZE = MIN_PARALLEL_PROCESSING_SIZE * 10;
+
+  private final List<Integer> elements = IntStream.range(0, SIZE).boxed().collect(toList());
+
+  @BeforeEach
+  void setUp() {
+    ElementProcessing.setParallelProcessing(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ElementProcessing.setParallelProcessing(false);
+  }
+
+  @Test
+  void should_map_elements_in_encounter_order() {
+    // WHEN
+    List<String> mapped = ElementProcessing.map(elements, String::valueOf);
+    // THEN
+    then(mapped).hasSize(SIZE)
+                .startsWith("0", "1", "2")
+                .endsWith(String.valueOf(SIZE - 2), String.valueOf(SIZE - 1));
+    then(mapped).isEqualTo(elements.stream().map(String::valueOf).collect(toList()));
+  }
+
+  @Test
+  void should_filter_elements_in_encounter_order() {
+    // GIVEN
+    Set<Integer> elementsSet = elements.stream().collect(toCollection(LinkedHashSet::new));
+    // WHEN
+    List<Integer> filtered = ElementProcessing.filter(elementsSet, i -> i % 3 == 0);
+    // THEN
+    then(filtered).isEqualTo(elements.stream().filter(i -> i % 3 == 0).collect(toList()));
+  }
+
+  @Test
+  void should_rethrow_the_exception_of_the_first_failing_element() {
+    // GIVEN
+    IllegalStateException first = new IllegalStateException("first");
+    IllegalStateException last = new IllegalStateException("last");
+    // WHEN
+    Throwable throwable = catchThrowable(() -> ElementProcessing.map(elements, i -> {
+      if (i == SIZE / 3) throw first;
+      if (i == SIZE - 1) throw last;
+      return i;
+    }));
+    // THEN
+    then(throwable).isSameAs(first);
+  }
+
+  @Test
+  void should_process_small_iterables_in_the_calling_thread() {
+    // GIVEN
+    Thread callingThread = Thread.currentThread();
+    List<Integer> smallList = elements.subList(0, MIN_PARALLEL_PROCESSING_SIZE - 1);
+    // WHEN
+    List<Thread> threads = ElementProcessing.map(smallList, i -> Thread.currentThread());
+    // THEN
+    then(threads).containsOnly(callingThread);
+  }
+}
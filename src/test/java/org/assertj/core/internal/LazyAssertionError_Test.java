@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.presentation.Representation;
+import org.junit.jupiter.api.Test;
+
+class LazyAssertionError_Test {
+
+  private final BasicErrorMessageFactory messageFactory = new BasicErrorMessageFactory("expecting %s", "value");
+
+  @Test
+  void should_build_message_from_message_factory_description_and_representation() {
+    // GIVEN
+    LazyAssertionError error = new LazyAssertionError(messageFactory, new TextDescription("test"), STANDARD_REPRESENTATION,
+                                                      true);
+    // WHEN
+    String message = error.getMessage();
+    // THEN
+    then(message).isEqualTo("[test] expecting \"value\"");
+    then(error).hasToString(LazyAssertionError.class.getName() + ": [test] expecting \"value\"");
+  }
+
+  @Test
+  void should_capture_stack_trace_only_when_requested() {
+    // WHEN
+    LazyAssertionError withStackTrace = new LazyAssertionError(messageFactory, null, STANDARD_REPRESENTATION, true);
+    LazyAssertionError withoutStackTrace = new LazyAssertionError(messageFactory, null, STANDARD_REPRESENTATION, false);
+    // THEN
+    then(withStackTrace.getStackTrace()[0].getMethodName()).isEqualTo("should_capture_stack_trace_only_when_requested");
+    then(withoutStackTrace.getStackTrace()).isEmpty();
+    then(withoutStackTrace.fillInStackTrace().getStackTrace()).isEmpty();
+  }
+
+  @Test
+  void should_keep_message_and_cause_when_created_with_them() {
+    // GIVEN
+    Throwable cause = new IllegalStateException();
+    // WHEN
+    LazyAssertionError error = new LazyAssertionError("message", cause);
+    // THEN
+    then(error).hasMessage("message")
+               .hasCause(cause);
+    then(error.getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  void should_build_message_of_copy_with_message_suffix_only_when_requested() {
+    // GIVEN
+    CountingErrorMessageFactory countingMessageFactory = new CountingErrorMessageFactory();
+    LazyAssertionError error = new LazyAssertionError(countingMessageFactory, null, STANDARD_REPRESENTATION, true);
+    // WHEN
+    LazyAssertionError errorWithSuffix = error.withMessageSuffix(" at line 42");
+    // THEN
+    then(countingMessageFactory.createCount).isZero();
+    then(errorWithSuffix.getMessage()).isEqualTo("expecting \"value\" at line 42");
+    then(error.getMessage()).isEqualTo("expecting \"value\"");
+    then(countingMessageFactory.createCount).isEqualTo(1);
+    then(errorWithSuffix.getStackTrace()).isEqualTo(error.getStackTrace());
+  }
+
+  @Test
+  void should_serialize_built_message() throws IOException, ClassNotFoundException {
+    // GIVEN
+    LazyAssertionError error = new LazyAssertionError(messageFactory, new TextDescription("test"), STANDARD_REPRESENTATION,
+                                                      true);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    // WHEN
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(error);
+    }
+    // THEN
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      then(((Throwable) in.readObject())).hasMessage("[test] expecting \"value\"");
+    }
+  }
+
+  private static class CountingErrorMessageFactory extends BasicErrorMessageFactory {
+
+    private int createCount;
+
+    CountingErrorMessageFactory() {
+      super("expecting %s", "value");
+    }
+
+    @Override
+    public String create(Description d, Representation representation) {
+      createCount++;
+      return super.create(d, representation);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+class MultiStringSearch_Test {
+
+  @Test
+  void should_return_the_first_index_of_each_value_in_the_given_order() {
+    // GIVEN
+    MultiStringSearch search = MultiStringSearch.of("he", "she", "his", "hers", "her");
+    // WHEN
+    int[] firstIndexes = search.firstIndexesIn("ushers and her");
+    // THEN
+    then(firstIndexes).containsExactly(2, 1, -1, 2, 2);
+  }
+
+  @Test
+  void should_find_values_which_are_suffixes_of_other_values() {
+    // GIVEN
+    MultiStringSearch search = MultiStringSearch.of("abcd", "bc", "c", "bcx");
+    // WHEN
+    int[] firstIndexes = search.firstIndexesIn("xabcx");
+    // THEN
+    then(firstIndexes).containsExactly(-1, 2, 3, 2);
+  }
+
+  @Test
+  void should_find_duplicated_and_empty_values() {
+    // GIVEN
+    MultiStringSearch search = MultiStringSearch.of("b", "", new StringBuilder("b"), "", "z");
+    // WHEN
+    int[] firstIndexes = search.firstIndexesIn("abc");
+    // THEN
+    then(firstIndexes).containsExactly(1, 0, 1, 0, -1);
+  }
+
+  @Test
+  void should_find_the_empty_value_in_an_empty_text() {
+    // GIVEN
+    MultiStringSearch search = MultiStringSearch.of("", "a");
+    // WHEN
+    int[] firstIndexes = search.firstIndexesIn("");
+    // THEN
+    then(firstIndexes).containsExactly(0, -1);
+  }
+
+  @Test
+  void should_find_values_ignoring_case() {
+    // GIVEN
+    MultiStringSearch search = MultiStringSearch.ignoringCase("YODA", "luke", "Leia");
+    // WHEN
+    int[] firstIndexes = search.firstIndexesIn("Luke and Yoda");
+    // THEN
+    then(firstIndexes).containsExactly(9, 0, -1);
+  }
+
+  @Test
+  void should_return_the_same_indexes_as_indexOf() {
+    // GIVEN
+    String text = "abaabbabaaababbbaabababbbabaaab";
+    String[] values = new String[40];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = Integer.toBinaryString(i + 1).replace('0', 'a').replace('1', 'b');
+    }
+    // WHEN
+    int[] firstIndexes = MultiStringSearch.of(values).firstIndexesIn(text);
+    // THEN
+    for (int i = 0; i < values.length; i++) {
+      then(firstIndexes[i]).as(values[i]).isEqualTo(text.indexOf(values[i]));
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenIllegalArgumentException;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.Test;
+
+class PatternCache_Test {
+
+  private final PatternCache patternCache = new PatternCache(2);
+
+  @Test
+  void should_compile_regex_once() {
+    // GIVEN
+    Pattern pattern = patternCache.compile("a+");
+    // WHEN
+    Pattern cachedPattern = patternCache.compile("a+");
+    // THEN
+    then(cachedPattern).isSameAs(pattern);
+    then(cachedPattern.pattern()).isEqualTo("a+");
+    then(patternCache.missCount()).isEqualTo(1);
+    then(patternCache.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_evict_least_recently_used_pattern() {
+    // GIVEN
+    Pattern a = patternCache.compile("a");
+    patternCache.compile("b");
+    patternCache.compile("a");
+    // WHEN
+    patternCache.compile("c");
+    // THEN
+    then(patternCache.size()).isEqualTo(2);
+    then(patternCache.evictionCount()).isEqualTo(1);
+    then(patternCache.compile("a")).isSameAs(a);
+    then(patternCache.hitCount()).isEqualTo(2);
+    patternCache.compile("b");
+    then(patternCache.missCount()).isEqualTo(4);
+  }
+
+  @Test
+  void should_not_cache_invalid_regex() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> patternCache.compile("("));
+    // THEN
+    then(thrown).isInstanceOf(PatternSyntaxException.class);
+    then(patternCache.size()).isZero();
+  }
+
+  @Test
+  void should_reset_statistics_when_cleared() {
+    // GIVEN
+    patternCache.compile("a");
+    patternCache.compile("a");
+    // WHEN
+    patternCache.clear();
+    // THEN
+    then(patternCache.size()).isZero();
+    then(patternCache.hitCount()).isZero();
+    then(patternCache.missCount()).isZero();
+  }
+
+  @Test
+  void should_fail_if_max_size_is_less_than_one() {
+    thenIllegalArgumentException().isThrownBy(() -> new PatternCache(0))
+                                  .withMessage("maxSize must be >= 1, but was 0");
+  }
+}
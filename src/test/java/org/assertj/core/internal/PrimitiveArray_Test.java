@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArray_Test {
+
+  private final ComparisonStrategy standardComparisonStrategy = StandardComparisonStrategy.instance();
+
+  @Test
+  void should_compare_primitive_arrays_of_the_same_type_with_the_standard_comparison_strategy() {
+    then(PrimitiveArray.canCompare(standardComparisonStrategy, new int[0], new int[] { 1 })).isTrue();
+    then(PrimitiveArray.canCompare(standardComparisonStrategy, new boolean[0])).isTrue();
+  }
+
+  @Test
+  void should_not_compare_arrays_of_different_or_non_primitive_types() {
+    then(PrimitiveArray.canCompare(standardComparisonStrategy, new int[0], new long[0])).isFalse();
+    then(PrimitiveArray.canCompare(standardComparisonStrategy, new Integer[0], new Integer[0])).isFalse();
+    then(PrimitiveArray.of(new Integer[0])).isNull();
+  }
+
+  @Test
+  void should_not_compare_arrays_with_another_comparison_strategy() {
+    // GIVEN
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    // THEN
+    then(PrimitiveArray.canCompare(comparisonStrategy, new int[0], new int[0])).isFalse();
+  }
+
+  @Test
+  void should_compare_double_elements_like_boxed_doubles() {
+    // GIVEN
+    PrimitiveArray array = PrimitiveArray.of(new double[] { 0.0, Double.NaN, -0.0, Double.longBitsToDouble(0x7ff8000000000001L) });
+    // THEN
+    then(array.key(0)).isNotEqualTo(array.key(2));
+    then(array.key(1)).isEqualTo(array.key(3));
+    then(array.sortedDistinctKeys()).hasSize(3);
+    then(array.hasDuplicates()).isTrue();
+  }
+
+  @Test
+  void should_return_elements_not_found_in_iteration_order() {
+    // GIVEN
+    PrimitiveArray array = PrimitiveArray.of(new int[] { 3, 1, 2, 1 });
+    PrimitiveArray values = PrimitiveArray.of(new int[] { 4, 1, 5, 4 });
+    // WHEN
+    long[] foundKeys = array.find(values.sortedDistinctKeys());
+    // THEN
+    then(foundKeys).containsExactly(1L);
+    then(values.elementsNotIn(foundKeys)).containsExactly(4, 5, 4);
+    then(array.elementsNotIn(values.sortedDistinctKeys())).containsExactly(3, 2);
+  }
+
+  @Test
+  void should_find_sequence_index() {
+    // GIVEN
+    PrimitiveArray array = PrimitiveArray.of(new char[] { 'a', 'a', 'b', 'a', 'a', 'a', 'b', 'c' });
+    // THEN
+    then(array.indexOf(PrimitiveArray.of(new char[] { 'a', 'a', 'b', 'c' }))).isEqualTo(4);
+    then(array.indexOf(PrimitiveArray.of(new char[] { 'b', 'a' }))).isEqualTo(2);
+    then(array.indexOf(PrimitiveArray.of(new char[] { 'a', 'c' }))).isEqualTo(-1);
+  }
+
+  @Test
+  void should_find_duplicates() {
+    then(PrimitiveArray.of(new long[] { 3, 1, 2 }).hasDuplicates()).isFalse();
+    then(PrimitiveArray.of(new long[] { 3, 1, 3 }).hasDuplicates()).isTrue();
+    then(PrimitiveArray.of(new boolean[] { true, false }).hasDuplicates()).isFalse();
+    then(PrimitiveArray.of(new boolean[] { false, true, false }).hasDuplicates()).isTrue();
+  }
+
+  @Test
+  void should_return_index_of_first_unsorted_element() {
+    then(PrimitiveArray.of(new short[] { 1, 1, 2 }).indexOfFirstUnsortedElement()).isEqualTo(-1);
+    then(PrimitiveArray.of(new short[] { 1, 3, 2, 0 }).indexOfFirstUnsortedElement()).isEqualTo(1);
+    then(PrimitiveArray.of(new double[] { -0.0, 0.0, Double.NaN }).indexOfFirstUnsortedElement()).isEqualTo(-1);
+    then(PrimitiveArray.of(new double[] { 0.0, -0.0 }).indexOfFirstUnsortedElement()).isEqualTo(0);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.failures;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.description.Description;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.LazyAssertionError;
+import org.assertj.core.presentation.Representation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Failures#failure(AssertionInfo, ErrorMessageFactory)}</code> called from
+ * <code>{@link Failures#callSoftAssertion(java.util.concurrent.Callable)}</code>.
+ */
+class Failures_failure_in_soft_assertion_Test {
+
+  private final Failures failures = Failures.instance();
+  private WritableAssertionInfo info;
+  private CountingErrorMessageFactory errorMessage;
+
+  @BeforeEach
+  void setUp() {
+    info = new WritableAssertionInfo();
+    info.description("description");
+    errorMessage = new CountingErrorMessageFactory();
+  }
+
+  @AfterEach
+  void tearDown() {
+    failures.setLazySoftAssertionErrorMessages(false);
+    failures.setSoftAssertionErrorsStackTraceCapture(true);
+  }
+
+  @Test
+  void should_build_message_eagerly_by_default() throws Exception {
+    // WHEN
+    AssertionError failure = failures.callSoftAssertion(() -> failures.failure(info, errorMessage));
+    // THEN
+    then(failure).isNotInstanceOf(LazyAssertionError.class);
+    then(errorMessage.createCount).isEqualTo(1);
+  }
+
+  @Test
+  void should_build_message_once_when_first_requested_if_lazy_soft_assertion_error_messages_are_enabled() throws Exception {
+    // GIVEN
+    failures.setLazySoftAssertionErrorMessages(true);
+    // WHEN
+    AssertionError failure = failures.callSoftAssertion(() -> failures.failure(info, errorMessage));
+    // THEN
+    then(failure).isInstanceOf(LazyAssertionError.class);
+    then(errorMessage.createCount).isZero();
+    then(failure.getMessage()).isEqualTo("[description] my message");
+    then(failure).hasMessage("[description] my message");
+    then(errorMessage.createCount).isEqualTo(1);
+    then(failure.getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  void should_build_message_eagerly_outside_soft_assertions() {
+    // GIVEN
+    failures.setLazySoftAssertionErrorMessages(true);
+    // WHEN
+    AssertionError failure = failures.failure(info, errorMessage);
+    // THEN
+    then(failure).isNotInstanceOf(LazyAssertionError.class);
+    then(errorMessage.createCount).isEqualTo(1);
+  }
+
+  @Test
+  void should_not_capture_stack_trace_if_soft_assertion_errors_stack_trace_capture_is_disabled() throws Exception {
+    // GIVEN
+    failures.setLazySoftAssertionErrorMessages(true);
+    failures.setSoftAssertionErrorsStackTraceCapture(false);
+    // WHEN
+    AssertionError failure = failures.callSoftAssertion(() -> failures.failure(info, errorMessage));
+    // THEN
+    then(failure.getStackTrace()).isEmpty();
+    then(failure).hasMessage("[description] my message");
+  }
+
+  @Test
+  void should_use_overriding_error_message_if_it_is_specified() throws Exception {
+    // GIVEN
+    failures.setLazySoftAssertionErrorMessages(true);
+    info.overridingErrorMessage("my overriding message");
+    // WHEN
+    AssertionError failure = failures.callSoftAssertion(() -> failures.failure(info, errorMessage));
+    // THEN
+    then(failure).hasMessage("[description] my overriding message");
+  }
+
+  private static class CountingErrorMessageFactory extends BasicErrorMessageFactory {
+
+    private int createCount;
+
+    CountingErrorMessageFactory() {
+      super("my message");
+    }
+
+    @Override
+    public String create(Description d, Representation representation) {
+      createCount++;
+      return super.create(d, representation);
+    }
+  }
+}
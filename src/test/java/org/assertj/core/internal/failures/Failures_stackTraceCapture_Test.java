@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.failures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.configuration.StackTraceCapture.TRUNCATED_STACK_TRACE_DEPTH;
+
+import java.util.Arrays;
+
+import org.assertj.core.configuration.StackTraceCapture;
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Failures#setStackTraceCapture(StackTraceCapture)}</code>.
+ */
+class Failures_stackTraceCapture_Test {
+
+  private final Failures failures = Failures.instance();
+  private final boolean removeAssertJRelatedElementsFromStackTrace = failures.isRemoveAssertJRelatedElementsFromStackTrace();
+
+  @AfterEach
+  void tearDown() {
+    failures.setStackTraceCapture(StackTraceCapture.FULL);
+    failures.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
+  }
+
+  @Test
+  void should_capture_full_stack_trace_without_assertj_elements_by_default() {
+    // GIVEN
+    failures.setRemoveAssertJRelatedElementsFromStackTrace(true);
+    // WHEN
+    AssertionError error = failures.failure("message");
+    // THEN
+    then(error.getStackTrace()).isNotEmpty();
+    then(classNames(error)).noneMatch(className -> className.startsWith("org.assertj"));
+  }
+
+  @Test
+  void should_capture_full_stack_trace_with_assertj_elements_when_they_are_not_removed() {
+    // GIVEN
+    failures.setRemoveAssertJRelatedElementsFromStackTrace(false);
+    // WHEN
+    AssertionError error = failures.failure("message");
+    // THEN
+    then(classNames(error)).anyMatch(className -> className.equals(Failures.class.getName()));
+  }
+
+  @Test
+  void should_fail_if_stack_trace_capture_is_null() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> failures.setStackTraceCapture(null));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The stack trace capture must not be null");
+    then(failures.getStackTraceCapture()).isEqualTo(StackTraceCapture.FULL);
+  }
+
+  @Test
+  void should_not_capture_stack_trace_with_NONE() {
+    // GIVEN
+    failures.setStackTraceCapture(StackTraceCapture.NONE);
+    // WHEN
+    AssertionError error = failures.failure("message");
+    // THEN
+    then(error).hasMessage("message");
+    then(error.getStackTrace()).isEmpty();
+  }
+
+  @Test
+  void should_capture_stack_trace_without_assertj_elements_with_WITHOUT_ASSERTJ_FRAMES() {
+    // GIVEN
+    failures.setStackTraceCapture(StackTraceCapture.WITHOUT_ASSERTJ_FRAMES);
+    // WHEN
+    AssertionError error = failures.failure("message");
+    // THEN
+    then(error.getStackTrace()).isNotEmpty();
+    then(classNames(error)).noneMatch(className -> className.startsWith("org.assertj"));
+  }
+
+  @Test
+  void should_capture_first_stack_trace_elements_with_TRUNCATED() {
+    // GIVEN
+    failures.setStackTraceCapture(StackTraceCapture.TRUNCATED);
+    // WHEN
+    AssertionError error = failures.failure("message");
+    // THEN
+    then(error.getStackTrace()).isNotEmpty()
+                               .hasSizeLessThanOrEqualTo(TRUNCATED_STACK_TRACE_DEPTH);
+    then(classNames(error)).noneMatch(className -> className.startsWith("org.assertj"));
+  }
+
+  @Test
+  void should_reduce_stack_trace_of_errors_not_created_by_Failures() {
+    // GIVEN
+    failures.setStackTraceCapture(StackTraceCapture.NONE);
+    // WHEN
+    AssertionError error = catchThrowableOfType(() -> assertThat("Frodo").isEqualTo("Sam"), AssertionError.class);
+    // THEN
+    then(error.getStackTrace()).isEmpty();
+  }
+
+  private static String[] classNames(AssertionError error) {
+    return Arrays.stream(error.getStackTrace())
+                 .map(StackTraceElement::getClassName)
+                 .toArray(String[]::new);
+  }
+}
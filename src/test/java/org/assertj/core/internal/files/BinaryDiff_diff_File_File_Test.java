@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static java.nio.file.Files.write;
+import static java.util.Arrays.copyOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.util.Files;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(java.io.File, java.io.File)}</code>.
+ */
+class BinaryDiff_diff_File_File_Test {
+
+  // larger than the chunks compared at once
+  private static final int CONTENT_SIZE = 200_003;
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+  private File actual;
+  private File expected;
+  private byte[] content;
+
+  @BeforeEach
+  void setUp() {
+    actual = Files.newTemporaryFile();
+    actual.deleteOnExit();
+    expected = Files.newTemporaryFile();
+    expected.deleteOnExit();
+    content = new byte[CONTENT_SIZE];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+  }
+
+  @Test
+  void should_return_no_diff_if_files_have_equal_content() throws IOException {
+    // GIVEN
+    write(actual.toPath(), content);
+    write(expected.toPath(), content);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_no_diff_if_files_are_the_same() throws IOException {
+    // GIVEN
+    write(actual.toPath(), content);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, actual);
+    // THEN
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_files_differ_on_one_byte() throws IOException {
+    // GIVEN
+    write(expected.toPath(), content);
+    content[150_001] = (byte) 0xFF;
+    write(actual.toPath(), content);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.offset).isEqualTo(150_001);
+    assertThat(result.actual).isEqualTo("0xFF");
+    assertThat(result.expected).isEqualTo("0xF1");
+  }
+
+  @Test
+  void should_return_diff_if_actual_is_shorter() throws IOException {
+    // GIVEN
+    write(actual.toPath(), copyOf(content, 70_000));
+    write(expected.toPath(), content);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.offset).isEqualTo(70_000);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0x70");
+  }
+
+  @Test
+  void should_return_diff_if_expected_is_shorter() throws IOException {
+    // GIVEN
+    write(actual.toPath(), content);
+    write(expected.toPath(), copyOf(content, 3));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.offset).isEqualTo(3);
+    assertThat(result.actual).isEqualTo("0x3");
+    assertThat(result.expected).isEqualTo("EOF");
+  }
+}
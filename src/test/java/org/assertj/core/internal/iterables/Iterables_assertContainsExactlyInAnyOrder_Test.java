@@ -119,6 +119,20 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
         shouldContainExactlyInAnyOrder(actual, expected, newArrayList("Luke"), emptyList(), StandardComparisonStrategy.instance()));
   }
 
+  @Test
+  void should_fail_with_unexpected_and_missing_elements_in_their_original_order() {
+    AssertionInfo info = someInfo();
+    actual = newArrayList("Yoda", "Luke", "Han", "Luke", "Yoda", "Luke");
+    Object[] expected = { "Leia", "Luke", "Obiwan", "Yoda", "Leia" };
+
+    Throwable error = catchThrowable(() -> iterables.assertContainsExactlyInAnyOrder(info, actual, expected));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info,
+        shouldContainExactlyInAnyOrder(actual, expected, newArrayList("Leia", "Obiwan", "Leia"),
+                                       newArrayList("Han", "Luke", "Yoda", "Luke"), StandardComparisonStrategy.instance()));
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -86,7 +86,8 @@ class Strings_assertEqualsIgnoringWhitespace_Test extends StringsBaseTest {
                      Arguments.of(" my\tfoo bar ", " my\tfoo bar "), // same
                      Arguments.of(null, null), // null
                      Arguments.of(" \t \t", " "),
-                     Arguments.of(" abc", "abc "));
+                     Arguments.of(" abc", "abc "),
+                     Arguments.of("my\u2003foo\u2028bar", "myfoobar"));
   }
 
   void verifyFailureThrownWhenStringsAreNotEqualIgnoringWhitespace(AssertionInfo info, String actual,
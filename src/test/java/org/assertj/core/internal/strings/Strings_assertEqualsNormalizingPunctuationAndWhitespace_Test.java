@@ -82,7 +82,9 @@ class Strings_assertEqualsNormalizingPunctuationAndWhitespace_Test extends Strin
                      // without punctuation and no spaces
                      Arguments.of("Game of Thrones", "Game of Thrones"),
                      // comparing strings with punctuation and additional spaces
-                     Arguments.of("Game {} of () Thrones {})()!'", "Game  of  Thrones "));
+                     Arguments.of("Game {} of () Thrones {})()!'", "Game  of  Thrones "),
+                     // whitespaces separated by punctuation only are normalized to a single space
+                     Arguments.of("Game ,\tof Thrones", "Game of Thrones"));
   }
 
   private void verifyFailureWhenStringsAreNotEqualNormalizingPunctuationAndWhitespace(AssertionInfo info, String actual,
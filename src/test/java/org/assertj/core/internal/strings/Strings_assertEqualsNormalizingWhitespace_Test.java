@@ -81,6 +81,8 @@ class Strings_assertEqualsNormalizingWhitespace_Test extends StringsBaseTest {
                      Arguments.of(" my\tfoo bar ", " my\tfoo bar "),   // same
                      Arguments.of(null, null),   // null
                      Arguments.of(" \t \t", " "),
-                     Arguments.of(" abc", "abc "));
+                     Arguments.of(" abc", "abc "),
+                     // String#trim also removes the control chars
+                     Arguments.of("my\u2003foo\u0001 ", "my foo"));
   }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.DefaultAssertionErrorCollector;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures how collecting soft assertion errors scales with the number of threads collecting them concurrently, the
+ * throughput should grow (or at least not collapse) as threads are added up to the number of cores.
+ */
+@Disabled
+class DefaultAssertionErrorCollectorPerfTest {
+
+  private static final int ERRORS_PER_THREAD = 1_000_000;
+  private static final int RUNS = 5;
+
+  // errors are created once, only their collection is measured
+  private static final AssertionError ERROR = new AssertionError("error");
+
+  @Test
+  void collect_errors_concurrently() throws Exception {
+    int cores = Runtime.getRuntime().availableProcessors();
+    for (int threads = 1; threads <= cores * 2; threads *= 2) {
+      long bestNanos = Long.MAX_VALUE;
+      for (int run = 0; run < RUNS; run++) {
+        bestNanos = Math.min(bestNanos, collectErrors(threads));
+      }
+      double errorsPerMillisecond = (double) threads * ERRORS_PER_THREAD / TimeUnit.NANOSECONDS.toMillis(bestNanos);
+      System.out.println(format("%2d threads: %,10.0f errors/ms", threads, errorsPerMillisecond));
+    }
+  }
+
+  private static long collectErrors(int threads) throws Exception {
+    DefaultAssertionErrorCollector collector = new DefaultAssertionErrorCollector();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int thread = 0; thread < threads; thread++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < ERRORS_PER_THREAD; i++) {
+            collector.collectAssertionError(ERROR);
+          }
+          return null;
+        }));
+      }
+      long startTime = System.nanoTime();
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      return System.nanoTime() - startTime;
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
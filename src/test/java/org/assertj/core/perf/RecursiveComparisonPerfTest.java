@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures the recursive comparison of an object graph is linear in the number of nodes of the graph.
+ * <p>
+ * Visited nodes pairs used to be tracked in a list, each compared node then scanned all the previously visited ones which
+ * made the comparison O(N^2). With a graph of 50 000 nodes, each having a reference back to its parent, this used to take
+ * more than a minute while a linear comparison takes a few seconds at most, 30 seconds is a threshold that clearly
+ * distinguishes both even on a slow test agent.
+ * <p>
+ * It takes too long to be part of the build, comparisons of graphs with back references are checked by
+ * RecursiveComparisonAssert_isEqualTo_Test.
+ */
+class RecursiveComparisonPerfTest {
+
+  private static final int GRAPH_SIZE = 50_000;
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  @Timeout(value = 30)
+  void test_recursive_comparison_of_a_50k_nodes_graph() {
+    assertThat(graph(GRAPH_SIZE)).usingRecursiveComparison()
+                                 .isEqualTo(graph(GRAPH_SIZE));
+  }
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  @Timeout(value = 30)
+  void test_recursive_comparison_of_a_50k_nodes_graph_ignoring_collection_order() {
+    assertThat(graph(GRAPH_SIZE)).usingRecursiveComparison()
+                                 .ignoringCollectionOrder()
+                                 .isEqualTo(graph(GRAPH_SIZE));
+  }
+
+  // builds a tree where each node has a few children and a reference to its parent
+  private static Node graph(int size) {
+    Node root = new Node(0, null);
+    Deque<Node> parents = new ArrayDeque<>();
+    parents.add(root);
+    for (int id = 1; id < size;) {
+      Node parent = parents.poll();
+      for (int i = 0; i < 4 && id < size; i++, id++) {
+        Node child = new Node(id, parent);
+        parent.children.add(child);
+        parents.add(child);
+      }
+    }
+    return root;
+  }
+
+  static class Node {
+    final int id;
+    final Node parent;
+    final List<Node> children = new ArrayList<>();
+
+    Node(int id, Node parent) {
+      this.id = id;
+      this.parent = parent;
+    }
+  }
+}
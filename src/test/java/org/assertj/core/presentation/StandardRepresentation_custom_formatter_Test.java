@@ -12,12 +12,19 @@
  */
 package org.assertj.core.presentation;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.presentation.BinaryRepresentation.BINARY_REPRESENTATION;
 import static org.assertj.core.presentation.HexadecimalRepresentation.HEXA_REPRESENTATION;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.presentation.UnicodeRepresentation.UNICODE_REPRESENTATION;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -68,4 +75,63 @@ class StandardRepresentation_custom_formatter_Test {
     assertThat(STANDARD_REPRESENTATION.toStringOf(intNumber)).isEqualTo("8");
   }
 
+  @Test
+  void should_use_formatter_registered_for_superclass() {
+    // GIVEN
+    Object longNumber = 123L;
+    // WHEN
+    StandardRepresentation.registerFormatterForType(Number.class, value -> "number " + value);
+    // THEN
+    assertThat(STANDARD_REPRESENTATION.toStringOf(longNumber)).isEqualTo("number 123");
+    assertThat(HEXA_REPRESENTATION.toStringOf(longNumber)).isEqualTo("number 123");
+  }
+
+  @Test
+  void should_use_formatter_registered_for_interface() {
+    // GIVEN
+    Object list = new LinkedList<>(asList("a", "b"));
+    // WHEN
+    StandardRepresentation.registerFormatterForType(Collection.class, value -> "collection of " + value.size());
+    // THEN
+    assertThat(STANDARD_REPRESENTATION.toStringOf(list)).isEqualTo("collection of 2");
+  }
+
+  @Test
+  void should_prefer_formatter_registered_for_the_closest_type() {
+    // GIVEN
+    StandardRepresentation.registerFormatterForType(Collection.class, value -> "collection");
+    StandardRepresentation.registerFormatterForType(Object.class, value -> "object");
+    StandardRepresentation.registerFormatterForType(List.class, value -> "list");
+    StandardRepresentation.registerFormatterForType(ArrayList.class, value -> "array list");
+    // THEN
+    assertThat(STANDARD_REPRESENTATION.toStringOf((Object) new ArrayList<>())).isEqualTo("array list");
+    assertThat(STANDARD_REPRESENTATION.toStringOf((Object) new LinkedList<>())).isEqualTo("list");
+    assertThat(STANDARD_REPRESENTATION.toStringOf((Object) emptySet())).isEqualTo("collection");
+    assertThat(STANDARD_REPRESENTATION.toStringOf(new Object())).isEqualTo("object");
+  }
+
+  @Test
+  void should_use_formatter_registered_after_a_lookup_without_formatter() {
+    // GIVEN
+    Object longNumber = 123L;
+    StandardRepresentation.registerFormatterForType(String.class, value -> "'" + value + "'");
+    assertThat(STANDARD_REPRESENTATION.toStringOf(longNumber)).isEqualTo("123L");
+    // WHEN
+    StandardRepresentation.registerFormatterForType(Number.class, value -> "number " + value);
+    // THEN
+    assertThat(STANDARD_REPRESENTATION.toStringOf(longNumber)).isEqualTo("number 123");
+  }
+
+  @Test
+  void should_use_last_formatter_registered_for_a_subtype_after_a_lookup() {
+    // GIVEN
+    Object longNumber = 123L;
+    StandardRepresentation.registerFormatterForType(Number.class, value -> "number " + value);
+    assertThat(STANDARD_REPRESENTATION.toStringOf(longNumber)).isEqualTo("number 123");
+    // WHEN
+    StandardRepresentation.registerFormatterForType(Long.class, value -> "long " + value);
+    // THEN
+    assertThat(STANDARD_REPRESENTATION.toStringOf(longNumber)).isEqualTo("long 123");
+  }
+
 }
@@ -0,0 +1,192 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Maps.newHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class StandardRepresentation_maxCharactersForPrinting_Test extends AbstractBaseRepresentationTest {
+
+  @Test
+  void should_not_represent_elements_exceeding_max_characters_for_printing_in_iterable() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(12);
+    List<String> list = list("abc", "def", "ghi", "jkl");
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[\"abc\", \"def\", ...(2 more elements)]");
+  }
+
+  @Test
+  void should_not_represent_elements_exceeding_max_characters_for_printing_in_array() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(5);
+    String[] array = array("abc", "def");
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(array);
+    // THEN
+    then(formatted).isEqualTo("[\"abc\", ...(1 more element)]");
+  }
+
+  @Test
+  void should_not_represent_any_element_if_the_first_one_exceeds_max_characters_for_printing() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(3);
+    int[] array = { 1000, 1 };
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(array);
+    // THEN
+    then(formatted).isEqualTo("[...(2 more elements)]");
+  }
+
+  @Test
+  void should_represent_all_elements_fitting_in_max_characters_for_printing() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(12);
+    List<String> list = list("abc", "def");
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[\"abc\", \"def\"]");
+  }
+
+  @Test
+  void should_account_for_elements_not_printed_because_of_max_elements_for_printing() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    StandardRepresentation.setMaxCharactersForPrinting(8);
+    List<Integer> list = list(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[1, 2, ...(7 more elements) 10]");
+  }
+
+  @Test
+  void should_keep_first_and_last_elements_layout_when_they_fit_in_max_characters_for_printing() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    List<Integer> list = list(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[1, 2, ... 9, 10]");
+  }
+
+  @Test
+  void should_not_represent_elements_exceeding_max_characters_for_printing_in_multi_line_description() {
+    // GIVEN
+    StandardRepresentation.setMaxLengthForSingleLineDescription(10);
+    StandardRepresentation.setMaxCharactersForPrinting(14);
+    List<String> list = list("Luke", "Yoda", "Leia");
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo(format("[\"Luke\",%n" +
+                                     "    \"Yoda\",%n" +
+                                     "    ...(1 more element)]"));
+  }
+
+  @Test
+  void should_not_represent_entries_exceeding_max_characters_for_printing_in_map() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(22);
+    Map<String, String> map = newHashMap("a", "Luke");
+    map.put("b", "Yoda");
+    map.put("c", "Leia");
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(formatted).isEqualTo("{\"a\"=\"Luke\", \"b\"=\"Yoda\", ...(1 more element)}");
+  }
+
+  @Test
+  void should_count_nested_groups_representation_in_max_characters_for_printing() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(20);
+    List<List<Integer>> lists = list(list(1, 2, 3), list(4, 5, 6), list(7, 8, 9));
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(lists);
+    // THEN
+    then(formatted).isEqualTo("[[1, 2, 3], [4, 5, 6], ...(1 more element)]");
+  }
+
+  @Test
+  void should_share_max_characters_for_printing_with_nested_groups() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(10);
+    List<List<String>> lists = list(list("abc", "def"), list("ghi"));
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(lists);
+    // THEN
+    then(formatted).isEqualTo("[[\"abc\", ...(1 more element)], ...(1 more element)]");
+  }
+
+  @Test
+  void should_not_build_the_elements_following_the_first_one_exceeding_max_characters_for_printing() {
+    // GIVEN
+    AtomicLong charactersBuilt = new AtomicLong();
+    String bigString = new String(new char[100_000]).replace('\0', 'a');
+    Object bigElement = new Object() {
+      @Override
+      public String toString() {
+        charactersBuilt.addAndGet(bigString.length());
+        return bigString;
+      }
+    };
+    List<List<Object>> lists = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      lists.add(list(bigElement));
+    }
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(lists);
+    // THEN
+    then(charactersBuilt).hasValue(100_000);
+    then(formatted).hasSizeLessThan(101_000)
+                   .endsWith("...(999 more elements)]");
+  }
+
+  @Test
+  void should_only_represent_printed_elements() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    AtomicInteger toStringCalls = new AtomicInteger();
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add(new Object() {
+        @Override
+        public String toString() {
+          toStringCalls.incrementAndGet();
+          return "element";
+        }
+      });
+    }
+    // WHEN
+    STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(toStringCalls).hasValue(4);
+  }
+}
@@ -32,4 +32,10 @@ class StandardRepresentation_static_setters_Test extends AbstractBaseRepresentat
     assertThatIllegalArgumentException().isThrownBy(() -> StandardRepresentation.setMaxLengthForSingleLineDescription(0))
                                         .withMessage("maxLengthForSingleLineDescription must be > 0 but was 0");
   }
+
+  @Test
+  void should_fail_on_invalid_maxCharactersForPrinting() {
+    assertThatIllegalArgumentException().isThrownBy(() -> StandardRepresentation.setMaxCharactersForPrinting(0))
+                                        .withMessage("maxCharactersForPrinting must be >= 1, but was 0");
+  }
 }
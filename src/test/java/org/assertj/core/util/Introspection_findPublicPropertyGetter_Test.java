@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.introspection.Introspection.findPublicPropertyGetter;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+class Introspection_findPublicPropertyGetter_Test {
+
+  @Test
+  void should_return_public_getter_for_property() {
+    // WHEN
+    Method getter = findPublicPropertyGetter("age", Employee.class);
+    // THEN
+    assertThat(getter.getName()).isEqualTo("getAge");
+  }
+
+  @Test
+  void should_return_null_when_getter_is_missing() {
+    assertThat(findPublicPropertyGetter("salary", Employee.class)).isNull();
+  }
+
+  @Test
+  void should_return_null_when_getter_is_package_private() {
+    assertThat(findPublicPropertyGetter("company", Employee.class)).isNull();
+    assertThat(findPublicPropertyGetter("firstJob", Employee.class)).isNull();
+  }
+}
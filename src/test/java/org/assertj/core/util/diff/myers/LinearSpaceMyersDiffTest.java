@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenIllegalArgumentException;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersDiffTest {
+
+  @Test
+  void should_find_inserted_deleted_and_changed_elements() {
+    // GIVEN
+    List<String> original = list("a", "b", "c", "d", "e", "f");
+    List<String> revised = list("a", "x", "b", "c", "e", "y");
+    // WHEN
+    List<Delta<String>> deltas = new LinearSpaceMyersDiff<String>().diff(original, revised).getDeltas();
+    // THEN
+    then(deltas).containsExactly(new InsertDelta<>(new Chunk<>(1, emptyList()), new Chunk<>(1, list("x"))),
+                                 new DeleteDelta<>(new Chunk<>(3, list("d")), new Chunk<>(4, emptyList())),
+                                 new ChangeDelta<>(new Chunk<>(5, list("f")), new Chunk<>(5, list("y"))));
+  }
+
+  @Test
+  void should_find_no_delta_for_equal_sequences() {
+    // GIVEN
+    List<String> original = new LinkedList<>(list("a", "b"));
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(original, list("a", "b"));
+    // THEN
+    then(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  void should_find_as_many_differences_as_myers_diff() {
+    // GIVEN
+    Random random = new Random(0);
+    for (int i = 0; i < 1000; i++) {
+      List<Integer> original = randomList(random);
+      List<Integer> revised = randomList(random);
+      // WHEN
+      Patch<Integer> patch = new LinearSpaceMyersDiff<Integer>().diff(original, revised);
+      // THEN
+      then(patch.applyTo(original)).isEqualTo(revised);
+      then(changedElements(patch)).isEqualTo(changedElements(new MyersDiff<Integer>().diff(original, revised)));
+    }
+  }
+
+  @Test
+  void should_report_parts_differing_more_than_the_max_edit_distance_as_a_single_change() {
+    // GIVEN
+    List<String> original = list("a", "b", "c", "d", "e", "f", "g");
+    List<String> revised = list("a", "1", "c", "2", "e", "3", "g");
+    // WHEN
+    List<Delta<String>> deltas = new LinearSpaceMyersDiff<String>(4).diff(original, revised).getDeltas();
+    // THEN
+    then(deltas).containsExactly(new ChangeDelta<>(new Chunk<>(1, list("b", "c", "d", "e", "f")),
+                                                   new Chunk<>(1, list("1", "c", "2", "e", "3"))));
+  }
+
+  @Test
+  void should_diff_precisely_parts_within_the_max_edit_distance() {
+    // GIVEN
+    List<String> original = list("a", "b", "c", "d", "e", "f", "g");
+    List<String> revised = list("a", "1", "c", "2", "e", "3", "g");
+    // WHEN
+    List<Delta<String>> deltas = new LinearSpaceMyersDiff<String>(6).diff(original, revised).getDeltas();
+    // THEN
+    then(deltas).hasSize(3);
+  }
+
+  @Test
+  void should_diff_large_sequences_with_nothing_in_common() {
+    // GIVEN
+    List<String> original = new ArrayList<>();
+    List<String> revised = new ArrayList<>();
+    for (int i = 0; i < 200_000; i++) {
+      original.add("original" + i);
+      revised.add("revised" + i);
+    }
+    // WHEN
+    List<Delta<String>> deltas = new LinearSpaceMyersDiff<String>(1000).diff(original, revised).getDeltas();
+    // THEN
+    then(deltas).containsExactly(new ChangeDelta<>(new Chunk<>(0, original), new Chunk<>(0, revised)));
+  }
+
+  @Test
+  void should_fail_if_max_edit_distance_is_less_than_one() {
+    thenIllegalArgumentException().isThrownBy(() -> new LinearSpaceMyersDiff<>(0))
+                                  .withMessage("maxEditDistance must be >= 1, but was 0");
+  }
+
+  private static List<Integer> randomList(Random random) {
+    List<Integer> list = new ArrayList<>();
+    int size = random.nextInt(20);
+    for (int i = 0; i < size; i++) {
+      list.add(random.nextInt(4));
+    }
+    return list;
+  }
+
+  private static int changedElements(Patch<Integer> patch) {
+    return patch.getDeltas().stream().mapToInt(delta -> delta.getOriginal().size() + delta.getRevised().size()).sum();
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.introspection.Introspection.setExtractBareNamePropertyMethods;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link PropertyOrFieldAccessor}</code> through {@link PropertyOrFieldSupport#getSimpleValue(String, Object)}.
+ */
+class PropertyOrFieldAccessor_Test {
+
+  private final PropertyOrFieldSupport underTest = PropertyOrFieldSupport.EXTRACTION;
+
+  @AfterEach
+  void tearDown() {
+    setExtractBareNamePropertyMethods(true);
+  }
+
+  @Test
+  void should_read_value_with_public_getter_over_field() throws Throwable {
+    // GIVEN
+    Jedi jedi = new Jedi("Luke", 23);
+    // WHEN
+    PropertyOrFieldAccessor accessor = PropertyOrFieldAccessor.of(Jedi.class, "age");
+    // THEN
+    then(accessor.read(jedi)).isEqualTo(230);
+    then(underTest.getSimpleValue("age", jedi)).isEqualTo(230);
+  }
+
+  @Test
+  void should_resolve_accessor_once_per_class_and_name() {
+    then(PropertyOrFieldAccessor.of(Jedi.class, "name")).isSameAs(PropertyOrFieldAccessor.of(Jedi.class, "name"));
+  }
+
+  @Test
+  void should_read_field_value_when_getter_fails() {
+    // GIVEN
+    Jedi jedi = new Jedi("Luke", -1);
+    // WHEN
+    Object value = underTest.getSimpleValue("age", jedi);
+    // THEN
+    then(value).isEqualTo(-1);
+  }
+
+  @Test
+  void should_read_private_and_static_fields() {
+    // GIVEN
+    Jedi jedi = new Jedi("Luke", 23);
+    // WHEN/THEN
+    then(underTest.getSimpleValue("name", jedi)).isEqualTo("Luke");
+    then(underTest.getSimpleValue("ORDER", jedi)).isEqualTo("Jedi");
+  }
+
+  @Test
+  void should_fail_to_read_private_field_when_only_public_fields_can_be_read() {
+    // GIVEN
+    Jedi jedi = new Jedi("Luke", 23);
+    PropertyOrFieldSupport publicFieldsOnly = new PropertyOrFieldSupport(new PropertySupport(),
+                                                                         FieldSupport.EXTRACTION_OF_PUBLIC_FIELD_ONLY);
+    underTest.getSimpleValue("name", jedi); // resolve the accessor with private fields allowed
+    // WHEN
+    Throwable throwable = catchThrowable(() -> publicFieldsOnly.getSimpleValue("name", jedi));
+    // THEN
+    then(throwable).isInstanceOf(IntrospectionError.class);
+  }
+
+  @Test
+  void should_report_absent_property_and_field() {
+    // GIVEN
+    Jedi jedi = new Jedi("Luke", 23);
+    // WHEN
+    Throwable throwable = catchThrowable(() -> underTest.getSimpleValue("unknown", jedi));
+    // THEN
+    then(PropertyOrFieldAccessor.of(Jedi.class, "unknown").isAbsent()).isTrue();
+    then(throwable).isInstanceOf(IntrospectionError.class)
+                   .hasMessageContaining("Can't find any field or property with name 'unknown'");
+  }
+
+  @Test
+  void should_read_map_value_when_key_is_neither_a_property_nor_a_field() {
+    // GIVEN
+    Map<String, String> map = new HashMap<>();
+    map.put("key", "value");
+    // WHEN
+    Object value = underTest.getSimpleValue("key", map);
+    // THEN
+    then(PropertyOrFieldAccessor.of(HashMap.class, "key").isAbsent()).isTrue();
+    then(value).isEqualTo("value");
+  }
+
+  @Test
+  void should_resolve_accessor_again_when_bare_name_property_setting_changes() {
+    // GIVEN
+    Jedi jedi = new Jedi("Luke", 23);
+    then(underTest.getSimpleValue("rank", jedi)).isEqualTo("master");
+    // WHEN
+    setExtractBareNamePropertyMethods(false);
+    // THEN
+    then(underTest.getSimpleValue("rank", jedi)).isEqualTo("padawan");
+  }
+
+  @SuppressWarnings("unused")
+  private static class Jedi {
+    private static final String ORDER = "Jedi";
+    private final String name;
+    private final int age;
+    private final String rank = "padawan";
+
+    Jedi(String name, int age) {
+      this.name = name;
+      this.age = age;
+    }
+
+    public int getAge() {
+      if (age < 0) throw new IllegalStateException("negative age");
+      return age * 10;
+    }
+
+    public String rank() {
+      return "master";
+    }
+  }
+}
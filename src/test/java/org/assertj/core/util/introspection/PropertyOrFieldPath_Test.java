@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link PropertyOrFieldPath}</code>.
+ */
+class PropertyOrFieldPath_Test {
+
+  private final PropertyOrFieldSupport propertyOrFieldSupport = PropertyOrFieldSupport.EXTRACTION;
+
+  @Test
+  void should_split_nested_name_once() {
+    then(PropertyOrFieldPath.of("a.b.c").names()).containsExactly("a", "b", "c");
+    then(PropertyOrFieldPath.of("a.b.c")).isSameAs(PropertyOrFieldPath.of("a.b.c"));
+  }
+
+  @Test
+  void should_keep_a_bounded_number_of_paths() {
+    // GIVEN
+    PropertyOrFieldPath path = PropertyOrFieldPath.of("first.path");
+    // WHEN
+    for (int i = 0; i < PropertyOrFieldPath.MAX_CACHED_PATHS; i++) {
+      PropertyOrFieldPath.of("other.path" + i);
+    }
+    // THEN
+    then(PropertyOrFieldPath.of("first.path")).isNotSameAs(path);
+  }
+
+  @Test
+  void should_split_names_like_nested_names_were_popped() {
+    then(PropertyOrFieldPath.of("name").names()).containsExactly("name");
+    then(PropertyOrFieldPath.of("a..b").names()).containsExactly("a", ".b");
+    then(PropertyOrFieldPath.of(".a.b").names()).containsExactly(".a.b");
+    then(PropertyOrFieldPath.of("a.b.").names()).containsExactly("a.b.");
+  }
+
+  @Test
+  void should_return_null_when_an_intermediate_value_is_null() {
+    // GIVEN
+    Node node = new Node("root", new Node("child", null));
+    // WHEN
+    Object value = PropertyOrFieldPath.of("next.next.name").valueOf(node, propertyOrFieldSupport);
+    // THEN
+    then(value).isNull();
+  }
+
+  @Test
+  void should_read_path_from_elements_of_different_types() {
+    // GIVEN
+    PropertyOrFieldPath path = PropertyOrFieldPath.of("next.name");
+    Node node = new Node("root", new Node("child", null));
+    Node nodeWithSpecialChild = new Node("root", new SpecialNode("special child"));
+    // WHEN/THEN
+    then(path.valueOf(node, propertyOrFieldSupport)).isEqualTo("child");
+    then(path.valueOf(nodeWithSpecialChild, propertyOrFieldSupport)).isEqualTo("SPECIAL CHILD");
+    then(path.valueOf(node, propertyOrFieldSupport)).isEqualTo("child");
+  }
+
+  @SuppressWarnings("unused")
+  private static class Node {
+    final String name;
+    final Node next;
+
+    Node(String name, Node next) {
+      this.name = name;
+      this.next = next;
+    }
+  }
+
+  private static class SpecialNode extends Node {
+
+    SpecialNode(String name) {
+      super(name, null);
+    }
+
+    public String getName() {
+      return name.toUpperCase();
+    }
+  }
+}
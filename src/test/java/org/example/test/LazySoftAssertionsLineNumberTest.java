@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.example.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.internal.LazyAssertionError;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This test has to be in a package other than org.assertj because otherwise the
+ * line number information will be removed by the assertj filtering of internal lines.
+ * {@link org.assertj.core.util.Throwables#removeAssertJRelatedElementsFromStackTrace}
+ */
+class LazySoftAssertionsLineNumberTest {
+
+  private final CountingRepresentation representation = new CountingRepresentation();
+  private SoftAssertions softly;
+
+  @BeforeEach
+  void setUp() {
+    Assertions.setLazySoftAssertionErrorMessages(true);
+    softly = new SoftAssertions();
+  }
+
+  @AfterEach
+  void tearDown() {
+    Assertions.setLazySoftAssertionErrorMessages(false);
+  }
+
+  @Test
+  void should_not_build_error_messages_when_only_counting_errors_collected() {
+    // GIVEN
+    softly.assertThat(-1).withRepresentation(representation).isPositive();
+    softly.assertThat(-2).withRepresentation(representation).isPositive();
+    // WHEN
+    int errorsCount = softly.errorsCollected().size();
+    // THEN
+    then(errorsCount).isEqualTo(2);
+    then(representation.toStringOfCount).isZero();
+  }
+
+  @Test
+  void should_build_error_message_with_line_number_when_requested() {
+    // GIVEN
+    softly.assertThat(-1).withRepresentation(representation).isPositive();
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    // WHEN
+    String message = errorsCollected.get(0).getMessage();
+    // THEN
+    then(errorsCollected.get(0)).isInstanceOf(LazyAssertionError.class);
+    then(message).contains("-1")
+                 .contains("at LazySoftAssertionsLineNumberTest.should_build_error_message_with_line_number_when_requested");
+    then(representation.toStringOfCount).isPositive();
+  }
+
+  private static class CountingRepresentation extends StandardRepresentation {
+
+    private int toStringOfCount;
+
+    @Override
+    public String toStringOf(Object object) {
+      toStringOfCount++;
+      return super.toStringOf(object);
+    }
+  }
+}